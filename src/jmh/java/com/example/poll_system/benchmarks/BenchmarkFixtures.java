@@ -0,0 +1,53 @@
+package com.example.poll_system.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.factories.PollFactory;
+import com.example.poll_system.domain.value_objects.Cpf;
+import com.example.poll_system.domain.value_objects.Email;
+import com.example.poll_system.infrastructure.persistence.PollOptionRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.UserRepositoryInMemory;
+
+/**
+ * Dados comuns aos benchmarks: um eleitor e uma enquete aberta com
+ * {@code optionCount} opções, gravados nos repositórios em memória.
+ */
+final class BenchmarkFixtures {
+
+    static final String VOTER_ID = "voter-1";
+    static final String POLL_ID = "poll-1";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User voter() {
+        return User.createVoter(VOTER_ID, "Jane Doe", new Cpf("05938337089"), new Email("jane.doe@email.com"),
+                "QAZ123qaz*", "fake_url");
+    }
+
+    static Poll openPoll(int optionCount) {
+        List<PollOption> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new PollOption(optionId(i), "Option " + i, POLL_ID));
+        }
+        return PollFactory.create(POLL_ID, "Benchmark Poll", "Benchmark Description", "1", null,
+                LocalDateTime.now().plusDays(1), options);
+    }
+
+    static String optionId(int index) {
+        return "option-" + index;
+    }
+
+    static void seed(UserRepositoryInMemory userRepository, PollRepositoryInMemory pollRepository,
+            PollOptionRepositoryInMemory pollOptionRepository, Poll poll) {
+        userRepository.save(voter());
+        pollRepository.save(poll);
+        pollOptionRepository.saveAll(poll.getOptions());
+    }
+}
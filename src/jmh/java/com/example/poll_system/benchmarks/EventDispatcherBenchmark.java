@@ -0,0 +1,58 @@
+package com.example.poll_system.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.poll_system.domain.entities.events.PollClosedEvent;
+import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.infrastructure.services.impl.EventDispatcher;
+
+/**
+ * Custo de despacho do {@link EventDispatcher} com os três tipos de evento
+ * registrados e handlers que apenas consomem o evento.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventDispatcherBenchmark {
+
+    private EventDispatcher eventDispatcher;
+    private VoteCreatedEvent voteCreatedEvent;
+    private VoteProcessedEvent voteProcessedEvent;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        eventDispatcher = new EventDispatcher();
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, blackhole::consume);
+        eventDispatcher.registerHandler(VoteProcessedEvent.class, blackhole::consume);
+        eventDispatcher.registerHandler(PollClosedEvent.class, blackhole::consume);
+        voteCreatedEvent = new VoteCreatedEvent("user-1", "option-1", "benchmark-key");
+        voteProcessedEvent = new VoteProcessedEvent("user-1", "jane.doe@email.com", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public void publishVoteCreated() {
+        eventDispatcher.publish(voteCreatedEvent);
+    }
+
+    @Benchmark
+    public void publishVoteProcessed() {
+        eventDispatcher.publish(voteProcessedEvent);
+    }
+}
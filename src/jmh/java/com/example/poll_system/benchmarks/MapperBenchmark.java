@@ -0,0 +1,77 @@
+package com.example.poll_system.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.factories.VoteFactory;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntity;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.VoteEntity;
+import com.example.poll_system.infrastructure.persistence.jpa.mappers.PollMapper;
+import com.example.poll_system.infrastructure.persistence.jpa.mappers.PollOptionMapper;
+import com.example.poll_system.infrastructure.persistence.jpa.mappers.VoteMapper;
+
+/**
+ * Conversões domínio/entidade de {@link VoteMapper} e {@link PollMapper}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({ "4", "32" })
+    private int optionCount;
+
+    private VoteMapper voteMapper;
+    private PollMapper pollMapper;
+    private Vote vote;
+    private VoteEntity voteEntity;
+    private Poll poll;
+    private PollEntity pollEntity;
+
+    @Setup
+    public void setUp() {
+        voteMapper = new VoteMapper();
+        pollMapper = new PollMapper();
+        pollMapper.setPollOptionMapper(new PollOptionMapper());
+        vote = VoteFactory.create("user-1", BenchmarkFixtures.optionId(0), BenchmarkFixtures.POLL_ID);
+        voteEntity = voteMapper.toEntity(vote);
+        poll = BenchmarkFixtures.openPoll(optionCount);
+        pollEntity = pollMapper.toEntity(poll);
+    }
+
+    @Benchmark
+    public VoteEntity voteToEntity() {
+        return voteMapper.toEntity(vote);
+    }
+
+    @Benchmark
+    public Vote voteToDomain() {
+        return voteMapper.toDomain(voteEntity);
+    }
+
+    @Benchmark
+    public PollEntity pollToEntity() {
+        return pollMapper.toEntity(poll);
+    }
+
+    @Benchmark
+    public Poll pollToDomain() {
+        return pollMapper.toDomain(pollEntity);
+    }
+}
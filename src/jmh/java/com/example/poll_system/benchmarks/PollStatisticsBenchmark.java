@@ -0,0 +1,115 @@
+package com.example.poll_system.benchmarks;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.poll_system.application.usecases.poll.dto.PollStatisticsInput;
+import com.example.poll_system.application.usecases.poll.dto.PollStatisticsOutput;
+import com.example.poll_system.application.usecases.poll.impl.PollStatisticsImpl;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.factories.VoteFactory;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
+import com.example.poll_system.infrastructure.persistence.PollOptionRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollResultRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.UserRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteCountRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteRepositoryInMemory;
+import com.example.poll_system.infrastructure.services.impl.InMemoryVoteTallyGateway;
+
+/**
+ * {@link PollStatisticsImpl#getPollStatistics} servido pelo placar
+ * ({@code tallyHit}), pelos contadores quando o placar não existe
+ * ({@code countersFallback}) e pelo resultado gravado no fechamento
+ * ({@code closedSnapshot}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PollStatisticsBenchmark {
+
+    @Param({ "4", "32" })
+    private int optionCount;
+
+    @Param({ "1000" })
+    private int votesPerOption;
+
+    private PollStatisticsImpl tallyHit;
+    private PollStatisticsImpl countersFallback;
+    private PollStatisticsImpl closedSnapshot;
+    private PollStatisticsInput input;
+
+    @Setup
+    public void setUp() {
+        UserRepositoryInMemory userRepository = new UserRepositoryInMemory();
+        PollRepositoryInMemory pollRepository = new PollRepositoryInMemory();
+        PollOptionRepositoryInMemory pollOptionRepository = new PollOptionRepositoryInMemory();
+        Poll poll = BenchmarkFixtures.openPoll(optionCount);
+        BenchmarkFixtures.seed(userRepository, pollRepository, pollOptionRepository, poll);
+
+        VoteCountRepositoryInMemory voteCountRepository = new VoteCountRepositoryInMemory(new VoteRepositoryInMemory());
+        for (int option = 0; option < optionCount; option++) {
+            for (int i = 0; i < votesPerOption; i++) {
+                Vote vote = VoteFactory.create("user-" + i, BenchmarkFixtures.optionId(option), poll.getId());
+                voteCountRepository.increment(vote);
+            }
+        }
+
+        PollResultRepositoryInMemory emptyResults = new PollResultRepositoryInMemory();
+        PollResultRepositoryInMemory closedResults = new PollResultRepositoryInMemory();
+        closedResults.save(PollResult.of(poll, voteCountRepository.findCountsByPollId(poll.getId())));
+
+        tallyHit = new PollStatisticsImpl(pollRepository, voteCountRepository, new InMemoryVoteTallyGateway(),
+                emptyResults);
+        countersFallback = new PollStatisticsImpl(pollRepository, voteCountRepository, new EmptyVoteTallyGateway(),
+                emptyResults);
+        closedSnapshot = new PollStatisticsImpl(pollRepository, voteCountRepository, new EmptyVoteTallyGateway(),
+                closedResults);
+        input = new PollStatisticsInput(poll.getId());
+        tallyHit.getPollStatistics(input);
+    }
+
+    @Benchmark
+    public PollStatisticsOutput tallyHit() {
+        return tallyHit.getPollStatistics(input);
+    }
+
+    @Benchmark
+    public PollStatisticsOutput countersFallback() {
+        return countersFallback.getPollStatistics(input);
+    }
+
+    @Benchmark
+    public PollStatisticsOutput closedSnapshot() {
+        return closedSnapshot.getPollStatistics(input);
+    }
+
+    /** Placar que nunca guarda nada, forçando a leitura dos contadores. */
+    private static final class EmptyVoteTallyGateway extends InMemoryVoteTallyGateway {
+        @Override
+        public Optional<Map<String, Long>> findByPollId(String pollId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void populate(String pollId, Map<String, Long> voteCountsByOptionId) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.poll_system.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.poll_system.application.usecases.vote.dto.CreateVoteInput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteOutput;
+import com.example.poll_system.application.usecases.vote.impl.ProcessVoteImpl;
+import com.example.poll_system.application.usecases.vote.impl.SendVoteToQueue;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.infrastructure.persistence.PollOptionRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollResultRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.UserRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteAdmissionGatewayInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteCountRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteRepositoryInMemory;
+import com.example.poll_system.infrastructure.services.impl.EventDispatcher;
+import com.example.poll_system.infrastructure.services.impl.InMemoryVoteTallyGateway;
+
+/**
+ * Caminho do voto com os repositórios em memória: admissão e envio para a fila
+ * ({@link SendVoteToQueue}) e processamento do voto consumido
+ * ({@link ProcessVoteImpl}).
+ *
+ * {@code processNewVote} usa um repositório de votos que aceita todo insert sem
+ * guardar, para medir o custo por voto novo sem a lista crescer durante a
+ * medição; {@code processDuplicateVote} mede o caminho de reentrega.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VoteHotPathBenchmark {
+
+    @Param({ "4", "32" })
+    private int optionCount;
+
+    private SendVoteToQueue sendVoteToQueue;
+    private ProcessVoteImpl processNewVote;
+    private ProcessVoteImpl processDuplicateVote;
+    private CreateVoteInput createVoteInput;
+    private ProcessVoteInput processVoteInput;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        UserRepositoryInMemory userRepository = new UserRepositoryInMemory();
+        PollRepositoryInMemory pollRepository = new PollRepositoryInMemory();
+        PollOptionRepositoryInMemory pollOptionRepository = new PollOptionRepositoryInMemory();
+        Poll poll = BenchmarkFixtures.openPoll(optionCount);
+        BenchmarkFixtures.seed(userRepository, pollRepository, pollOptionRepository, poll);
+
+        EventDispatcher eventDispatcher = new EventDispatcher();
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, blackhole::consume);
+        eventDispatcher.registerHandler(VoteProcessedEvent.class, blackhole::consume);
+
+        sendVoteToQueue = new SendVoteToQueue(
+                new VoteAdmissionGatewayInMemory(userRepository, pollOptionRepository, pollRepository),
+                eventDispatcher);
+
+        VoteRepositoryInMemory acceptingVoteRepository = new VoteRepositoryInMemory() {
+            @Override
+            public boolean saveIfAbsent(Vote vote) {
+                return true;
+            }
+        };
+        InMemoryVoteTallyGateway voteTallyGateway = new InMemoryVoteTallyGateway();
+        voteTallyGateway.populate(poll.getId(), Map.of());
+        processNewVote = new ProcessVoteImpl(acceptingVoteRepository, userRepository, pollOptionRepository,
+                new VoteCountRepositoryInMemory(acceptingVoteRepository), new PollResultRepositoryInMemory(),
+                voteTallyGateway, eventDispatcher);
+
+        String lastOptionId = BenchmarkFixtures.optionId(optionCount - 1);
+        VoteRepositoryInMemory voteRepository = new VoteRepositoryInMemory();
+        processDuplicateVote = new ProcessVoteImpl(voteRepository, userRepository, pollOptionRepository,
+                new VoteCountRepositoryInMemory(voteRepository), new PollResultRepositoryInMemory(),
+                new InMemoryVoteTallyGateway(), eventDispatcher);
+        processVoteInput = new ProcessVoteInput(BenchmarkFixtures.VOTER_ID, lastOptionId, "benchmark-key");
+        processDuplicateVote.execute(processVoteInput);
+
+        createVoteInput = new CreateVoteInput(BenchmarkFixtures.VOTER_ID, lastOptionId, "benchmark-key");
+    }
+
+    @Benchmark
+    public void sendVoteToQueue() {
+        sendVoteToQueue.execute(createVoteInput);
+    }
+
+    @Benchmark
+    public ProcessVoteOutput processNewVote() {
+        return processNewVote.execute(processVoteInput);
+    }
+
+    @Benchmark
+    public ProcessVoteOutput processDuplicateVote() {
+        return processDuplicateVote.execute(processVoteInput);
+    }
+}
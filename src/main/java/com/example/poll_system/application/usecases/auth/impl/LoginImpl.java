@@ -40,6 +40,7 @@ public class LoginImpl implements Login {
         User user = findUserByEmail(input.email());
         validateUserCredentials(user, input.password());
         validateUserIsActive(user);
+        rehashPasswordIfNeeded(user, input.password());
 
         String accessToken = jwtTokenGateway.generateToken(user);
         Long expiresIn = jwtTokenGateway.getExpirationTime();
@@ -77,6 +78,25 @@ public class LoginImpl implements Login {
         }
     }
 
+    /**
+     * Regrava o hash quando o custo configurado é maior que o do hash salvo,
+     * aproveitando a senha em claro do login. Hashes com custo maior que o
+     * configurado são mantidos. Uma falha aqui não impede o login; a troca é tentada de
+     * novo no próximo.
+     */
+    private void rehashPasswordIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.changePassword(passwordEncoder.encode(rawPassword));
+            userRepository.update(user);
+            sendInfoLogMessagePasswordRehashed(user);
+        } catch (RuntimeException e) {
+            sendWarningLogMessagePasswordRehashFailed(user, e);
+        }
+    }
+
     private void sendWarningLogMessageUserNotFound(String email) {
         logger.warn("Login attempt failed - user not found for email: {}", email);
     }
@@ -89,6 +109,14 @@ public class LoginImpl implements Login {
         logger.warn("Login attempt failed - inactive user account for email: {}", email);
     }
 
+    private void sendInfoLogMessagePasswordRehashed(User user) {
+        logger.info("Password hash upgraded on login - userId: {}", user.getId());
+    }
+
+    private void sendWarningLogMessagePasswordRehashFailed(User user, RuntimeException e) {
+        logger.warn("Could not upgrade password hash on login - userId: {}: {}", user.getId(), e.getMessage());
+    }
+
     private void sendInfoLogMenssageUserLogin(User user) {
         logger.info("User login successfully - userId: {}, email: {}, role: {}",
                 user.getId(), user.getEmail().getEmail(), user.getRole().name());
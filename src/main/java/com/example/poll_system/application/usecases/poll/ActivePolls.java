@@ -0,0 +1,8 @@
+package com.example.poll_system.application.usecases.poll;
+
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput;
+
+public interface ActivePolls {
+    ActivePollsOutput execute(ActivePollsInput input);
+}
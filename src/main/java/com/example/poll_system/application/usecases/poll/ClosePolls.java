@@ -0,0 +1,8 @@
+package com.example.poll_system.application.usecases.poll;
+
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsOutput;
+
+public interface ClosePolls {
+    ClosePollsOutput execute(ClosePollsInput input);
+}
@@ -0,0 +1,8 @@
+package com.example.poll_system.application.usecases.poll;
+
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsInput;
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsOutput;
+
+public interface RebuildPollVoteCounts {
+    RebuildPollVoteCountsOutput execute(RebuildPollVoteCountsInput input);
+}
@@ -0,0 +1,14 @@
+package com.example.poll_system.application.usecases.poll.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** Só as enquetes que estavam agendadas e foram abertas nesta chamada. */
+public record ActivePollsOutput(
+        List<ActivatedPoll> activatedPolls) {
+
+    public record ActivatedPoll(
+            String pollId,
+            LocalDateTime endDate) {
+    }
+}
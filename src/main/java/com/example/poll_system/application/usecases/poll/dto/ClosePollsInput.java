@@ -0,0 +1,8 @@
+package com.example.poll_system.application.usecases.poll.dto;
+
+import java.util.List;
+
+public record ClosePollsInput(
+        List<String> pollIds) {
+
+}
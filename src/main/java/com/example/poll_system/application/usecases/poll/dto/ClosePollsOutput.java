@@ -0,0 +1,9 @@
+package com.example.poll_system.application.usecases.poll.dto;
+
+import java.util.List;
+
+/** Só as enquetes que estavam abertas e foram fechadas nesta chamada. */
+public record ClosePollsOutput(
+        List<String> closedPollIds) {
+
+}
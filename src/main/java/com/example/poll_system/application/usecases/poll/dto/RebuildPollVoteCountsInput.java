@@ -0,0 +1,6 @@
+package com.example.poll_system.application.usecases.poll.dto;
+
+public record RebuildPollVoteCountsInput(
+        String pollId) {
+
+}
@@ -0,0 +1,10 @@
+package com.example.poll_system.application.usecases.poll.dto;
+
+import java.util.Map;
+
+public record RebuildPollVoteCountsOutput(
+        String pollId,
+        long totalVotes,
+        Map<String, Long> voteCountsByOptionId) {
+
+}
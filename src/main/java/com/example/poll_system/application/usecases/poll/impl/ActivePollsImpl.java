@@ -0,0 +1,47 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.application.usecases.poll.ActivePolls;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput.ActivatedPoll;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+
+/**
+ * Abre em lote as enquetes agendadas com um único UPDATE. IDs de enquetes que
+ * não estão mais agendadas são ignorados.
+ */
+@Service
+public class ActivePollsImpl implements ActivePolls {
+
+    private final PollRepository pollRepository;
+
+    public ActivePollsImpl(PollRepository pollRepository) {
+        this.pollRepository = pollRepository;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ActivePollsImpl.class);
+
+    @Override
+    @Transactional
+    public ActivePollsOutput execute(ActivePollsInput input) {
+        List<PollDeadline> opened = pollRepository.openAllScheduled(input.pollIds(), LocalDateTime.now());
+        sendInfoLogMessagePollsActivated(input.pollIds().size(), opened.size());
+        return new ActivePollsOutput(opened.stream()
+                .map(deadline -> new ActivatedPoll(deadline.pollId(), deadline.dueAt()))
+                .toList());
+    }
+
+    private void sendInfoLogMessagePollsActivated(int requested, int activated) {
+        logger.info("Polls activated in bulk - Requested: {}, Activated: {}", requested, activated);
+    }
+
+}
@@ -1,8 +1,12 @@
 package com.example.poll_system.application.usecases.poll.impl;
 
+import java.util.List;
+import java.util.Map;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.poll_system.application.usecases.poll.ClosePoll;
 import com.example.poll_system.application.usecases.poll.dto.ClosePollInput;
@@ -13,7 +17,10 @@ import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.entities.events.PollClosedEvent;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 @Service
@@ -25,23 +32,31 @@ public class ClosePollImpl implements ClosePoll {
     private final PollRepository pollRepository;
     private final UserRepository userRepository;
     private final EventPublisher eventPublisher;
+    private final VoteCountRepository voteCountRepository;
+    private final PollResultRepository pollResultRepository;
 
     public ClosePollImpl(
             PollRepository pollRepository,
             UserRepository userRepository,
-            EventPublisher eventPublisher) {
+            EventPublisher eventPublisher,
+            VoteCountRepository voteCountRepository,
+            PollResultRepository pollResultRepository) {
         this.pollRepository = pollRepository;
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
+        this.voteCountRepository = voteCountRepository;
+        this.pollResultRepository = pollResultRepository;
     }
 
     private final Logger logger = LoggerFactory.getLogger(ClosePollImpl.class);
 
     @Override
+    @Transactional
     public ClosePollOutput execute(ClosePollInput input) {
         Poll pollToClose = findPollById(input.pollId());
         pollToClose.close();
         pollRepository.update(pollToClose);
+        savePollResult(pollToClose);
         User owner = findOwnerById(pollToClose.getOwnerId());
         publishPollClosedEvent(pollToClose, owner);
         sendInfoMessagePollClosed(pollToClose);
@@ -64,6 +79,18 @@ public class ClosePollImpl implements ClosePoll {
                 });
     }
 
+    /**
+     * Grava o resultado final junto com o fechamento; estatísticas e o email
+     * de fechamento passam a ler deste snapshot. Os contadores ficam travados
+     * até o commit, então votos ainda na fila são somados ao snapshot pelo
+     * processamento em vez de se perderem.
+     */
+    private void savePollResult(Poll poll) {
+        Map<String, Long> voteCounts = voteCountRepository.lockCountsByPollIds(List.of(poll.getId()))
+                .getOrDefault(poll.getId(), Map.of());
+        pollResultRepository.save(PollResult.of(poll, voteCounts));
+    }
+
     private void sendWarningLogMessagePollNotFound(String pollId) {
         logger.warn("Poll closing failed - Poll not found: {}", pollId);
     }
@@ -0,0 +1,123 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.application.usecases.poll.ClosePolls;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsOutput;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.PollClosedEvent;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.infrastructure.services.EventPublisher;
+
+/**
+ * Fecha em lote as enquetes abertas. O número de consultas não depende do
+ * tamanho do lote: um UPDATE com RETURNING para fechar, uma consulta para as
+ * enquetes com opções, uma para os donos e duas para criar e travar os
+ * contadores; os resultados e os eventos são gravados em lote.
+ *
+ * Diferente do {@link ClosePollImpl}, um dono não encontrado não impede o
+ * fechamento: a enquete fecha no prazo e apenas o email de fechamento não é
+ * enviado.
+ */
+@Service
+public class ClosePollsImpl implements ClosePolls {
+
+    private final PollRepository pollRepository;
+    private final UserRepository userRepository;
+    private final EventPublisher eventPublisher;
+    private final VoteCountRepository voteCountRepository;
+    private final PollResultRepository pollResultRepository;
+
+    public ClosePollsImpl(
+            PollRepository pollRepository,
+            UserRepository userRepository,
+            EventPublisher eventPublisher,
+            VoteCountRepository voteCountRepository,
+            PollResultRepository pollResultRepository) {
+        this.pollRepository = pollRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.voteCountRepository = voteCountRepository;
+        this.pollResultRepository = pollResultRepository;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ClosePollsImpl.class);
+
+    @Override
+    @Transactional
+    public ClosePollsOutput execute(ClosePollsInput input) {
+        List<String> closedPollIds = pollRepository.closeAllOpen(input.pollIds(), LocalDateTime.now());
+        if (closedPollIds.isEmpty()) {
+            return new ClosePollsOutput(List.of());
+        }
+        List<Poll> closedPolls = pollRepository.findAllByIds(closedPollIds);
+        savePollResults(closedPolls);
+        publishPollClosedEvents(closedPolls);
+        sendInfoLogMessagePollsClosed(input.pollIds().size(), closedPollIds.size());
+        return new ClosePollsOutput(closedPollIds);
+    }
+
+    /**
+     * Como no {@link ClosePollImpl}, os contadores ficam travados até o commit
+     * para que votos processados depois do fechamento sejam somados ao
+     * resultado gravado em vez de se perderem.
+     */
+    private void savePollResults(List<Poll> polls) {
+        Map<String, Map<String, Long>> voteCountsByPollId = voteCountRepository.lockCountsByPollIds(
+                polls.stream().map(Poll::getId).toList());
+        pollResultRepository.saveAll(polls.stream()
+                .map(poll -> PollResult.of(poll, voteCountsByPollId.getOrDefault(poll.getId(), Map.of())))
+                .toList());
+    }
+
+    private void publishPollClosedEvents(List<Poll> polls) {
+        Map<String, User> ownersById = userRepository.findAllByIds(polls.stream()
+                .map(Poll::getOwnerId)
+                .distinct()
+                .toList())
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        List<PollClosedEvent> events = new ArrayList<>(polls.size());
+        for (Poll poll : polls) {
+            User owner = ownersById.get(poll.getOwnerId());
+            if (owner == null) {
+                sendWarningLogMessagePollOwnerNotFound(poll);
+                continue;
+            }
+            events.add(new PollClosedEvent(
+                    poll.getId(),
+                    poll.getOwnerId(),
+                    owner.getEmail().getEmail(),
+                    poll.getTitle(),
+                    poll.getDescription(),
+                    poll.getEndDate()));
+        }
+        eventPublisher.publishAll(events);
+    }
+
+    private void sendWarningLogMessagePollOwnerNotFound(Poll poll) {
+        logger.warn("Poll closed without notification - Poll owner not found: pollId={}, ownerId={}",
+                poll.getId(), poll.getOwnerId());
+    }
+
+    private void sendInfoLogMessagePollsClosed(int requested, int closed) {
+        logger.info("Polls closed in bulk - Requested: {}, Closed: {}", requested, closed);
+    }
+
+}
@@ -15,12 +15,14 @@ import com.example.poll_system.application.usecases.poll.dto.PollOptionOutput;
 import com.example.poll_system.domain.entities.Poll;
 import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.PollCreatedEvent;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.factories.PollFactory;
 import com.example.poll_system.domain.factories.PollOptionFactory;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
 import com.example.poll_system.domain.gateways.PollRepository;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 
 @Service
 public class CreatePollImpl implements CreatePoll {
@@ -28,12 +30,14 @@ public class CreatePollImpl implements CreatePoll {
     private final PollRepository pollRepository;
     private final PollOptionRepository pollOptionRepository;
     private final UserRepository userRepository;
+    private final EventPublisher eventPublisher;
 
     public CreatePollImpl(PollRepository pollRepository, PollOptionRepository pollOptionRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository, EventPublisher eventPublisher) {
         this.pollRepository = pollRepository;
         this.pollOptionRepository = pollOptionRepository;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     private final Logger logger = LoggerFactory.getLogger(CreatePollImpl.class);
@@ -56,6 +60,11 @@ public class CreatePollImpl implements CreatePoll {
                 pollOptions);
         pollRepository.save(poll);
         pollOptionRepository.saveAll(pollOptions);
+        eventPublisher.publish(new PollCreatedEvent(
+                poll.getId(),
+                poll.getStatus(),
+                poll.getStartDate(),
+                poll.getEndDate()));
         sendInfoLogMessagePollCreated(poll);
         return toOutput(poll);
     }
@@ -1,7 +1,9 @@
 package com.example.poll_system.application.usecases.poll.impl;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -13,24 +15,40 @@ import com.example.poll_system.application.usecases.poll.dto.PollStatisticsOutpu
 import com.example.poll_system.domain.entities.Poll;
 import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
+import com.example.poll_system.domain.enums.PollStatus;
 import com.example.poll_system.domain.gateways.PollRepository;
-import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
 
 @Service
 public class PollStatisticsImpl implements PollStatistics {
 
     private final PollRepository pollRepository;
-    private final VoteRepository voteRepository;
+    private final VoteCountRepository voteCountRepository;
+    private final VoteTallyGateway voteTallyGateway;
+    private final PollResultRepository pollResultRepository;
 
-    public PollStatisticsImpl(PollRepository pollRepository, VoteRepository voteRepository) {
+    public PollStatisticsImpl(
+            PollRepository pollRepository,
+            VoteCountRepository voteCountRepository,
+            VoteTallyGateway voteTallyGateway,
+            PollResultRepository pollResultRepository) {
         this.pollRepository = pollRepository;
-        this.voteRepository = voteRepository;
+        this.voteCountRepository = voteCountRepository;
+        this.voteTallyGateway = voteTallyGateway;
+        this.pollResultRepository = pollResultRepository;
     }
 
     @Override
     public PollStatisticsOutput getPollStatistics(PollStatisticsInput input) {
+        Optional<PollResult> pollResult = pollResultRepository.findByPollId(input.pollId());
+        if (pollResult.isPresent()) {
+            return toOutput(pollResult.get());
+        }
         Poll poll = findPollById(input.pollId());
-        Map<String, Long> voteCountsByOptionId = getVoteCountsByOptionId(input.pollId());
+        Map<String, Long> voteCountsByOptionId = getVoteCountsByOptionId(input.pollId(), poll);
         List<PollOptionStatistics> optionStatistics = buildOptionStatistics(poll, voteCountsByOptionId);
         long totalVotes = calculateTotalVotes(voteCountsByOptionId);
         return toOutput(poll, totalVotes, optionStatistics);
@@ -41,8 +59,22 @@ public class PollStatisticsImpl implements PollStatistics {
                 .orElseThrow(() -> new EntityNotFoundException("Poll not found with ID: " + pollId));
     }
 
-    private Map<String, Long> getVoteCountsByOptionId(String pollId) {
-        return voteRepository.countVotesByPollIdGroupedByOptionId(pollId);
+    private Map<String, Long> getVoteCountsByOptionId(String pollId, Poll poll) {
+        Optional<Map<String, Long>> tally = voteTallyGateway.findByPollId(pollId);
+        if (tally.isPresent()) {
+            return tally.get();
+        }
+        Map<String, Long> voteCounts = voteCountRepository.findCountsByPollId(pollId);
+        voteTallyGateway.populate(pollId, withAllOptions(poll, voteCounts));
+        return voteCounts;
+    }
+
+    private Map<String, Long> withAllOptions(Poll poll, Map<String, Long> voteCountsByOptionId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (PollOption option : poll.getOptions()) {
+            counts.put(option.getId(), voteCountsByOptionId.getOrDefault(option.getId(), 0L));
+        }
+        return counts;
     }
 
     private List<PollOptionStatistics> buildOptionStatistics(Poll poll, Map<String, Long> voteCountsByOptionId) {
@@ -74,4 +106,18 @@ public class PollStatisticsImpl implements PollStatistics {
                 optionStatistics);
     }
 
+    private PollStatisticsOutput toOutput(PollResult pollResult) {
+        return new PollStatisticsOutput(
+                pollResult.pollId(),
+                pollResult.pollTitle(),
+                PollStatus.CLOSED.name(),
+                pollResult.totalVotes(),
+                pollResult.options().stream()
+                        .map(option -> new PollOptionStatistics(
+                                option.pollOptionId(),
+                                option.description(),
+                                option.votesCount()))
+                        .toList());
+    }
+
 }
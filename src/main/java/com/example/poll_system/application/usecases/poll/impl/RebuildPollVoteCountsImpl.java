@@ -0,0 +1,52 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.application.usecases.poll.RebuildPollVoteCounts;
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsInput;
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsOutput;
+import com.example.poll_system.domain.exceptions.EntityNotFoundException;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+
+@Service
+public class RebuildPollVoteCountsImpl implements RebuildPollVoteCounts {
+
+    private final PollRepository pollRepository;
+    private final VoteCountRepository voteCountRepository;
+
+    public RebuildPollVoteCountsImpl(PollRepository pollRepository, VoteCountRepository voteCountRepository) {
+        this.pollRepository = pollRepository;
+        this.voteCountRepository = voteCountRepository;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RebuildPollVoteCountsImpl.class);
+
+    @Override
+    public RebuildPollVoteCountsOutput execute(RebuildPollVoteCountsInput input) {
+        if (pollRepository.findById(input.pollId()).isEmpty()) {
+            sendWarningLogMessagePollNotFound(input.pollId());
+            throw new EntityNotFoundException("Poll not found");
+        }
+        voteCountRepository.rebuildByPollId(input.pollId());
+        Map<String, Long> voteCounts = voteCountRepository.findCountsByPollId(input.pollId());
+        long totalVotes = voteCounts.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+        sendInfoLogMessageVoteCountsRebuilt(input.pollId(), totalVotes);
+        return new RebuildPollVoteCountsOutput(input.pollId(), totalVotes, voteCounts);
+    }
+
+    private void sendWarningLogMessagePollNotFound(String pollId) {
+        logger.warn("Vote counts rebuild failed - Poll not found: {}", pollId);
+    }
+
+    private void sendInfoLogMessageVoteCountsRebuilt(String pollId, long totalVotes) {
+        logger.info("Vote counts rebuilt - Poll ID: {}, Total votes: {}", pollId, totalVotes);
+    }
+
+}
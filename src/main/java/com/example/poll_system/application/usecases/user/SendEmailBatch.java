@@ -0,0 +1,14 @@
+package com.example.poll_system.application.usecases.user;
+
+import java.util.List;
+
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+
+public interface SendEmailBatch {
+    /**
+     * Envia os emails e devolve os que tiveram o destinatário recusado. Falha
+     * de conexão propaga a {@code MailSender.PartialSendException} com quantos
+     * emails, na ordem recebida, já foram tratados.
+     */
+    List<SendEmailInput> execute(List<SendEmailInput> inputs);
+}
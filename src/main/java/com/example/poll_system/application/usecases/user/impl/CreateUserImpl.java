@@ -1,42 +1,69 @@
 package com.example.poll_system.application.usecases.user.impl;
 
-import java.util.UUID;
+import java.io.InputStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.poll_system.application.usecases.user.CreateUser;
 import com.example.poll_system.application.usecases.user.dtos.CreateUserInput;
 import com.example.poll_system.application.usecases.user.dtos.CreateUserOutput;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.UserRepository;
-import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 import com.example.poll_system.infrastructure.services.PasswordEncoder;
-
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
+
+/**
+ * O usuário é salvo sem imagem; a imagem só é copiada para staging aqui e o
+ * envio ao object storage, as miniaturas e a atualização de
+ * {@code urlImageProfile} ficam com o {@link ProfileImagePipeline}, de forma
+ * assíncrona.
+ */
 @Service
 public class CreateUserImpl implements CreateUser {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ObjectStorage objectStorageService;
+    private final ProfileImagePipeline profileImagePipeline;
+    private final EventPublisher eventPublisher;
 
     public CreateUserImpl(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            ObjectStorage objectStorageService) {
+            ProfileImagePipeline profileImagePipeline,
+            EventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
-        this.objectStorageService = objectStorageService;
+        this.profileImagePipeline = profileImagePipeline;
+        this.eventPublisher = eventPublisher;
     }
 
     private final Logger logger = LoggerFactory.getLogger(CreateUserImpl.class);
 
     public CreateUserOutput execute(CreateUserInput input) {
         validateInput(input);
-        User user = buildUser(input);
-        userRepository.save(user);
+        String passwordEncoded = passwordEncoder.encode(input.password());
+        StagedImage imageProfile = stageImageProfile(input);
+        User user = buildUser(input, passwordEncoded);
+        try {
+            userRepository.save(user);
+        } catch (RuntimeException e) {
+            profileImagePipeline.discard(imageProfile);
+            throw e;
+        }
+        eventPublisher.publish(new ProfileImageStagedEvent(
+                user.getId(),
+                imageProfile.path().toString(),
+                imageProfile.objectName(),
+                imageProfile.size(),
+                imageProfile.contentType(),
+                imageProfile.stagedAt()));
         sendInfoLogMessageUserCreated(user);
         return toOutput(user);
     }
@@ -68,22 +95,22 @@ public class CreateUserImpl implements CreateUser {
         logger.warn("User creation failed - Email already exists: {}", email);
     }
 
-    private User buildUser(CreateUserInput input) {
-        String passwordEncoded = passwordEncoder.encode(input.password());
-        String urlImageProfile = uploadImageProfile(input);
+    private User buildUser(CreateUserInput input, String passwordEncoded) {
         return UserFactory.create(
                 input.name(),
                 input.cpf(),
                 input.email(),
                 passwordEncoded,
                 input.role(),
-                urlImageProfile);
+                null);
     }
 
-    private String uploadImageProfile(CreateUserInput input) {
+    private StagedImage stageImageProfile(CreateUserInput input) {
         try {
-            String fileName = UUID.randomUUID().toString();
-            return objectStorageService.upload(fileName, input.imageProfile().getInputStream());
+            MultipartFile imageProfile = input.imageProfile();
+            try (InputStream content = imageProfile.getInputStream()) {
+                return profileImagePipeline.stage(content, imageProfile.getContentType());
+            }
         } catch (Exception e) {
             logger.error("Failed to upload user profile image - userId: {}, error: {}", input.name(), e.getMessage());
             throw new BusinessRulesException("Error uploading image profile " + e.getMessage());
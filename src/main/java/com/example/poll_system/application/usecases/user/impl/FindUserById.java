@@ -6,13 +6,16 @@ import com.example.poll_system.application.usecases.user.dtos.FindUserByIdOutput
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
 
 public class FindUserById implements FindUserByIdUseCase {
 
     private final UserRepository userRepository;
+    private final ObjectStorage objectStorage;
 
-    public FindUserById(UserRepository userRepository) {
+    public FindUserById(UserRepository userRepository, ObjectStorage objectStorage) {
         this.userRepository = userRepository;
+        this.objectStorage = objectStorage;
     }
 
     @Override
@@ -24,7 +27,7 @@ public class FindUserById implements FindUserByIdUseCase {
                 user.getName(),
                 user.getCpf().getCpf(),
                 user.getEmail().getEmail(),
-                user.getUrlImageProfile(),
+                objectStorage.presignedUrl(user.getUrlImageProfile()),
                 user.getRole().name(),
                 user.isActive());
     }
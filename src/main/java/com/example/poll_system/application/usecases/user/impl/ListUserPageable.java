@@ -7,13 +7,16 @@ import com.example.poll_system.application.usecases.user.ListUserUseCase;
 import com.example.poll_system.application.usecases.user.dtos.ListUserOutput;
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
 
 public class ListUserPageable implements ListUserUseCase {
 
     private final UserRepository userRepository;
+    private final ObjectStorage objectStorage;
 
-    public ListUserPageable(UserRepository userRepository) {
+    public ListUserPageable(UserRepository userRepository, ObjectStorage objectStorage) {
         this.userRepository = userRepository;
+        this.objectStorage = objectStorage;
     }
 
     @Override
@@ -24,7 +27,7 @@ public class ListUserPageable implements ListUserUseCase {
                 user.getName(),
                 user.getCpf().getCpf(),
                 user.getEmail().getEmail(),
-                user.getUrlImageProfile(),
+                objectStorage.presignedUrl(user.getUrlImageProfile()),
                 user.getRole().name(),
                 user.isActive()));
     }
@@ -0,0 +1,31 @@
+package com.example.poll_system.application.usecases.user.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.application.usecases.user.SendEmailBatch;
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+import com.example.poll_system.infrastructure.services.MailSender;
+import com.example.poll_system.infrastructure.services.MailSender.MailMessage;
+
+@Service
+public class SendEmailBatchImpl implements SendEmailBatch {
+
+    private final MailSender mailSender;
+
+    public SendEmailBatchImpl(MailSender mailSender) {
+        this.mailSender = mailSender;
+    }
+
+    @Override
+    public List<SendEmailInput> execute(List<SendEmailInput> inputs) {
+        List<MailMessage> messages = inputs.stream()
+                .map(input -> new MailMessage(input.email(), input.subject(), input.body()))
+                .toList();
+        return mailSender.sendAll(messages).stream()
+                .map(message -> new SendEmailInput(message.to(), message.subject(), message.body()))
+                .toList();
+    }
+
+}
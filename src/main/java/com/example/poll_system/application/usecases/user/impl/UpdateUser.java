@@ -1,27 +1,44 @@
 package com.example.poll_system.application.usecases.user.impl;
 
-import java.util.UUID;
+import java.io.InputStream;
+
+import org.springframework.web.multipart.MultipartFile;
 
 import com.example.poll_system.application.usecases.user.UpdateUserUseCase;
 import com.example.poll_system.application.usecases.user.dtos.UpdateUserInput;
 import com.example.poll_system.application.usecases.user.dtos.UpdateUserOutput;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
+import com.example.poll_system.domain.entities.events.UserUpdatedEvent;
 import com.example.poll_system.domain.enums.UserRole;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.UserRepository;
 import com.example.poll_system.domain.value_objects.Cpf;
 import com.example.poll_system.domain.value_objects.Email;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
 
+/**
+ * A nova imagem segue pelo {@link ProfileImagePipeline} de forma assíncrona;
+ * até terminar, o usuário mantém a imagem anterior. Sem imagem, ou com a mesma
+ * imagem de antes (mesmo hash), nada é reenviado.
+ */
 public class UpdateUser implements UpdateUserUseCase {
 
     private final UserRepository userRepository;
-    private final ObjectStorage objectStorageService;
+    private final ProfileImagePipeline profileImagePipeline;
+    private final EventPublisher eventPublisher;
+    private final ObjectStorage objectStorage;
 
-    public UpdateUser(UserRepository userRepository, ObjectStorage objectStorageService) {
+    public UpdateUser(UserRepository userRepository, ProfileImagePipeline profileImagePipeline,
+            EventPublisher eventPublisher, ObjectStorage objectStorage) {
         this.userRepository = userRepository;
-        this.objectStorageService = objectStorageService;
+        this.profileImagePipeline = profileImagePipeline;
+        this.eventPublisher = eventPublisher;
+        this.objectStorage = objectStorage;
     }
 
     @Override
@@ -31,26 +48,48 @@ public class UpdateUser implements UpdateUserUseCase {
         user.changeName(input.name());
         user.changeCpf(new Cpf(input.cpf()));
         user.changeEmail(new Email(input.email()));
-        user.changeUrlImageProfile(uploadImageProfile(input));
         user.changeRole(UserRole.valueOf(input.role().toUpperCase()));
+        StagedImage imageProfile = stageImageProfile(input, user);
         userRepository.update(user);
+        // Email e papel do token podem ter mudado: o principal volta a ser lido do banco
+        eventPublisher.publish(new UserUpdatedEvent(user.getId()));
+        if (imageProfile != null) {
+            eventPublisher.publish(new ProfileImageStagedEvent(
+                    user.getId(),
+                    imageProfile.path().toString(),
+                    imageProfile.objectName(),
+                    imageProfile.size(),
+                    imageProfile.contentType(),
+                    imageProfile.stagedAt()));
+        }
         return new UpdateUserOutput(
                 user.getId(),
                 user.getName(),
                 user.getCpf().getCpf(),
                 user.getEmail().getEmail(),
-                user.getUrlImageProfile(),
+                objectStorage.presignedUrl(user.getUrlImageProfile()),
                 user.getRole().name(),
                 user.isActive());
     }
 
-    private String uploadImageProfile(UpdateUserInput input) {
+    private StagedImage stageImageProfile(UpdateUserInput input, User user) {
+        MultipartFile imageProfile = input.imageProfile();
+        if (imageProfile == null || imageProfile.isEmpty()) {
+            return null;
+        }
+        StagedImage staged;
         try {
-            String fileName = UUID.randomUUID().toString();
-            return objectStorageService.upload(fileName, input.imageProfile().getInputStream());
+            try (InputStream content = imageProfile.getInputStream()) {
+                staged = profileImagePipeline.stage(content, imageProfile.getContentType());
+            }
         } catch (Exception e) {
             throw new BusinessRulesException("Error uploading image profile " + e.getMessage());
         }
+        if (staged.objectName().equals(user.getUrlImageProfile())) {
+            profileImagePipeline.discard(staged);
+            return null;
+        }
+        return staged;
     }
 
 }
@@ -0,0 +1,10 @@
+package com.example.poll_system.application.usecases.vote;
+
+import java.util.List;
+
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteOutput;
+
+public interface ProcessVoteBatch {
+    List<ProcessVoteOutput> execute(List<ProcessVoteInput> inputs);
+}
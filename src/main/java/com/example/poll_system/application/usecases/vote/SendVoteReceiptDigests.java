@@ -0,0 +1,8 @@
+package com.example.poll_system.application.usecases.vote;
+
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsOutput;
+
+public interface SendVoteReceiptDigests {
+    SendVoteReceiptDigestsOutput execute(SendVoteReceiptDigestsInput input);
+}
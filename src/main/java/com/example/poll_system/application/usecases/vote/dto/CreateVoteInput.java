@@ -5,6 +5,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @Schema(description = "Dados necessários para criar um voto")
 public record CreateVoteInput(
                 @Schema(description = "ID único do usuário que está votando", example = "550e8400-e29b-41d4-a716-446655440000", required = true) String userId,
-                @Schema(description = "ID da opção de enquete escolhida", example = "650e8400-e29b-41d4-a716-446655440001", required = true) String pollOptionId) {
+                @Schema(description = "ID da opção de enquete escolhida", example = "650e8400-e29b-41d4-a716-446655440001", required = true) String pollOptionId,
+                @Schema(description = "Chave gerada pelo cliente para tornar o envio idempotente; reenvios com a mesma chave não geram outro voto", example = "2f1c9a7e-4b7d-4c61-9f2e-8d1b6a3c5e90") String idempotencyKey) {
 
+        public CreateVoteInput(String userId, String pollOptionId) {
+                this(userId, pollOptionId, null);
+        }
 }
@@ -2,6 +2,10 @@ package com.example.poll_system.application.usecases.vote.dto;
 
 public record ProcessVoteInput(
         String userId,
-        String pollOptionId) {
+        String pollOptionId,
+        String idempotencyKey) {
 
+    public ProcessVoteInput(String userId, String pollOptionId) {
+        this(userId, pollOptionId, null);
+    }
 }
@@ -0,0 +1,10 @@
+package com.example.poll_system.application.usecases.vote.dto;
+
+import java.time.LocalDateTime;
+
+public record SendVoteReceiptDigestsInput(
+        LocalDateTime firstReceiptBefore,
+        LocalDateTime staleClaimBefore,
+        int limit) {
+
+}
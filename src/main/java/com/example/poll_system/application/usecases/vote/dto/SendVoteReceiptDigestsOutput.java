@@ -0,0 +1,7 @@
+package com.example.poll_system.application.usecases.vote.dto;
+
+public record SendVoteReceiptDigestsOutput(
+        int digestsSent,
+        int recipientsRejected) {
+
+}
@@ -0,0 +1,157 @@
+package com.example.poll_system.application.usecases.vote.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.application.usecases.vote.ProcessVoteBatch;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteOutput;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.domain.enums.VoteStatus;
+import com.example.poll_system.domain.factories.VoteFactory;
+import com.example.poll_system.domain.gateways.PollOptionRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+import com.example.poll_system.infrastructure.services.EventPublisher;
+
+/**
+ * Processa um lote de votos vindos da fila: resolve opções e usuários com uma
+ * consulta cada, persiste todos os votos com
+ * {@link VoteRepository#saveAllIfAbsent} e atualiza os contadores por opção na
+ * mesma transação, somando ao resultado gravado os votos de enquetes que
+ * fecharam enquanto eles esperavam na fila. Duplicados (reentregas ou segundo voto do usuário na
+ * enquete) são ignorados pelo banco e não contam nem geram evento. Os
+ * {@link VoteProcessedEvent} só são publicados depois que o lote foi gravado.
+ *
+ * Votos com opção ou usuário inexistente são descartados com um aviso em vez
+ * de derrubar o lote inteiro.
+ */
+@Service
+public class ProcessVoteBatchImpl implements ProcessVoteBatch {
+
+    private final VoteRepository voteRepository;
+    private final UserRepository userRepository;
+    private final PollOptionRepository pollOptionRepository;
+    private final VoteCountRepository voteCountRepository;
+    private final PollResultRepository pollResultRepository;
+    private final VoteTallyGateway voteTallyGateway;
+    private final EventPublisher eventPublisher;
+
+    public ProcessVoteBatchImpl(
+            VoteRepository voteRepository,
+            UserRepository userRepository,
+            PollOptionRepository pollOptionRepository,
+            VoteCountRepository voteCountRepository,
+            PollResultRepository pollResultRepository,
+            VoteTallyGateway voteTallyGateway,
+            EventPublisher eventPublisher) {
+        this.voteRepository = voteRepository;
+        this.userRepository = userRepository;
+        this.pollOptionRepository = pollOptionRepository;
+        this.voteCountRepository = voteCountRepository;
+        this.pollResultRepository = pollResultRepository;
+        this.voteTallyGateway = voteTallyGateway;
+        this.eventPublisher = eventPublisher;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ProcessVoteBatchImpl.class);
+
+    @Override
+    @Transactional
+    public List<ProcessVoteOutput> execute(List<ProcessVoteInput> inputs) {
+        if (inputs.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, PollOption> pollOptions = findPollOptions(inputs);
+        Map<String, User> users = findUsers(inputs);
+
+        List<Vote> votes = new ArrayList<>(inputs.size());
+        for (ProcessVoteInput input : inputs) {
+            PollOption pollOption = pollOptions.get(input.pollOptionId());
+            if (pollOption == null) {
+                sendWarningLogMessagePollOptionNotFound(input);
+                continue;
+            }
+            if (!users.containsKey(input.userId())) {
+                sendWarningLogMessageUserNotFound(input);
+                continue;
+            }
+            Vote vote = VoteFactory.create(input.userId(), input.pollOptionId(), pollOption.getPollId(),
+                    input.idempotencyKey());
+            vote.setStatus(VoteStatus.PROCESSED);
+            votes.add(vote);
+        }
+
+        List<Vote> inserted = voteRepository.saveAllIfAbsent(votes);
+        voteCountRepository.incrementAll(inserted);
+        pollResultRepository.addVotes(inserted);
+        voteTallyGateway.incrementAll(inserted);
+
+        for (Vote vote : inserted) {
+            User user = users.get(vote.getUserId());
+            eventPublisher.publish(
+                    new VoteProcessedEvent(user.getId(), user.getEmail().getEmail(), vote.getCreatedAt()));
+        }
+        sendInfoLogMessageBatchProcessed(inputs.size(), inserted.size());
+
+        return inserted.stream()
+                .map(this::toOutput)
+                .toList();
+    }
+
+    private Map<String, PollOption> findPollOptions(List<ProcessVoteInput> inputs) {
+        Set<String> pollOptionIds = inputs.stream()
+                .map(ProcessVoteInput::pollOptionId)
+                .collect(Collectors.toSet());
+        return pollOptionRepository.findAllByIds(pollOptionIds).stream()
+                .collect(Collectors.toMap(PollOption::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private Map<String, User> findUsers(List<ProcessVoteInput> inputs) {
+        Set<String> userIds = inputs.stream()
+                .map(ProcessVoteInput::userId)
+                .collect(Collectors.toSet());
+        return userRepository.findAllByIds(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity(), (first, second) -> first));
+    }
+
+    private void sendWarningLogMessagePollOptionNotFound(ProcessVoteInput input) {
+        logger.warn("Vote batch - Poll option not found: {}, vote from user {} discarded",
+                input.pollOptionId(), input.userId());
+    }
+
+    private void sendWarningLogMessageUserNotFound(ProcessVoteInput input) {
+        logger.warn("Vote batch - User not found: {}, vote discarded", input.userId());
+    }
+
+    private void sendInfoLogMessageBatchProcessed(int received, int persisted) {
+        logger.info("Vote batch processed - Received: {}, Persisted: {}", received, persisted);
+    }
+
+    private ProcessVoteOutput toOutput(Vote vote) {
+        return new ProcessVoteOutput(
+                vote.getId(),
+                vote.getUserId(),
+                vote.getPollOptionId(),
+                vote.getPollId(),
+                vote.getStatus().name(),
+                vote.getCreatedAt());
+    }
+
+}
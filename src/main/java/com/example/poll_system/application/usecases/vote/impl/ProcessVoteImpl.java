@@ -1,10 +1,12 @@
 package com.example.poll_system.application.usecases.vote.impl;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.poll_system.application.usecases.vote.ProcessVote;
 import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
@@ -17,8 +19,11 @@ import com.example.poll_system.domain.enums.VoteStatus;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.factories.VoteFactory;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
 import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 @Service
@@ -27,28 +32,46 @@ public class ProcessVoteImpl implements ProcessVote {
     private final VoteRepository voteRepository;
     private final UserRepository userRepository;
     private final PollOptionRepository pollOptionRepository;
+    private final VoteCountRepository voteCountRepository;
+    private final PollResultRepository pollResultRepository;
+    private final VoteTallyGateway voteTallyGateway;
     private final EventPublisher eventPublisher;
 
     public ProcessVoteImpl(
             VoteRepository voteRepository,
             UserRepository userRepository,
             PollOptionRepository pollOptionRepository,
+            VoteCountRepository voteCountRepository,
+            PollResultRepository pollResultRepository,
+            VoteTallyGateway voteTallyGateway,
             EventPublisher eventPublisher) {
         this.voteRepository = voteRepository;
         this.userRepository = userRepository;
         this.pollOptionRepository = pollOptionRepository;
+        this.voteCountRepository = voteCountRepository;
+        this.pollResultRepository = pollResultRepository;
+        this.voteTallyGateway = voteTallyGateway;
         this.eventPublisher = eventPublisher;
     }
 
     private final Logger logger = LoggerFactory.getLogger(ProcessVoteImpl.class);
 
     @Override
+    @Transactional
     public ProcessVoteOutput execute(ProcessVoteInput input) {
         PollOption pollOption = pollOptionRepository.findById(input.pollOptionId())
                 .orElseThrow(() -> new EntityNotFoundException("Poll option not found"));
-        Vote vote = VoteFactory.create(input.userId(), input.pollOptionId(), pollOption.getPollId());
+        Vote vote = VoteFactory.create(input.userId(), input.pollOptionId(), pollOption.getPollId(),
+                input.idempotencyKey());
         vote.setStatus(VoteStatus.PROCESSED);
-        voteRepository.save(vote);
+        if (!voteRepository.saveIfAbsent(vote)) {
+            // Reentrega ou segundo voto do usuário na enquete: nada a refazer.
+            sendInfoLogMessageDuplicateVoteIgnored(vote);
+            return toOutput(vote);
+        }
+        voteCountRepository.increment(vote);
+        pollResultRepository.addVotes(List.of(vote));
+        voteTallyGateway.increment(vote);
         User user = getValidatedUser(vote.getUserId());
         eventPublisher.publish(new VoteProcessedEvent(user.getId(), user.getEmail().getEmail(), vote.getCreatedAt()));
         sendInfoLogMessageVoteProcessedEmailSent(user.getEmail().getEmail(), vote.getCreatedAt());
@@ -56,6 +79,11 @@ public class ProcessVoteImpl implements ProcessVote {
         return toOutput(vote);
     }
 
+    private void sendInfoLogMessageDuplicateVoteIgnored(Vote vote) {
+        logger.info("Vote ignored - already processed or user already voted: Vote ID: {}, User ID: {}, Poll ID: {}",
+                vote.getId(), vote.getUserId(), vote.getPollId());
+    }
+
     private void sendInfoLogMessageVoteProcessedEmailSent(String email, LocalDateTime createdAt) {
         logger.info("Vote processed - Email sent to: {} at {}", email, createdAt);
     }
@@ -0,0 +1,109 @@
+package com.example.poll_system.application.usecases.vote.impl;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.application.usecases.user.SendEmailBatch;
+import com.example.poll_system.application.usecases.vote.SendVoteReceiptDigests;
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsOutput;
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository;
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository.VoteReceiptDigest;
+import com.example.poll_system.infrastructure.services.MailSender.PartialSendException;
+
+/**
+ * Envia um email por usuário resumindo os votos processados na janela de
+ * digest. Os digests são marcados como reclamados numa transação curta e o
+ * envio acontece fora dela, para o SMTP não segurar as linhas que o
+ * processamento de votos atualiza. Só depois do envio os digests tratados são
+ * removidos; se o envio falhar por conexão, os ainda não tratados são
+ * liberados para a próxima execução, e se o processo cair no meio a
+ * reclamação expira e eles são reenviados.
+ */
+@Service
+public class SendVoteReceiptDigestsImpl implements SendVoteReceiptDigests {
+
+    static final String SUBJECT = "Voto Processado";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final VoteReceiptDigestRepository voteReceiptDigestRepository;
+    private final SendEmailBatch sendEmailBatch;
+
+    public SendVoteReceiptDigestsImpl(
+            VoteReceiptDigestRepository voteReceiptDigestRepository,
+            SendEmailBatch sendEmailBatch) {
+        this.voteReceiptDigestRepository = voteReceiptDigestRepository;
+        this.sendEmailBatch = sendEmailBatch;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SendVoteReceiptDigestsImpl.class);
+
+    @Override
+    public SendVoteReceiptDigestsOutput execute(SendVoteReceiptDigestsInput input) {
+        List<VoteReceiptDigest> digests = voteReceiptDigestRepository.claimDue(input.firstReceiptBefore(),
+                input.staleClaimBefore(), input.limit());
+        if (digests.isEmpty()) {
+            return new SendVoteReceiptDigestsOutput(0, 0);
+        }
+        List<SendEmailInput> emails = digests.stream()
+                .map(digest -> new SendEmailInput(digest.userEmail(), SUBJECT, buildBody(digest)))
+                .toList();
+        List<SendEmailInput> rejected;
+        try {
+            rejected = sendEmailBatch.execute(emails);
+        } catch (PartialSendException e) {
+            completeSent(digests.subList(0, e.getHandledCount()));
+            releaseUnsent(digests.subList(e.getHandledCount(), digests.size()));
+            throw e;
+        } catch (RuntimeException e) {
+            releaseUnsent(digests);
+            throw e;
+        }
+        completeSent(digests);
+        rejected.forEach(this::sendWarningLogMessageRecipientRejected);
+        sendInfoLogMessageDigestsSent(digests.size(), rejected.size());
+        return new SendVoteReceiptDigestsOutput(digests.size(), rejected.size());
+    }
+
+    private void completeSent(List<VoteReceiptDigest> sent) {
+        if (!sent.isEmpty()) {
+            voteReceiptDigestRepository.complete(sent);
+        }
+    }
+
+    private void releaseUnsent(List<VoteReceiptDigest> unsent) {
+        if (unsent.isEmpty()) {
+            return;
+        }
+        voteReceiptDigestRepository.release(unsent);
+        sendWarningLogMessageDigestsReleased(unsent.size());
+    }
+
+    private String buildBody(VoteReceiptDigest digest) {
+        if (digest.receiptCount() == 1) {
+            return "Seu voto foi processado com sucesso!";
+        }
+        return "Seus " + digest.receiptCount() + " votos registrados entre "
+                + digest.firstReceiptAt().format(DATE_TIME_FORMATTER) + " e "
+                + digest.lastReceiptAt().format(DATE_TIME_FORMATTER)
+                + " foram processados com sucesso!";
+    }
+
+    private void sendInfoLogMessageDigestsSent(int sent, int rejected) {
+        logger.info("Vote receipt digests sent - Digests: {}, Rejected: {}", sent, rejected);
+    }
+
+    private void sendWarningLogMessageDigestsReleased(int released) {
+        logger.warn("Vote receipt digests not sent, released for the next run - Digests: {}", released);
+    }
+
+    private void sendWarningLogMessageRecipientRejected(SendEmailInput input) {
+        logger.warn("Vote receipt digest not delivered, recipient rejected: {}", input.email());
+    }
+
+}
@@ -1,36 +1,29 @@
 package com.example.poll_system.application.usecases.vote.impl;
 
+import java.util.UUID;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 import com.example.poll_system.application.usecases.vote.CreateVote;
 import com.example.poll_system.application.usecases.vote.dto.CreateVoteInput;
-import com.example.poll_system.domain.entities.Poll;
-import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
-import com.example.poll_system.domain.gateways.PollOptionRepository;
-import com.example.poll_system.domain.gateways.PollRepository;
-import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway.Admission;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 @Service
 public class SendVoteToQueue implements CreateVote {
 
-    private final PollOptionRepository pollOptionRepository;
-    private final UserRepository userRepository;
-    private final PollRepository pollRepository;
+    private final VoteAdmissionGateway voteAdmissionGateway;
     private final EventPublisher eventPublisher;
 
     public SendVoteToQueue(
-            PollOptionRepository pollOptionRepository,
-            UserRepository userRepository,
-            PollRepository pollRepository,
+            VoteAdmissionGateway voteAdmissionGateway,
             EventPublisher eventPublisher) {
-        this.pollOptionRepository = pollOptionRepository;
-        this.userRepository = userRepository;
-        this.pollRepository = pollRepository;
+        this.voteAdmissionGateway = voteAdmissionGateway;
         this.eventPublisher = eventPublisher;
     }
 
@@ -44,13 +37,14 @@ public class SendVoteToQueue implements CreateVote {
     }
 
     private void validateInput(CreateVoteInput input) {
-        validateIfUserExists(input.userId());
-        PollOption pollOption = validateAndGetPollOption(input.pollOptionId());
-        validateIfPollIsOpen(pollOption);
+        Admission admission = voteAdmissionGateway.check(input.userId(), input.pollOptionId());
+        validateIfUserExists(admission, input.userId());
+        validateIfPollOptionExists(admission, input.pollOptionId());
+        validateIfPollIsOpen(admission);
     }
 
-    private void validateIfUserExists(String userId) {
-        if (!userRepository.findById(userId).isPresent()) {
+    private void validateIfUserExists(Admission admission, String userId) {
+        if (!admission.userExists()) {
             sendWarningLogMessageUserNotFound(userId);
             throw new BusinessRulesException("User not found");
         }
@@ -60,24 +54,24 @@ public class SendVoteToQueue implements CreateVote {
         logger.warn("Vote creation failed - User not found: {}", userId);
     }
 
-    private PollOption validateAndGetPollOption(String pollOptionId) {
-        return pollOptionRepository.findById(pollOptionId)
-                .orElseThrow(() -> {
-                    sendWarningLogMessagePollOptionNotFound(pollOptionId);
-                    return new BusinessRulesException("Poll option not found");
-                });
+    private void validateIfPollOptionExists(Admission admission, String pollOptionId) {
+        if (!admission.pollOptionExists()) {
+            sendWarningLogMessagePollOptionNotFound(pollOptionId);
+            throw new BusinessRulesException("Poll option not found");
+        }
     }
 
     private void sendWarningLogMessagePollOptionNotFound(String pollOptionId) {
         logger.warn("Vote creation failed - Poll option not found: {}", pollOptionId);
     }
 
-    private void validateIfPollIsOpen(PollOption pollOption) {
-        Poll poll = pollRepository.findById(pollOption.getPollId())
-                .orElseThrow(() -> new BusinessRulesException("Poll not found"));
+    private void validateIfPollIsOpen(Admission admission) {
+        if (!admission.pollExists()) {
+            throw new BusinessRulesException("Poll not found");
+        }
 
-        if (!poll.isOpen()) {
-            sendWarningLogMessagePollIsClosed(poll.getId());
+        if (!admission.pollIsOpen()) {
+            sendWarningLogMessagePollIsClosed(admission.pollId());
             throw new BusinessRulesException("Poll is not open for voting");
         }
     }
@@ -87,9 +81,15 @@ public class SendVoteToQueue implements CreateVote {
     }
 
     private VoteCreatedEvent buildCreateVoteEvent(CreateVoteInput input) {
+        // Sem chave do cliente, a chave gerada aqui ainda protege contra
+        // reentregas da mesma mensagem pelo RabbitMQ.
+        String idempotencyKey = input.idempotencyKey() != null && !input.idempotencyKey().isBlank()
+                ? input.idempotencyKey()
+                : UUID.randomUUID().toString();
         return new VoteCreatedEvent(
                 input.userId(),
-                input.pollOptionId());
+                input.pollOptionId(),
+                idempotencyKey);
     }
 
     private void sendInfoLogMessageSentToQueue(VoteCreatedEvent event) {
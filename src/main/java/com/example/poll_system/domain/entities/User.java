@@ -152,6 +152,14 @@ public class User {
         validate();
     }
 
+    public void changePassword(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.trim().isEmpty()) {
+            return;
+        }
+        this.password = encodedPassword;
+        validate();
+    }
+
     public void changeRole(UserRole role) {
         if (role == null) {
             return;
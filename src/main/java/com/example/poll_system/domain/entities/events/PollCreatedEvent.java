@@ -0,0 +1,59 @@
+package com.example.poll_system.domain.entities.events;
+
+import java.time.LocalDateTime;
+
+import com.example.poll_system.domain.entities.DomainEvent;
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.exceptions.FieldIsRequiredException;
+
+public class PollCreatedEvent extends DomainEvent {
+
+    private final String pollId;
+    private final PollStatus pollStatus;
+    private final LocalDateTime pollStartDate;
+    private final LocalDateTime pollEndDate;
+
+    public PollCreatedEvent(
+            String pollId,
+            PollStatus pollStatus,
+            LocalDateTime pollStartDate,
+            LocalDateTime pollEndDate) {
+        super(PollCreatedEvent.class.getSimpleName());
+        this.pollId = pollId;
+        this.pollStatus = pollStatus;
+        this.pollStartDate = pollStartDate;
+        this.pollEndDate = pollEndDate;
+        this.validate();
+    }
+
+    private void validate() {
+        if (pollId == null || pollId.trim().isEmpty()) {
+            throw new FieldIsRequiredException("pollId is required");
+        }
+        if (pollStatus == null) {
+            throw new FieldIsRequiredException("pollStatus is required");
+        }
+        if (pollStartDate == null) {
+            throw new FieldIsRequiredException("pollStartDate is required");
+        }
+        if (pollEndDate == null) {
+            throw new FieldIsRequiredException("pollEndDate is required");
+        }
+    }
+
+    public String getPollId() {
+        return pollId;
+    }
+
+    public PollStatus getPollStatus() {
+        return pollStatus;
+    }
+
+    public LocalDateTime getPollStartDate() {
+        return pollStartDate;
+    }
+
+    public LocalDateTime getPollEndDate() {
+        return pollEndDate;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.poll_system.domain.entities.events;
+
+import java.time.LocalDateTime;
+
+import com.example.poll_system.domain.entities.DomainEvent;
+import com.example.poll_system.domain.exceptions.FieldIsRequiredException;
+
+public class ProfileImageStagedEvent extends DomainEvent {
+
+    private final String userId;
+    private final String stagedPath;
+    private final String objectName;
+    private final long size;
+    private final String contentType;
+    private final LocalDateTime stagedAt;
+
+    public ProfileImageStagedEvent(
+            String userId,
+            String stagedPath,
+            String objectName,
+            long size,
+            String contentType,
+            LocalDateTime stagedAt) {
+        super(ProfileImageStagedEvent.class.getSimpleName());
+        this.userId = userId;
+        this.stagedPath = stagedPath;
+        this.objectName = objectName;
+        this.size = size;
+        this.contentType = contentType;
+        this.stagedAt = stagedAt;
+        this.validate();
+    }
+
+    private void validate() {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new FieldIsRequiredException("userId is required");
+        }
+        if (stagedPath == null || stagedPath.trim().isEmpty()) {
+            throw new FieldIsRequiredException("stagedPath is required");
+        }
+        if (objectName == null || objectName.trim().isEmpty()) {
+            throw new FieldIsRequiredException("objectName is required");
+        }
+        if (stagedAt == null) {
+            throw new FieldIsRequiredException("stagedAt is required");
+        }
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getStagedPath() {
+        return stagedPath;
+    }
+
+    public String getObjectName() {
+        return objectName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public LocalDateTime getStagedAt() {
+        return stagedAt;
+    }
+}
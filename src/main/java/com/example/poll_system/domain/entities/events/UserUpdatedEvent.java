@@ -0,0 +1,25 @@
+package com.example.poll_system.domain.entities.events;
+
+import com.example.poll_system.domain.entities.DomainEvent;
+import com.example.poll_system.domain.exceptions.FieldIsRequiredException;
+
+public class UserUpdatedEvent extends DomainEvent {
+
+    private final String userId;
+
+    public UserUpdatedEvent(String userId) {
+        super(UserUpdatedEvent.class.getSimpleName());
+        this.userId = userId;
+        this.validate();
+    }
+
+    private void validate() {
+        if (userId == null || userId.trim().isEmpty()) {
+            throw new FieldIsRequiredException("userId is required");
+        }
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+}
@@ -7,11 +7,19 @@ public class VoteCreatedEvent extends DomainEvent {
 
     private final String userId;
     private final String pollOptionId;
-
-    public VoteCreatedEvent(String userId, String pollOptionId) {
+    private final String idempotencyKey;
+
+    /**
+     * @param idempotencyKey chave gerada pelo cliente para o voto; reentregas
+     *                       da mesma mensagem carregam a mesma chave e não
+     *                       geram um segundo voto. Pode ser nula em mensagens
+     *                       antigas.
+     */
+    public VoteCreatedEvent(String userId, String pollOptionId, String idempotencyKey) {
         super(VoteCreatedEvent.class.getSimpleName());
         this.userId = userId;
         this.pollOptionId = pollOptionId;
+        this.idempotencyKey = idempotencyKey;
         this.validate();
     }
 
@@ -32,4 +40,8 @@ public class VoteCreatedEvent extends DomainEvent {
         return pollOptionId;
     }
 
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
 }
@@ -0,0 +1,8 @@
+package com.example.poll_system.domain.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
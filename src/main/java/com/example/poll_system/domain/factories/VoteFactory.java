@@ -1,5 +1,6 @@
 package com.example.poll_system.domain.factories;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -9,8 +10,22 @@ import com.example.poll_system.domain.enums.VoteStatus;
 public class VoteFactory {
 
     public static Vote create(String userId, String pollOptionId, String pollId) {
+        return create(userId, pollOptionId, pollId, null);
+    }
+
+    /**
+     * Com chave de idempotência o ID do voto é derivado dela (UUID v3 de
+     * usuário + enquete + chave), então processar a mesma mensagem de novo gera
+     * o mesmo ID e o insert é ignorado pelo banco. A enquete entra no nome para
+     * que a mesma chave reaproveitada em outra enquete não descarte o voto.
+     */
+    public static Vote create(String userId, String pollOptionId, String pollId, String idempotencyKey) {
+        String id = idempotencyKey == null
+                ? UUID.randomUUID().toString()
+                : UUID.nameUUIDFromBytes((userId + ":" + pollId + ":" + idempotencyKey)
+                        .getBytes(StandardCharsets.UTF_8)).toString();
         return new Vote(
-                UUID.randomUUID().toString(),
+                id,
                 userId,
                 pollOptionId,
                 pollId,
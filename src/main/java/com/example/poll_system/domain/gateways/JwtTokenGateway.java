@@ -1,10 +1,18 @@
 package com.example.poll_system.domain.gateways;
 
+import java.time.Instant;
+
 import com.example.poll_system.domain.entities.User;
 
 public interface JwtTokenGateway {
     String generateToken(User user);
 
+    /**
+     * Valida assinatura e expiração do token e devolve as suas claims. Lança
+     * exceção se o token for inválido ou estiver expirado.
+     */
+    TokenClaims verifyToken(String token);
+
     String extractEmailFromToken(String token);
 
     boolean isTokenValid(String token, String email);
@@ -12,4 +20,13 @@ public interface JwtTokenGateway {
     boolean isTokenExpired(String token);
 
     Long getExpirationTime();
+
+    record TokenClaims(
+            String email,
+            String userId,
+            String name,
+            String role,
+            Instant issuedAt,
+            Instant expiresAt) {
+    }
 }
@@ -1,5 +1,14 @@
 package com.example.poll_system.domain.gateways;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface MessageQueueGateway {
     void send(String exchange, Object message, String routingKey);
+
+    /**
+     * Enfileira a mensagem para publicação em lote. O futuro só é concluído
+     * quando o broker confirma (ack) a mensagem, e falha se ela for rejeitada,
+     * devolvida por não ter rota ou não puder ser publicada após as tentativas.
+     */
+    CompletableFuture<Void> sendAsync(String exchange, Object message, String routingKey);
 }
@@ -0,0 +1,38 @@
+package com.example.poll_system.domain.gateways;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository {
+
+    void save(OutboxMessage message);
+
+    void saveAll(List<OutboxMessage> messages);
+
+    List<OutboxMessage> findPending(int limit);
+
+    void markPublished(Collection<Long> ids);
+
+    int deletePublishedBefore(LocalDateTime threshold);
+
+    /**
+     * Mensagem já serializada aguardando publicação. {@code aggregateId}
+     * identifica a entidade de origem e define a ordem de entrega entre
+     * mensagens do mesmo agregado.
+     */
+    record OutboxMessage(
+            Long id,
+            String aggregateId,
+            String exchange,
+            String routingKey,
+            String typeId,
+            String payload,
+            LocalDateTime createdAt) {
+
+        public OutboxMessage(String aggregateId, String exchange, String routingKey, String typeId,
+                String payload) {
+            this(null, aggregateId, exchange, routingKey, typeId, payload, LocalDateTime.now());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.poll_system.domain.gateways;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +15,6 @@ public interface PollOptionRepository {
 
     List<PollOption> findByPollId(String pollId);
 
+    List<PollOption> findAllByIds(Collection<String> ids);
+
 }
@@ -1,5 +1,7 @@
 package com.example.poll_system.domain.gateways;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +26,28 @@ public interface PollRepository {
 
     List<Poll> findByStatus(PollStatus status);
 
+    /** Enquetes agendadas com início até {@code until}, sem carregar opções. */
+    List<PollDeadline> findScheduledStartingUntil(LocalDateTime until);
+
+    /** Enquetes abertas com fim até {@code until}, sem carregar opções. */
+    List<PollDeadline> findOpenEndingUntil(LocalDateTime until);
+
+    /** Enquetes com opções, em uma única consulta. */
+    List<Poll> findAllByIds(Collection<String> ids);
+
+    /**
+     * Abre em um único UPDATE as enquetes de {@code ids} que ainda estão
+     * agendadas. Devolve o fim de cada enquete efetivamente aberta.
+     */
+    List<PollDeadline> openAllScheduled(Collection<String> ids, LocalDateTime startDate);
+
+    /**
+     * Fecha em um único UPDATE as enquetes de {@code ids} que ainda estão
+     * abertas. Devolve os IDs das enquetes efetivamente fechadas.
+     */
+    List<String> closeAllOpen(Collection<String> ids, LocalDateTime endDate);
+
+    record PollDeadline(String pollId, LocalDateTime dueAt) {
+    }
+
 }
@@ -0,0 +1,62 @@
+package com.example.poll_system.domain.gateways;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.Vote;
+
+/**
+ * Resultado final de uma enquete fechada, gravado uma única vez no fechamento.
+ * Votos aceitos antes do fechamento mas processados depois dele são somados ao
+ * resultado por {@link #addVotes}.
+ */
+public interface PollResultRepository {
+
+    void save(PollResult pollResult);
+
+    void saveAll(List<PollResult> pollResults);
+
+    Optional<PollResult> findByPollId(String pollId);
+
+    /**
+     * Soma os votos ao resultado das enquetes já fechadas; votos de enquetes
+     * sem resultado gravado são ignorados.
+     */
+    void addVotes(List<Vote> votes);
+
+    /** Opções na mesma ordem da enquete. */
+    record PollResult(
+            String pollId,
+            String pollTitle,
+            long totalVotes,
+            LocalDateTime closedAt,
+            List<OptionResult> options) {
+
+        public PollResult {
+            options = List.copyOf(options);
+        }
+
+        /** Resultado da enquete fechada a partir dos contadores por opção. */
+        public static PollResult of(Poll poll, Map<String, Long> voteCountsByOptionId) {
+            List<OptionResult> options = poll.getOptions().stream()
+                    .map(option -> new OptionResult(
+                            option.getId(),
+                            option.getDescription(),
+                            voteCountsByOptionId.getOrDefault(option.getId(), 0L)))
+                    .toList();
+            long totalVotes = options.stream()
+                    .mapToLong(OptionResult::votesCount)
+                    .sum();
+            return new PollResult(poll.getId(), poll.getTitle(), totalVotes, poll.getEndDate(), options);
+        }
+    }
+
+    record OptionResult(
+            String pollOptionId,
+            String description,
+            long votesCount) {
+    }
+}
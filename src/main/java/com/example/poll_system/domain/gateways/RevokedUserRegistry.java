@@ -0,0 +1,15 @@
+package com.example.poll_system.domain.gateways;
+
+import java.time.Instant;
+
+/**
+ * Usuários cujos tokens emitidos até um instante não podem mais ser usados
+ * como fonte do principal, pois email, papel ou status mudaram depois da
+ * emissão. A consulta é feita em memória a cada requisição.
+ */
+public interface RevokedUserRegistry {
+
+    void revoke(String userId, Instant revokedAt);
+
+    boolean isRevoked(String userId, Instant tokenIssuedAt);
+}
@@ -0,0 +1,19 @@
+package com.example.poll_system.domain.gateways;
+
+import java.time.Duration;
+
+/**
+ * Lease exclusivo com expiração, usado para eleger um único nó do cluster
+ * para as tarefas agendadas.
+ */
+public interface SchedulerLeaseGateway {
+
+    /**
+     * Adquire o lease se estiver livre ou renova se já pertencer a
+     * {@code holder}. Devolve {@code false} se outro nó detém o lease.
+     */
+    boolean tryAcquire(String lease, String holder, Duration timeToLive);
+
+    /** Libera o lease apenas se ainda pertencer a {@code holder}. */
+    void release(String lease, String holder);
+}
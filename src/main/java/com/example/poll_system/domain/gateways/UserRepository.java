@@ -1,5 +1,7 @@
 package com.example.poll_system.domain.gateways;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,4 +26,13 @@ public interface UserRepository {
     Optional<User> findByCpf(String cpf);
 
     Page<User> findAll(Pageable pageable);
+
+    List<User> findAllByIds(Collection<String> ids);
+
+    /**
+     * Troca só a imagem de perfil, e apenas se nenhuma imagem enviada depois de
+     * {@code stagedAt} já tiver sido aplicada. Devolve {@code false} se o
+     * usuário não existe ou a imagem ficou obsoleta.
+     */
+    boolean changeUrlImageProfile(String userId, String urlImageProfile, LocalDateTime stagedAt);
 }
@@ -0,0 +1,23 @@
+package com.example.poll_system.domain.gateways;
+
+import com.example.poll_system.domain.enums.PollStatus;
+
+public interface VoteAdmissionGateway {
+
+    Admission check(String userId, String pollOptionId);
+
+    record Admission(
+            boolean userExists,
+            boolean pollOptionExists,
+            String pollId,
+            PollStatus pollStatus) {
+
+        public boolean pollExists() {
+            return pollId != null;
+        }
+
+        public boolean pollIsOpen() {
+            return pollStatus == PollStatus.OPEN;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.poll_system.domain.gateways;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import com.example.poll_system.domain.entities.Vote;
+
+public interface VoteCountRepository {
+    void increment(Vote vote);
+
+    void incrementAll(List<Vote> votes);
+
+    Map<String, Long> findCountsByPollId(String pollId);
+
+    /** Contadores por opção agrupados por enquete, em uma única consulta. */
+    Map<String, Map<String, Long>> findCountsByPollIds(Collection<String> pollIds);
+
+    /**
+     * Como {@link #findCountsByPollIds}, mas trava os contadores das enquetes
+     * até o fim da transação: votos em andamento terminam antes da leitura e
+     * os seguintes só incrementam depois que quem chamou confirmar.
+     */
+    Map<String, Map<String, Long>> lockCountsByPollIds(Collection<String> pollIds);
+
+    void rebuildByPollId(String pollId);
+}
@@ -0,0 +1,43 @@
+package com.example.poll_system.domain.gateways;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Acumula os comprovantes de voto de cada usuário até o fechamento da janela
+ * de digest. Guarda uma linha por usuário, não uma por voto.
+ */
+public interface VoteReceiptDigestRepository {
+
+    void record(String userId, String userEmail, LocalDateTime occurredAt);
+
+    /**
+     * Marca como reclamados e devolve até {@code limit} digests cujo primeiro
+     * comprovante é anterior a {@code firstReceiptBefore}. A marca é confirmada
+     * antes do retorno, sem manter as linhas travadas durante o envio dos
+     * emails. Reclamações feitas antes de {@code staleClaimBefore} são
+     * consideradas abandonadas e os digests voltam a ser elegíveis.
+     */
+    List<VoteReceiptDigest> claimDue(LocalDateTime firstReceiptBefore, LocalDateTime staleClaimBefore, int limit);
+
+    /**
+     * Remove digests reclamados depois do envio. Comprovantes registrados para o
+     * mesmo usuário durante o envio continuam pendentes.
+     */
+    void complete(List<VoteReceiptDigest> digests);
+
+    /**
+     * Desfaz a reclamação de digests que não chegaram a ser enviados, deixando-os
+     * para a próxima execução.
+     */
+    void release(List<VoteReceiptDigest> digests);
+
+    record VoteReceiptDigest(
+            String userId,
+            String userEmail,
+            int receiptCount,
+            LocalDateTime firstReceiptAt,
+            LocalDateTime lastReceiptAt,
+            LocalDateTime claimedAt) {
+    }
+}
@@ -12,6 +12,21 @@ import com.example.poll_system.domain.entities.Vote;
 public interface VoteRepository {
     void save(Vote vote);
 
+    /**
+     * Grava o voto só se ainda não existir um voto com o mesmo ID ou do mesmo
+     * usuário na mesma enquete.
+     *
+     * @return {@code true} se o voto foi inserido.
+     */
+    boolean saveIfAbsent(Vote vote);
+
+    /**
+     * Versão em lote de {@link #saveIfAbsent(Vote)}.
+     *
+     * @return os votos efetivamente inseridos.
+     */
+    List<Vote> saveAllIfAbsent(List<Vote> votes);
+
     Optional<Vote> findById(String id);
 
     List<Vote> findAll();
@@ -0,0 +1,17 @@
+package com.example.poll_system.domain.gateways;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.poll_system.domain.entities.Vote;
+
+public interface VoteTallyGateway {
+    void increment(Vote vote);
+
+    void incrementAll(List<Vote> votes);
+
+    Optional<Map<String, Long>> findByPollId(String pollId);
+
+    void populate(String pollId, Map<String, Long> voteCountsByOptionId);
+}
@@ -1,28 +1,58 @@
 package com.example.poll_system.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.example.poll_system.domain.entities.events.PollClosedEvent;
+import com.example.poll_system.domain.entities.events.PollCreatedEvent;
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
+import com.example.poll_system.domain.entities.events.UserUpdatedEvent;
 import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
 import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.infrastructure.services.handlers.ProcessProfileImageHandler;
+import com.example.poll_system.infrastructure.services.handlers.RevokeUserTokensHandler;
+import com.example.poll_system.infrastructure.services.handlers.SchedulePollDeadlinesHandler;
 import com.example.poll_system.infrastructure.services.handlers.SendEmailPollClosedHandler;
 import com.example.poll_system.infrastructure.services.handlers.SendEmailVoteProcessedHandler;
 import com.example.poll_system.infrastructure.services.handlers.SendVoteQueueHandler;
 import com.example.poll_system.infrastructure.services.impl.EventDispatcher;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 public class EventDispatcherConfig {
 
+    @Value("${app.events.async.pool-size:4}")
+    private int asyncPoolSize;
+
+    @Value("${app.events.async.queue-capacity:1000}")
+    private int asyncQueueCapacity;
+
+    /**
+     * Quase todos os handlers são síncronos: o de voto precisa devolver o erro
+     * de publicação à requisição, os de email gravam no outbox dentro da
+     * transação de quem publicou, o de prazos só agenda em memória ou anuncia o
+     * prazo ao líder e o de revogação precisa valer antes da próxima requisição
+     * do usuário. O de imagem de perfil é assíncrono para tirar upload e
+     * miniaturas da requisição.
+     */
     @Bean
     public EventDispatcher eventDispatcher(
+            MeterRegistry meterRegistry,
             SendVoteQueueHandler sendVoteQueueHandler,
             SendEmailVoteProcessedHandler sendEmailVoteHandler,
-            SendEmailPollClosedHandler sendEmailPollClosedHandler) {
-        EventDispatcher eventDispatcher = new EventDispatcher();
+            SendEmailPollClosedHandler sendEmailPollClosedHandler,
+            SchedulePollDeadlinesHandler schedulePollDeadlinesHandler,
+            RevokeUserTokensHandler revokeUserTokensHandler,
+            ProcessProfileImageHandler processProfileImageHandler) {
+        EventDispatcher eventDispatcher = new EventDispatcher(meterRegistry, asyncPoolSize, asyncQueueCapacity);
         eventDispatcher.registerHandler(VoteCreatedEvent.class, sendVoteQueueHandler);
         eventDispatcher.registerHandler(VoteProcessedEvent.class, sendEmailVoteHandler);
         eventDispatcher.registerHandler(PollClosedEvent.class, sendEmailPollClosedHandler);
+        eventDispatcher.registerHandler(PollCreatedEvent.class, schedulePollDeadlinesHandler);
+        eventDispatcher.registerHandler(UserUpdatedEvent.class, revokeUserTokensHandler);
+        eventDispatcher.registerHandler(ProfileImageStagedEvent.class, processProfileImageHandler);
         return eventDispatcher;
     }
 }
@@ -0,0 +1,85 @@
+package com.example.poll_system.infrastructure.config;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Semáforos por fila aplicados como o último elemento da advice chain do
+ * container, ou seja, por dentro do retry: o permit é segurado apenas durante
+ * a chamada ao listener e não durante o backoff entre tentativas.
+ *
+ * Containers que consomem a mesma fila (por exemplo o consumidor unitário e o
+ * de lote de votos) compartilham o mesmo semáforo.
+ */
+public class ListenerConcurrencyLimiter {
+
+    private static final String METRIC_NAME = "poll.rabbitmq.listener.permits.available";
+
+    private final ListenerConcurrencyProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Semaphore> semaphoresByQueue = new ConcurrentHashMap<>();
+
+    public ListenerConcurrencyLimiter(ListenerConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Interceptor para um container que consome {@code queueNames}, ou
+     * {@code null} quando nenhuma das filas tem limite.
+     */
+    public MethodInterceptor interceptorFor(String... queueNames) {
+        Semaphore[] semaphores = Arrays.stream(queueNames)
+                .filter(queueName -> properties.permitsFor(queueName) > 0)
+                .sorted()
+                .map(this::semaphoreFor)
+                .toArray(Semaphore[]::new);
+        if (semaphores.length == 0) {
+            return null;
+        }
+        return new LimitingInterceptor(semaphores);
+    }
+
+    Semaphore semaphoreFor(String queueName) {
+        return semaphoresByQueue.computeIfAbsent(queueName, name -> {
+            Semaphore semaphore = new Semaphore(properties.permitsFor(name), true);
+            Gauge.builder(METRIC_NAME, semaphore, Semaphore::availablePermits)
+                    .tag("queue", name)
+                    .register(meterRegistry);
+            return semaphore;
+        });
+    }
+
+    private static final class LimitingInterceptor implements MethodInterceptor {
+
+        private final Semaphore[] semaphores;
+
+        private LimitingInterceptor(Semaphore[] semaphores) {
+            this.semaphores = semaphores;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            int acquired = 0;
+            try {
+                for (Semaphore semaphore : semaphores) {
+                    semaphore.acquire();
+                    acquired++;
+                }
+                return invocation.proceed();
+            } finally {
+                for (int i = 0; i < acquired; i++) {
+                    semaphores[i].release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.poll_system.infrastructure.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limite de mensagens processadas ao mesmo tempo por fila.
+ *
+ * Com virtual threads o número de consumidores do container deixa de ser o
+ * limite natural de concorrência; quem segura o acesso a JDBC, Redis e SMTP é
+ * um semáforo por fila. Filas sem entrada em {@code queues} usam
+ * {@code default-permits}; valor menor ou igual a zero desliga o limite.
+ */
+@ConfigurationProperties(prefix = "app.rabbitmq.listener.concurrency-limit")
+public class ListenerConcurrencyProperties {
+
+    private int defaultPermits = 32;
+
+    private Map<String, Integer> queues = new HashMap<>();
+
+    public int getDefaultPermits() {
+        return defaultPermits;
+    }
+
+    public void setDefaultPermits(int defaultPermits) {
+        this.defaultPermits = defaultPermits;
+    }
+
+    public Map<String, Integer> getQueues() {
+        return queues;
+    }
+
+    public void setQueues(Map<String, Integer> queues) {
+        this.queues = queues;
+    }
+
+    public int permitsFor(String queueName) {
+        return queues.getOrDefault(queueName, defaultPermits);
+    }
+}
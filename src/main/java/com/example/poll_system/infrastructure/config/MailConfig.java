@@ -0,0 +1,9 @@
+package com.example.poll_system.infrastructure.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(MailDeliveryProperties.class)
+public class MailConfig {
+}
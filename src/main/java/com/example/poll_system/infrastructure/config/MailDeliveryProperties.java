@@ -0,0 +1,107 @@
+package com.example.poll_system.infrastructure.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Entrega de emails pelo {@code MailSenderImpl}: pool de conexões SMTP e
+ * limite de envios por segundo por domínio de destino. Domínios sem entrada
+ * em {@code rate-limit.domains} usam {@code rate-limit.default-per-second};
+ * valor menor ou igual a zero desliga o limite.
+ */
+@ConfigurationProperties(prefix = "app.mail")
+public class MailDeliveryProperties {
+
+    private String from = "noreply@poll-system.com";
+
+    private Pool pool = new Pool();
+
+    private RateLimit rateLimit = new RateLimit();
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public void setPool(Pool pool) {
+        this.pool = pool;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public void setRateLimit(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    public static class Pool {
+
+        private int maxSize = 4;
+
+        private int maxMessagesPerConnection = 100;
+
+        private Duration maxIdle = Duration.ofSeconds(30);
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getMaxMessagesPerConnection() {
+            return maxMessagesPerConnection;
+        }
+
+        public void setMaxMessagesPerConnection(int maxMessagesPerConnection) {
+            this.maxMessagesPerConnection = maxMessagesPerConnection;
+        }
+
+        public Duration getMaxIdle() {
+            return maxIdle;
+        }
+
+        public void setMaxIdle(Duration maxIdle) {
+            this.maxIdle = maxIdle;
+        }
+    }
+
+    public static class RateLimit {
+
+        private double defaultPerSecond = 0;
+
+        private Map<String, Double> domains = new HashMap<>();
+
+        public double getDefaultPerSecond() {
+            return defaultPerSecond;
+        }
+
+        public void setDefaultPerSecond(double defaultPerSecond) {
+            this.defaultPerSecond = defaultPerSecond;
+        }
+
+        public Map<String, Double> getDomains() {
+            return domains;
+        }
+
+        public void setDomains(Map<String, Double> domains) {
+            this.domains = domains;
+        }
+
+        public double permitsPerSecondFor(String domain) {
+            return domains.getOrDefault(domain, defaultPerSecond);
+        }
+    }
+}
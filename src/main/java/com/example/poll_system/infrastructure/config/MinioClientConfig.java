@@ -3,6 +3,7 @@ package com.example.poll_system.infrastructure.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 
 import io.minio.BucketExistsArgs;
 import io.minio.MakeBucketArgs;
@@ -14,6 +15,12 @@ public class MinioClientConfig {
     @Value("${app.minio.url}")
     private String minioEndpoint;
 
+    @Value("${app.minio.public-url:${app.minio.url}}")
+    private String minioPublicEndpoint;
+
+    @Value("${app.minio.region:us-east-1}")
+    private String minioRegion;
+
     @Value("${app.minio.access-key}")
     private String minioAcessKey;
 
@@ -24,6 +31,7 @@ public class MinioClientConfig {
     private String minioBucketName;
 
     @Bean
+    @Primary
     MinioClient minioClient() {
         return MinioClient.builder()
                 .endpoint(minioEndpoint)
@@ -31,6 +39,20 @@ public class MinioClientConfig {
                 .build();
     }
 
+    /**
+     * Cliente usado só para assinar URLs: o host entra na assinatura, então ele
+     * aponta para o endereço que o navegador enxerga. Com a região fixa a
+     * assinatura é calculada localmente, sem ida ao MinIO.
+     */
+    @Bean
+    MinioClient minioPresignClient() {
+        return MinioClient.builder()
+                .endpoint(minioPublicEndpoint)
+                .region(minioRegion)
+                .credentials(minioAcessKey, minioSecretKey)
+                .build();
+    }
+
     @Bean
     String minioBucket(MinioClient minioClient) {
         try {
@@ -0,0 +1,91 @@
+package com.example.poll_system.infrastructure.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração do near cache em memória que fica na frente do Redis.
+ *
+ * Cada região corresponde a um prefixo de chave ({@code email}, {@code cpf},
+ * {@code pollOptionId}, ...). Chaves sem prefixo conhecido usam os valores
+ * padrão.
+ */
+@ConfigurationProperties(prefix = "app.cache.near")
+public class NearCacheProperties {
+
+    private boolean enabled;
+
+    private long maxSize = 10_000;
+
+    private Duration ttl = Duration.ofSeconds(60);
+
+    private String invalidationChannel = "cache:near:invalidation";
+
+    private Map<String, Region> regions = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    public void setInvalidationChannel(String invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    public Map<String, Region> getRegions() {
+        return regions;
+    }
+
+    public void setRegions(Map<String, Region> regions) {
+        this.regions = regions;
+    }
+
+    public static class Region {
+
+        private Long maxSize;
+
+        private Duration ttl;
+
+        public Long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Long maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
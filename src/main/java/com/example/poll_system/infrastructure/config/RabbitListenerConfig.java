@@ -0,0 +1,159 @@
+package com.example.poll_system.infrastructure.config;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.aopalliance.aop.Advice;
+import org.aopalliance.intercept.MethodInterceptor;
+
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.config.ContainerCustomizer;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Factories dos listeners RabbitMQ. Com {@code spring.threads.virtual.enabled}
+ * o configurer do Spring Boot já entrega um executor de virtual threads aos
+ * containers; aqui cada container recebe ainda o semáforo da sua fila (ver
+ * {@link ListenerConcurrencyLimiter}).
+ */
+@Configuration
+@EnableConfigurationProperties(ListenerConcurrencyProperties.class)
+public class RabbitListenerConfig {
+
+    @Value("${app.rabbitmq.vote-batch.size:100}")
+    private int voteBatchSize;
+
+    @Value("${app.rabbitmq.vote-batch.max-wait:500}")
+    private long voteBatchMaxWaitMillis;
+
+    @Value("${app.rabbitmq.email-batch.size:50}")
+    private int emailBatchSize;
+
+    @Value("${app.rabbitmq.email-batch.max-wait:1000}")
+    private long emailBatchMaxWaitMillis;
+
+    @Value("${spring.rabbitmq.listener.simple.retry.max-attempts:5}")
+    private int retryMaxAttempts;
+
+    @Value("${spring.rabbitmq.listener.simple.retry.initial-interval:1000}")
+    private long retryInitialInterval;
+
+    @Value("${spring.rabbitmq.listener.simple.retry.multiplier:1.0}")
+    private double retryMultiplier;
+
+    @Value("${spring.rabbitmq.listener.simple.retry.max-interval:10000}")
+    private long retryMaxInterval;
+
+    @Bean
+    ListenerConcurrencyLimiter listenerConcurrencyLimiter(
+            ListenerConcurrencyProperties properties,
+            MeterRegistry meterRegistry) {
+        return new ListenerConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    /**
+     * Substitui a factory padrão do Spring Boot, mantendo a configuração de
+     * {@code spring.rabbitmq.listener.simple.*}, para acrescentar o limite de
+     * concorrência por fila.
+     */
+    @Bean
+    SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerConcurrencyLimiter listenerConcurrencyLimiter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setContainerCustomizer(concurrencyLimitCustomizer(factory, listenerConcurrencyLimiter));
+        return factory;
+    }
+
+    /**
+     * Factory usada pelo consumidor de votos em lote. Drena até
+     * {@code app.rabbitmq.vote-batch.size} mensagens ou espera no máximo
+     * {@code app.rabbitmq.vote-batch.max-wait} ms antes de entregar o lote ao
+     * listener. O ack do lote inteiro só acontece quando o listener retorna, ou
+     * seja, depois do commit dos votos.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbitmq.vote-batch.enabled", havingValue = "true")
+    SimpleRabbitListenerContainerFactory voteBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerConcurrencyLimiter listenerConcurrencyLimiter) {
+        return batchListenerContainerFactory(configurer, connectionFactory, listenerConcurrencyLimiter,
+                voteBatchSize, voteBatchMaxWaitMillis);
+    }
+
+    /**
+     * Factory usada pelo consumidor de emails de voto processado em lote, para
+     * que cada lote seja enviado pelas mesmas conexões SMTP.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.rabbitmq.email-batch.enabled", havingValue = "true")
+    SimpleRabbitListenerContainerFactory emailBatchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerConcurrencyLimiter listenerConcurrencyLimiter) {
+        return batchListenerContainerFactory(configurer, connectionFactory, listenerConcurrencyLimiter,
+                emailBatchSize, emailBatchMaxWaitMillis);
+    }
+
+    private SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            ListenerConcurrencyLimiter listenerConcurrencyLimiter,
+            int batchSize,
+            long batchMaxWaitMillis) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(batchSize);
+        factory.setReceiveTimeout(batchMaxWaitMillis);
+        // O recoverer padrão do Spring Boot não sabe lidar com lotes; após as
+        // tentativas o lote é rejeitado sem requeue e segue para a DLQ.
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+                .maxAttempts(retryMaxAttempts)
+                .backOffOptions(retryInitialInterval, retryMultiplier, retryMaxInterval)
+                .recoverer(rejectBatchRecoverer())
+                .build());
+        factory.setContainerCustomizer(concurrencyLimitCustomizer(factory, listenerConcurrencyLimiter));
+        return factory;
+    }
+
+    private ContainerCustomizer<SimpleMessageListenerContainer> concurrencyLimitCustomizer(
+            SimpleRabbitListenerContainerFactory factory,
+            ListenerConcurrencyLimiter listenerConcurrencyLimiter) {
+        return container -> {
+            MethodInterceptor limiter = listenerConcurrencyLimiter.interceptorFor(container.getQueueNames());
+            if (limiter == null) {
+                return;
+            }
+            Advice[] factoryAdvice = factory.getAdviceChain() == null ? new Advice[0] : factory.getAdviceChain();
+            Advice[] adviceChain = Arrays.copyOf(factoryAdvice, factoryAdvice.length + 1);
+            adviceChain[factoryAdvice.length] = limiter;
+            container.setAdviceChain(adviceChain);
+        };
+    }
+
+    private MessageBatchRecoverer rejectBatchRecoverer() {
+        return (List<Message> messages, Throwable cause) -> {
+            throw new AmqpRejectAndDontRequeueException(
+                    "Batch of " + messages.size() + " messages rejected after retries", cause);
+        };
+    }
+}
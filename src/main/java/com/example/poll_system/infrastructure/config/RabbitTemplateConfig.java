@@ -20,6 +20,9 @@ public class RabbitTemplateConfig {
             MessageConverter converter) {
         RabbitTemplate template = new RabbitTemplate(factory);
         template.setMessageConverter(converter);
+        // Mensagens sem rota voltam para o publicador (CorrelationData#getReturned)
+        // em vez de serem descartadas silenciosamente pelo broker.
+        template.setMandatory(true);
         return template;
     }
 }
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -14,6 +15,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.gateways.JwtTokenGateway;
+import com.example.poll_system.domain.gateways.JwtTokenGateway.TokenClaims;
+import com.example.poll_system.domain.gateways.RevokedUserRegistry;
 import com.example.poll_system.domain.gateways.UserRepository;
 
 import io.jsonwebtoken.ExpiredJwtException;
@@ -23,15 +26,34 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+/**
+ * Com {@code app.security.principal-source=CLAIMS} o principal é montado das
+ * claims do token (email e papel), sem consultar o banco. Tokens de usuários
+ * alterados depois da emissão ({@link RevokedUserRegistry}) e tokens sem essas
+ * claims caem na busca do usuário por email, como no modo {@code DATABASE}.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public enum PrincipalSource {
+        CLAIMS,
+        DATABASE
+    }
+
     private final JwtTokenGateway jwtTokenGateway;
     private final UserRepository userRepository;
-
-    public JwtAuthenticationFilter(JwtTokenGateway jwtTokenGateway, UserRepository userRepository) {
+    private final RevokedUserRegistry revokedUserRegistry;
+    private final PrincipalSource principalSource;
+
+    public JwtAuthenticationFilter(
+            JwtTokenGateway jwtTokenGateway,
+            UserRepository userRepository,
+            RevokedUserRegistry revokedUserRegistry,
+            @Value("${app.security.principal-source:CLAIMS}") PrincipalSource principalSource) {
         this.jwtTokenGateway = jwtTokenGateway;
         this.userRepository = userRepository;
+        this.revokedUserRegistry = revokedUserRegistry;
+        this.principalSource = principalSource;
     }
 
     @Override
@@ -42,7 +64,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
@@ -52,25 +73,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         jwt = authHeader.substring(7);
 
         try {
-            userEmail = jwtTokenGateway.extractEmailFromToken(jwt);
+            // Assinatura e expiração são verificadas uma única vez por requisição
+            TokenClaims claims = jwtTokenGateway.verifyToken(jwt);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                Optional<User> userOptional = userRepository.findByEmail(userEmail);
+            if (claims.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (canTrustClaims(claims)) {
+                    authenticate(request, claims.email(), claims.role());
+                } else {
+                    Optional<User> userOptional = userRepository.findByEmail(claims.email());
 
-                if (userOptional.isPresent()) {
-                    User user = userOptional.get();
+                    if (userOptional.isPresent()) {
+                        User user = userOptional.get();
 
-                    if (jwtTokenGateway.isTokenValid(jwt, userEmail) && user.isActive()) {
-                        List<SimpleGrantedAuthority> authorities = List.of(
-                                new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
-
-                        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                                user.getEmail().getEmail(),
-                                null,
-                                authorities);
-
-                        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authToken);
+                        if (user.isActive()) {
+                            authenticate(request, user.getEmail().getEmail(), user.getRole().name());
+                        }
                     }
                 }
             }
@@ -112,4 +129,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean canTrustClaims(TokenClaims claims) {
+        return principalSource == PrincipalSource.CLAIMS
+                && claims.userId() != null
+                && claims.role() != null
+                && claims.issuedAt() != null
+                && !revokedUserRegistry.isRevoked(claims.userId(), claims.issuedAt());
+    }
+
+    private void authenticate(HttpServletRequest request, String email, String role) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                email,
+                null,
+                authorities);
+
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
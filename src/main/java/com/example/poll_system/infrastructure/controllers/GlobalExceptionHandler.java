@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -25,6 +26,7 @@ import com.example.poll_system.domain.exceptions.FailedToSendMessageToQueueExcep
 import com.example.poll_system.domain.exceptions.FieldIsRequiredException;
 import com.example.poll_system.domain.exceptions.InvalidDateTimeException;
 import com.example.poll_system.domain.exceptions.InvalidFieldException;
+import com.example.poll_system.domain.exceptions.TooManyRequestsException;
 
 import io.jsonwebtoken.ExpiredJwtException;
 
@@ -159,6 +161,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Trata recusas por excesso de carga, como o pool de hash de senhas cheio
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, WebRequest request) {
+        logger.warn("Request rejected due to load: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                ex.getMessage(),
+                LocalDateTime.now(),
+                request.getDescription(false).replace("uri=", ""));
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
     /**
      * Trata exceções de validação do Spring
      */
@@ -27,8 +27,11 @@ import com.example.poll_system.application.usecases.poll.impl.ListPollPageable;
 import com.example.poll_system.application.usecases.poll.impl.PollStatisticsImpl;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
 import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
 import com.example.poll_system.domain.gateways.UserRepository;
-import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -46,17 +49,26 @@ public class PollController {
     private final UserRepository userRepository;
     private final PollOptionRepository pollOptionRepository;
     private final PollRepository pollRepository;
-    private final VoteRepository voteRepository;
+    private final VoteCountRepository voteCountRepository;
+    private final VoteTallyGateway voteTallyGateway;
+    private final PollResultRepository pollResultRepository;
+    private final EventPublisher eventPublisher;
 
     public PollController(
             UserRepository userRepository,
             PollOptionRepository pollOptionRepository,
             PollRepository pollRepository,
-            VoteRepository voteRepository) {
+            VoteCountRepository voteCountRepository,
+            VoteTallyGateway voteTallyGateway,
+            PollResultRepository pollResultRepository,
+            EventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.pollOptionRepository = pollOptionRepository;
         this.pollRepository = pollRepository;
-        this.voteRepository = voteRepository;
+        this.voteCountRepository = voteCountRepository;
+        this.voteTallyGateway = voteTallyGateway;
+        this.pollResultRepository = pollResultRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @PostMapping()
@@ -68,7 +80,8 @@ public class PollController {
     })
     public ResponseEntity<CreatePollOutput> createPoll(
             @Parameter(description = "Dados para criação da enquete", required = true) @RequestBody CreatePollInput input) {
-        CreatePoll useCase = new CreatePollImpl(pollRepository, pollOptionRepository, userRepository);
+        CreatePoll useCase = new CreatePollImpl(pollRepository, pollOptionRepository, userRepository,
+                eventPublisher);
         CreatePollOutput output = useCase.execute(input);
         return ResponseEntity.ok(output);
     }
@@ -105,7 +118,8 @@ public class PollController {
     public ResponseEntity<PollStatisticsOutput> getPollStatistics(
             @Parameter(description = "Identificador único da enquete", required = true, example = "123e4567-e89b-12d3-a456-426614174000") @PathVariable String pollId) {
         PollStatisticsInput input = new PollStatisticsInput(pollId);
-        PollStatistics pollStatistics = new PollStatisticsImpl(pollRepository, voteRepository);
+        PollStatistics pollStatistics = new PollStatisticsImpl(pollRepository, voteCountRepository, voteTallyGateway,
+                pollResultRepository);
         PollStatisticsOutput output = pollStatistics.getPollStatistics(input);
         return ResponseEntity.ok(output);
     }
@@ -29,8 +29,10 @@ import com.example.poll_system.application.usecases.user.impl.FindUserById;
 import com.example.poll_system.application.usecases.user.impl.ListUserPageable;
 import com.example.poll_system.application.usecases.user.impl.UpdateUser;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 import com.example.poll_system.infrastructure.services.ObjectStorage;
 import com.example.poll_system.infrastructure.services.PasswordEncoder;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -45,17 +47,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Users", description = "API para gerenciamento de usuários do sistema de enquetes")
 public class UserController {
 
-    private final ObjectStorage objectStorage;
+    private final ProfileImagePipeline profileImagePipeline;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EventPublisher eventPublisher;
+    private final ObjectStorage objectStorage;
 
     public UserController(
-            ObjectStorage objectStorage,
+            ProfileImagePipeline profileImagePipeline,
             UserRepository userRepository,
-            PasswordEncoder passwordEncoder) {
-        this.objectStorage = objectStorage;
+            PasswordEncoder passwordEncoder,
+            EventPublisher eventPublisher,
+            ObjectStorage objectStorage) {
+        this.profileImagePipeline = profileImagePipeline;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.objectStorage = objectStorage;
     }
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -71,7 +79,8 @@ public class UserController {
 
         input.setImageProfile(imageFile);
 
-        CreateUser createUserImpl = new CreateUserImpl(userRepository, passwordEncoder, objectStorage);
+        CreateUser createUserImpl = new CreateUserImpl(userRepository, passwordEncoder, profileImagePipeline,
+                eventPublisher);
         CreateUserOutput output = createUserImpl.execute(input);
 
         return ResponseEntity.ok(output);
@@ -85,7 +94,7 @@ public class UserController {
     })
     public ResponseEntity<Page<ListUserOutput>> list(
             @Parameter(description = "Parâmetros de paginação (page, size, sort)", example = "{\"page\": 0, \"size\": 10, \"sort\": \"name,asc\"}") Pageable pageable) {
-        ListUserUseCase listUserUseCase = new ListUserPageable(userRepository);
+        ListUserUseCase listUserUseCase = new ListUserPageable(userRepository, objectStorage);
         return ResponseEntity.ok(listUserUseCase.execute(pageable));
     }
 
@@ -98,7 +107,7 @@ public class UserController {
     })
     public ResponseEntity<FindUserByIdOutput> getUserById(
             @Parameter(description = "ID único do usuário", required = true, example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable String userId) {
-        FindUserByIdUseCase findUserByIdUseCase = new FindUserById(userRepository);
+        FindUserByIdUseCase findUserByIdUseCase = new FindUserById(userRepository, objectStorage);
         return ResponseEntity.ok(findUserByIdUseCase.execute(new FindUserByIdInput(userId)));
     }
 
@@ -114,7 +123,8 @@ public class UserController {
             @Parameter(description = "ID único do usuário a ser atualizado", required = true, example = "550e8400-e29b-41d4-a716-446655440000") @PathVariable String userId,
             @Parameter(description = "Novos dados do usuário", required = true, content = @Content(schema = @Schema(implementation = UpdateUserInput.class))) @RequestPart("user") UpdateUserInput body,
             @Parameter(description = "Nova imagem de perfil do usuário", required = true) @RequestPart("imageProfile") MultipartFile imageFile) {
-        UpdateUserUseCase updateUserUseCase = new UpdateUser(userRepository, objectStorage);
+        UpdateUserUseCase updateUserUseCase = new UpdateUser(userRepository, profileImagePipeline, eventPublisher,
+                objectStorage);
         UpdateUserInput input = new UpdateUserInput(
                 userId,
                 body.name(),
@@ -20,9 +20,7 @@ import com.example.poll_system.application.usecases.vote.dto.ListVoteOutput;
 import com.example.poll_system.application.usecases.vote.impl.FindVoteById;
 import com.example.poll_system.application.usecases.vote.impl.ListVotePageable;
 import com.example.poll_system.application.usecases.vote.impl.SendVoteToQueue;
-import com.example.poll_system.domain.gateways.PollOptionRepository;
-import com.example.poll_system.domain.gateways.PollRepository;
-import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway;
 import com.example.poll_system.domain.gateways.VoteRepository;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
@@ -40,22 +38,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class VoteController {
 
     private final VoteRepository voteRepository;
-    private final UserRepository userRepository;
-    private final PollOptionRepository pollOptionRepository;
+    private final VoteAdmissionGateway voteAdmissionGateway;
     private final EventPublisher eventPublisher;
-    private final PollRepository pollRepository;
 
     public VoteController(
             VoteRepository voteRepository,
-            UserRepository userRepository,
-            PollOptionRepository pollOptionRepository,
-            EventPublisher eventPublisher,
-            PollRepository pollRepository) {
+            VoteAdmissionGateway voteAdmissionGateway,
+            EventPublisher eventPublisher) {
         this.voteRepository = voteRepository;
-        this.userRepository = userRepository;
-        this.pollOptionRepository = pollOptionRepository;
+        this.voteAdmissionGateway = voteAdmissionGateway;
         this.eventPublisher = eventPublisher;
-        this.pollRepository = pollRepository;
     }
 
     @PostMapping()
@@ -68,8 +60,7 @@ public class VoteController {
     })
     public ResponseEntity<Void> createVote(
             @Parameter(description = "Dados do voto a ser criado", required = true) @RequestBody CreateVoteInput input) {
-        CreateVote createVote = new SendVoteToQueue(pollOptionRepository, userRepository, pollRepository,
-                eventPublisher);
+        CreateVote createVote = new SendVoteToQueue(voteAdmissionGateway, eventPublisher);
         createVote.execute(input);
         return ResponseEntity.accepted().build();
     }
@@ -0,0 +1,55 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.gateways.OutboxRepository;
+
+@Repository
+@Profile("in-memory")
+public class OutboxRepositoryInMemory implements OutboxRepository {
+
+    private final Map<Long, OutboxMessage> pending = new TreeMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public synchronized void save(OutboxMessage message) {
+        long id = sequence.incrementAndGet();
+        pending.put(id, new OutboxMessage(
+                id,
+                message.aggregateId(),
+                message.exchange(),
+                message.routingKey(),
+                message.typeId(),
+                message.payload(),
+                message.createdAt()));
+    }
+
+    @Override
+    public synchronized void saveAll(List<OutboxMessage> messages) {
+        messages.forEach(this::save);
+    }
+
+    @Override
+    public synchronized List<OutboxMessage> findPending(int limit) {
+        return pending.values().stream().limit(limit).toList();
+    }
+
+    @Override
+    public synchronized void markPublished(Collection<Long> ids) {
+        // Sem histórico em memória: mensagens publicadas são descartadas.
+        ids.forEach(pending::remove);
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime threshold) {
+        return 0;
+    }
+}
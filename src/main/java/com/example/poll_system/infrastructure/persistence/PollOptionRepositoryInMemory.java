@@ -1,8 +1,11 @@
 package com.example.poll_system.infrastructure.persistence;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Repository;
@@ -10,22 +13,26 @@ import org.springframework.stereotype.Repository;
 import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
 
+/**
+ * Opções em mapa concorrente com índice por enquete.
+ */
 @Repository
 @Profile("in-memory")
 public class PollOptionRepositoryInMemory implements PollOptionRepository {
 
-    private final List<PollOption> pollOptions = new ArrayList<>();
+    private final Map<String, PollOption> pollOptionsById = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, PollOption>> pollOptionsByPollId = new ConcurrentHashMap<>();
 
     @Override
     public void save(PollOption pollOption) {
-        pollOptions.add(pollOption);
+        pollOptionsById.put(pollOption.getId(), pollOption);
+        pollOptionsByPollId.computeIfAbsent(pollOption.getPollId(), pollId -> new ConcurrentHashMap<>())
+                .put(pollOption.getId(), pollOption);
     }
 
     @Override
     public Optional<PollOption> findById(String id) {
-        return pollOptions.stream()
-                .filter(option -> option.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(pollOptionsById.get(id));
     }
 
     @Override
@@ -37,8 +44,15 @@ public class PollOptionRepositoryInMemory implements PollOptionRepository {
 
     @Override
     public List<PollOption> findByPollId(String pollId) {
-        return pollOptions.stream()
-                .filter(option -> option.getPollId().equals(pollId))
+        return List.copyOf(pollOptionsByPollId.getOrDefault(pollId, Map.of()).values());
+    }
+
+    @Override
+    public List<PollOption> findAllByIds(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(pollOptionsById::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -1,8 +1,15 @@
 package com.example.poll_system.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
@@ -15,60 +22,146 @@ import com.example.poll_system.domain.enums.PollStatus;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.PollRepository;
 
+/**
+ * Enquetes em mapa concorrente com índice por status. O status indexado é
+ * guardado à parte porque {@link Poll} é mutável: ao atualizar, o objeto
+ * anterior pode já ter o status novo, então o índice só muda dentro do
+ * {@code compute} da própria enquete.
+ */
 @Repository
 @Profile("in-memory")
 public class PollRepositoryInMemory implements PollRepository {
 
-    private final List<Poll> polls = new ArrayList<>();
+    private final Map<String, Poll> pollsById = new ConcurrentHashMap<>();
+    private final Map<String, PollStatus> indexedStatusByPollId = new ConcurrentHashMap<>();
+    private final Map<PollStatus, Set<String>> pollIdsByStatus = new ConcurrentHashMap<>();
 
     @Override
     public void save(Poll poll) {
-        polls.add(poll);
+        pollsById.put(poll.getId(), poll);
+        indexStatus(poll);
     }
 
     @Override
     public Optional<Poll> findById(String id) {
-        return polls.stream()
-                .filter(poll -> poll.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(pollsById.get(id));
     }
 
     @Override
     public List<Poll> findAll() {
-        return polls;
+        return new ArrayList<>(pollsById.values());
     }
 
     @Override
     public Page<Poll> findAll(Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), polls.size());
-
-        if (start >= polls.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, polls.size());
-        }
-
-        List<Poll> pageContent = polls.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, polls.size());
+        int total = pollsById.size();
+        List<Poll> pageContent = pollsById.values().stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(pageContent, pageable, total);
     }
 
     @Override
     public void update(Poll poll) {
-        Poll existingPoll = findById(poll.getId())
-                .orElseThrow(() -> new EntityNotFoundException("Poll not found"));
-        delete(existingPoll.getId());
-        polls.add(poll);
+        if (pollsById.replace(poll.getId(), poll) == null) {
+            throw new EntityNotFoundException("Poll not found");
+        }
+        indexStatus(poll);
     }
 
     @Override
     public void delete(String id) {
-        polls.removeIf(poll -> poll.getId().equals(id));
+        pollsById.remove(id);
+        indexedStatusByPollId.computeIfPresent(id, (pollId, status) -> {
+            pollIdsByStatus(status).remove(pollId);
+            return null;
+        });
     }
 
     @Override
     public List<Poll> findByStatus(PollStatus status) {
-        return polls.stream()
+        return pollIdsByStatus(status).stream()
+                .map(pollsById::get)
+                .filter(Objects::nonNull)
                 .filter(poll -> poll.getStatus() == status)
                 .toList();
     }
 
+    @Override
+    public List<Poll> findAllByIds(Collection<String> ids) {
+        return ids.stream()
+                .map(pollsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<PollDeadline> openAllScheduled(Collection<String> ids, LocalDateTime startDate) {
+        List<PollDeadline> opened = new ArrayList<>();
+        for (String id : ids) {
+            Poll poll = pollsById.computeIfPresent(id, (pollId, current) -> {
+                if (current.getStatus() == PollStatus.SCHEDULED) {
+                    current.open();
+                    opened.add(new PollDeadline(pollId, current.getEndDate()));
+                }
+                return current;
+            });
+            if (poll != null) {
+                indexStatus(poll);
+            }
+        }
+        return opened;
+    }
+
+    @Override
+    public List<String> closeAllOpen(Collection<String> ids, LocalDateTime endDate) {
+        List<String> closed = new ArrayList<>();
+        for (String id : ids) {
+            Poll poll = pollsById.computeIfPresent(id, (pollId, current) -> {
+                if (current.getStatus() == PollStatus.OPEN) {
+                    current.close();
+                    closed.add(pollId);
+                }
+                return current;
+            });
+            if (poll != null) {
+                indexStatus(poll);
+            }
+        }
+        return closed;
+    }
+
+    @Override
+    public List<PollDeadline> findScheduledStartingUntil(LocalDateTime until) {
+        return findDeadlinesUntil(PollStatus.SCHEDULED, Poll::getStartDate, until);
+    }
+
+    @Override
+    public List<PollDeadline> findOpenEndingUntil(LocalDateTime until) {
+        return findDeadlinesUntil(PollStatus.OPEN, Poll::getEndDate, until);
+    }
+
+    private List<PollDeadline> findDeadlinesUntil(PollStatus status, Function<Poll, LocalDateTime> dueAt,
+            LocalDateTime until) {
+        return findByStatus(status).stream()
+                .filter(poll -> !dueAt.apply(poll).isAfter(until))
+                .map(poll -> new PollDeadline(poll.getId(), dueAt.apply(poll)))
+                .toList();
+    }
+
+    private void indexStatus(Poll poll) {
+        indexedStatusByPollId.compute(poll.getId(), (pollId, previous) -> {
+            if (previous != null && previous != poll.getStatus()) {
+                pollIdsByStatus(previous).remove(pollId);
+            }
+            pollIdsByStatus(poll.getStatus()).add(pollId);
+            return poll.getStatus();
+        });
+    }
+
+    private Set<String> pollIdsByStatus(PollStatus status) {
+        return pollIdsByStatus.computeIfAbsent(status, key -> ConcurrentHashMap.newKeySet());
+    }
+
 }
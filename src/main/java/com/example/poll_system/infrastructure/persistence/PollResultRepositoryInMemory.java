@@ -0,0 +1,51 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+
+@Repository
+@Profile("in-memory")
+public class PollResultRepositoryInMemory implements PollResultRepository {
+
+    private final Map<String, PollResult> resultsByPollId = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(PollResult pollResult) {
+        resultsByPollId.putIfAbsent(pollResult.pollId(), pollResult);
+    }
+
+    @Override
+    public void saveAll(List<PollResult> pollResults) {
+        pollResults.forEach(this::save);
+    }
+
+    @Override
+    public Optional<PollResult> findByPollId(String pollId) {
+        return Optional.ofNullable(resultsByPollId.get(pollId));
+    }
+
+    @Override
+    public void addVotes(List<Vote> votes) {
+        for (Vote vote : votes) {
+            resultsByPollId.computeIfPresent(vote.getPollId(), (pollId, result) -> withVote(result, vote));
+        }
+    }
+
+    private static PollResult withVote(PollResult result, Vote vote) {
+        List<OptionResult> options = result.options().stream()
+                .map(option -> option.pollOptionId().equals(vote.getPollOptionId())
+                        ? new OptionResult(option.pollOptionId(), option.description(), option.votesCount() + 1)
+                        : option)
+                .toList();
+        return new PollResult(result.pollId(), result.pollTitle(), result.totalVotes() + 1, result.closedAt(),
+                options);
+    }
+}
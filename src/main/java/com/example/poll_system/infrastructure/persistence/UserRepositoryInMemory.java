@@ -1,11 +1,17 @@
 package com.example.poll_system.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -14,64 +20,132 @@ import com.example.poll_system.domain.gateways.UserRepository;
 import com.example.poll_system.domain.value_objects.Cpf;
 import com.example.poll_system.domain.value_objects.Email;
 
+/**
+ * Usuários em mapa concorrente com índices de email e CPF apontando para o id.
+ *
+ * As chaves indexadas de cada usuário são guardadas à parte: o objeto salvo é
+ * o mesmo devolvido por {@link #findById}, então quando chega ao
+ * {@link #update} ele já tem o email e o CPF novos e não serve para achar as
+ * entradas antigas do índice.
+ */
 @Repository
 @Profile("in-memory")
 public class UserRepositoryInMemory implements UserRepository {
-    private final List<User> users = new ArrayList<>();
+
+    private final Map<String, User> usersById = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdByEmail = new ConcurrentHashMap<>();
+    private final Map<String, String> userIdByCpf = new ConcurrentHashMap<>();
+    private final Map<String, IndexedKeys> indexedKeysByUserId = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> imageStagedAtByUserId = new ConcurrentHashMap<>();
 
     public UserRepositoryInMemory() {
-        users.add(User.createAdmin("1", "John Doe", new Cpf("74571762097"), new Email("john.doe@email.com"),
+        save(User.createAdmin("1", "John Doe", new Cpf("74571762097"), new Email("john.doe@email.com"),
                 "QAZ123qaz*", "fake_url"));
     }
 
     @Override
     public void save(User user) {
-        users.add(user);
+        usersById.put(user.getId(), user);
+        index(user);
     }
 
     @Override
     public Optional<User> findById(String id) {
-        return users.stream()
-                .filter(user -> user.getId().equals(id))
-                .findFirst();
+        return Optional.ofNullable(usersById.get(id));
     }
 
     @Override
     public List<User> findAll() {
-        return users;
+        return new ArrayList<>(usersById.values());
     }
 
     @Override
     public void delete(String id) {
-        users.removeIf(user -> user.getId().equals(id));
+        usersById.remove(id);
+        unindex(id);
+        imageStagedAtByUserId.remove(id);
     }
 
     @Override
     public void update(User user) {
-        User existingUser = findById(user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        delete(existingUser.getId());
-        users.add(user);
+        if (!usersById.containsKey(user.getId())) {
+            throw new IllegalArgumentException("User not found");
+        }
+        save(user);
     }
 
     @Override
     public Optional<User> findByEmail(String email) {
-        return users.stream()
-                .filter(user -> user.getEmail().getEmail().equals(email))
-                .findFirst();
+        return Optional.ofNullable(userIdByEmail.get(email))
+                .map(usersById::get);
     }
 
     @Override
     public Optional<User> findByCpf(String cpf) {
-        return users.stream()
-                .filter(user -> user.getCpf().getCpf().equals(cpf))
-                .findFirst();
+        return Optional.ofNullable(userIdByCpf.get(cpf))
+                .map(usersById::get);
     }
 
     @Override
     public Page<User> findAll(Pageable pageable) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'findAll'");
+        int total = usersById.size();
+        List<User> pageContent = usersById.values().stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(pageContent, pageable, total);
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<String> ids) {
+        return ids.stream()
+                .distinct()
+                .map(usersById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public boolean changeUrlImageProfile(String userId, String urlImageProfile, LocalDateTime stagedAt) {
+        User user = usersById.get(userId);
+        if (user == null) {
+            return false;
+        }
+        LocalDateTime applied = imageStagedAtByUserId.compute(userId, (id, current) -> {
+            if (current != null && !stagedAt.isAfter(current)) {
+                return current;
+            }
+            user.changeUrlImageProfile(urlImageProfile);
+            return stagedAt;
+        });
+        return applied == stagedAt;
+    }
+
+    private void index(User user) {
+        IndexedKeys keys = new IndexedKeys(user.getEmail().getEmail(), user.getCpf().getCpf());
+        indexedKeysByUserId.compute(user.getId(), (userId, previous) -> {
+            if (previous != null) {
+                removeKeys(userId, previous);
+            }
+            userIdByEmail.put(keys.email(), userId);
+            userIdByCpf.put(keys.cpf(), userId);
+            return keys;
+        });
+    }
+
+    private void unindex(String userId) {
+        indexedKeysByUserId.computeIfPresent(userId, (id, keys) -> {
+            removeKeys(id, keys);
+            return null;
+        });
+    }
+
+    private void removeKeys(String userId, IndexedKeys keys) {
+        userIdByEmail.remove(keys.email(), userId);
+        userIdByCpf.remove(keys.cpf(), userId);
+    }
+
+    private record IndexedKeys(String email, String cpf) {
     }
 
 }
@@ -0,0 +1,43 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.gateways.PollOptionRepository;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway;
+
+@Repository
+@Profile("in-memory")
+public class VoteAdmissionGatewayInMemory implements VoteAdmissionGateway {
+
+    private final UserRepository userRepository;
+    private final PollOptionRepository pollOptionRepository;
+    private final PollRepository pollRepository;
+
+    public VoteAdmissionGatewayInMemory(
+            UserRepository userRepository,
+            PollOptionRepository pollOptionRepository,
+            PollRepository pollRepository) {
+        this.userRepository = userRepository;
+        this.pollOptionRepository = pollOptionRepository;
+        this.pollRepository = pollRepository;
+    }
+
+    @Override
+    public Admission check(String userId, String pollOptionId) {
+        boolean userExists = userRepository.findById(userId).isPresent();
+        Optional<PollOption> pollOption = pollOptionRepository.findById(pollOptionId);
+        Optional<Poll> poll = pollOption.flatMap(option -> pollRepository.findById(option.getPollId()));
+        return new Admission(
+                userExists,
+                pollOption.isPresent(),
+                poll.map(Poll::getId).orElse(null),
+                poll.map(Poll::getStatus).orElse(null));
+    }
+}
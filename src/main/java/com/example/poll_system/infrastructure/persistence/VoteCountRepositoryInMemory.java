@@ -0,0 +1,82 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteRepository;
+
+/**
+ * Contadores por opção em {@link LongAdder}, agrupados por enquete, para que
+ * consumidores concorrentes incrementem sem disputar um lock.
+ */
+@Repository
+@Profile("in-memory")
+public class VoteCountRepositoryInMemory implements VoteCountRepository {
+
+    private final Map<String, Map<String, LongAdder>> countsByPollId = new ConcurrentHashMap<>();
+
+    private final VoteRepository voteRepository;
+
+    public VoteCountRepositoryInMemory(VoteRepository voteRepository) {
+        this.voteRepository = voteRepository;
+    }
+
+    @Override
+    public void increment(Vote vote) {
+        countsByPollId.computeIfAbsent(vote.getPollId(), pollId -> new ConcurrentHashMap<>())
+                .computeIfAbsent(vote.getPollOptionId(), optionId -> new LongAdder())
+                .increment();
+    }
+
+    @Override
+    public void incrementAll(List<Vote> votes) {
+        for (Vote vote : votes) {
+            increment(vote);
+        }
+    }
+
+    @Override
+    public Map<String, Long> findCountsByPollId(String pollId) {
+        Map<String, Long> counts = new HashMap<>();
+        countsByPollId.getOrDefault(pollId, Map.of())
+                .forEach((optionId, count) -> counts.put(optionId, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> findCountsByPollIds(Collection<String> pollIds) {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        for (String pollId : pollIds) {
+            if (countsByPollId.containsKey(pollId)) {
+                counts.put(pollId, findCountsByPollId(pollId));
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> lockCountsByPollIds(Collection<String> pollIds) {
+        return findCountsByPollIds(pollIds);
+    }
+
+    @Override
+    public void rebuildByPollId(String pollId) {
+        Map<String, LongAdder> rebuilt = new ConcurrentHashMap<>();
+        voteRepository.countVotesByPollIdGroupedByOptionId(pollId).forEach((optionId, count) -> {
+            LongAdder adder = new LongAdder();
+            adder.add(count);
+            rebuilt.put(optionId, adder);
+        });
+        countsByPollId.put(pollId, rebuilt);
+    }
+
+}
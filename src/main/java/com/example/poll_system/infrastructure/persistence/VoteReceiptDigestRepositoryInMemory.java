@@ -0,0 +1,91 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository;
+
+@Repository
+@Profile("in-memory")
+public class VoteReceiptDigestRepositoryInMemory implements VoteReceiptDigestRepository {
+
+    private final Map<String, VoteReceiptDigest> digestsByUserId = new ConcurrentHashMap<>();
+    // Digests reclamados e ainda não confirmados; comprovantes novos do mesmo
+    // usuário acumulam em digestsByUserId enquanto isso
+    private final Map<String, VoteReceiptDigest> claimedByUserId = new ConcurrentHashMap<>();
+
+    @Override
+    public void record(String userId, String userEmail, LocalDateTime occurredAt) {
+        merge(new VoteReceiptDigest(userId, userEmail, 1, occurredAt, occurredAt, null));
+    }
+
+    @Override
+    public synchronized List<VoteReceiptDigest> claimDue(LocalDateTime firstReceiptBefore,
+            LocalDateTime staleClaimBefore, int limit) {
+        List<VoteReceiptDigest> stale = claimedByUserId.values().stream()
+                .filter(digest -> digest.claimedAt().isBefore(staleClaimBefore))
+                .toList();
+        release(stale);
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<VoteReceiptDigest> claimed = digestsByUserId.values().stream()
+                .filter(digest -> !claimedByUserId.containsKey(digest.userId()))
+                .filter(digest -> digest.firstReceiptAt().isBefore(firstReceiptBefore))
+                .sorted(Comparator.comparing(VoteReceiptDigest::firstReceiptAt))
+                .limit(limit)
+                .filter(digest -> digestsByUserId.remove(digest.userId(), digest))
+                .map(digest -> new VoteReceiptDigest(
+                        digest.userId(),
+                        digest.userEmail(),
+                        digest.receiptCount(),
+                        digest.firstReceiptAt(),
+                        digest.lastReceiptAt(),
+                        claimedAt))
+                .toList();
+        claimed.forEach(digest -> claimedByUserId.put(digest.userId(), digest));
+        return claimed;
+    }
+
+    @Override
+    public synchronized void complete(List<VoteReceiptDigest> digests) {
+        digests.forEach(digest -> claimedByUserId.remove(digest.userId(), digest));
+    }
+
+    @Override
+    public synchronized void release(List<VoteReceiptDigest> digests) {
+        digests.stream()
+                .filter(digest -> claimedByUserId.remove(digest.userId(), digest))
+                .map(digest -> new VoteReceiptDigest(
+                        digest.userId(),
+                        digest.userEmail(),
+                        digest.receiptCount(),
+                        digest.firstReceiptAt(),
+                        digest.lastReceiptAt(),
+                        null))
+                .forEach(this::merge);
+    }
+
+    private void merge(VoteReceiptDigest digest) {
+        digestsByUserId.merge(digest.userId(), digest,
+                (current, added) -> new VoteReceiptDigest(
+                        added.userId(),
+                        added.userEmail(),
+                        current.receiptCount() + added.receiptCount(),
+                        min(current.firstReceiptAt(), added.firstReceiptAt()),
+                        max(current.lastReceiptAt(), added.lastReceiptAt()),
+                        null));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
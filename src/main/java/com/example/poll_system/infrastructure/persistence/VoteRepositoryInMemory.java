@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.springframework.context.annotation.Profile;
@@ -16,62 +17,109 @@ import com.example.poll_system.domain.entities.Vote;
 import com.example.poll_system.domain.enums.VoteStatus;
 import com.example.poll_system.domain.gateways.VoteRepository;
 
+/**
+ * Votos em mapas concorrentes, com índices por enquete e por (usuário,
+ * enquete). A chave (usuário, enquete) faz o papel do índice único
+ * {@code uk_votes_user_id_poll_id}: {@link #saveIfAbsent} a reserva com
+ * {@code putIfAbsent}, sem lock global, e só então grava o voto.
+ */
 @Repository
 @Profile("in-memory")
 public class VoteRepositoryInMemory implements VoteRepository {
 
-    private final List<Vote> votes = new ArrayList<>();
+    private final Map<String, Vote> votesById = new ConcurrentHashMap<>();
+    private final Map<String, String> voteIdByUserAndPoll = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Vote>> votesByPollId = new ConcurrentHashMap<>();
 
     @Override
     public void save(Vote vote) {
-        votes.add(vote);
+        voteIdByUserAndPoll.put(userAndPollKey(vote), vote.getId());
+        index(vote);
     }
 
     @Override
-    public Optional<Vote> findById(String id) {
+    public boolean saveIfAbsent(Vote vote) {
+        String userAndPollKey = userAndPollKey(vote);
+        if (voteIdByUserAndPoll.putIfAbsent(userAndPollKey, vote.getId()) != null) {
+            return false;
+        }
+        if (votesById.putIfAbsent(vote.getId(), vote) != null) {
+            voteIdByUserAndPoll.remove(userAndPollKey, vote.getId());
+            return false;
+        }
+        votesByPollId.computeIfAbsent(vote.getPollId(), pollId -> new ConcurrentHashMap<>())
+                .put(vote.getId(), vote);
+        return true;
+    }
+
+    @Override
+    public List<Vote> saveAllIfAbsent(List<Vote> votes) {
         return votes.stream()
-                .filter(vote -> vote.getId().equals(id))
-                .findFirst();
+                .filter(this::saveIfAbsent)
+                .toList();
+    }
+
+    @Override
+    public Optional<Vote> findById(String id) {
+        return Optional.ofNullable(votesById.get(id));
     }
 
     @Override
     public List<Vote> findAll() {
-        return votes;
+        return new ArrayList<>(votesById.values());
     }
 
     @Override
     public Page<Vote> findAll(Pageable pageable) {
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), votes.size());
-
-        if (start >= votes.size()) {
-            return new PageImpl<>(new ArrayList<>(), pageable, votes.size());
-        }
-
-        List<Vote> pageContent = votes.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, votes.size());
+        int total = votesById.size();
+        List<Vote> pageContent = votesById.values().stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(pageContent, pageable, total);
     }
 
     @Override
     public void delete(String id) {
-        votes.removeIf(vote -> vote.getId().equals(id));
+        Vote removed = votesById.remove(id);
+        if (removed == null) {
+            return;
+        }
+        voteIdByUserAndPoll.remove(userAndPollKey(removed), id);
+        Map<String, Vote> pollVotes = votesByPollId.get(removed.getPollId());
+        if (pollVotes != null) {
+            pollVotes.remove(id);
+        }
     }
 
     @Override
     public List<Vote> findByPollId(String pollId) {
-        return votes.stream()
-                .filter(vote -> vote.getPollId().equals(pollId))
-                .toList();
+        return List.copyOf(votesByPollId.getOrDefault(pollId, Map.of()).values());
     }
 
     @Override
     public Map<String, Long> countVotesByPollIdGroupedByOptionId(String pollId) {
-        return votes.stream()
-                .filter(vote -> vote.getPollId().equals(pollId))
+        return votesByPollId.getOrDefault(pollId, Map.of()).values().stream()
                 .filter(vote -> vote.getStatus() == VoteStatus.PROCESSED)
                 .collect(Collectors.groupingBy(
                         Vote::getPollOptionId,
                         Collectors.counting()));
     }
 
+    private void index(Vote vote) {
+        Vote previous = votesById.put(vote.getId(), vote);
+        if (previous != null && !previous.getPollId().equals(vote.getPollId())) {
+            Map<String, Vote> previousPollVotes = votesByPollId.get(previous.getPollId());
+            if (previousPollVotes != null) {
+                previousPollVotes.remove(vote.getId());
+            }
+        }
+        votesByPollId.computeIfAbsent(vote.getPollId(), pollId -> new ConcurrentHashMap<>())
+                .put(vote.getId(), vote);
+    }
+
+    private static String userAndPollKey(Vote vote) {
+        return vote.getUserId() + ":" + vote.getPollId();
+    }
+
 }
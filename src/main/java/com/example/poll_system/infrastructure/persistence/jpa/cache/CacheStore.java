@@ -1,10 +1,14 @@
 package com.example.poll_system.infrastructure.persistence.jpa.cache;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CacheStore<K, V> {
     Optional<V> get(K key);
 
+    Map<K, V> getAll(Collection<K> keys);
+
     void put(K key, V value);
 
     void evict(K key);
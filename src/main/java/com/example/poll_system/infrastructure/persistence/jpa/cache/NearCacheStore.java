@@ -0,0 +1,155 @@
+package com.example.poll_system.infrastructure.persistence.jpa.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.infrastructure.config.NearCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache em dois níveis: um cache em memória (Caffeine), limitado por tamanho e
+ * TTL e separado por prefixo de chave, na frente do {@link RedisCacheStore}.
+ *
+ * Um {@code evict} remove a chave localmente e no Redis e avisa os demais nós
+ * pelo canal de pub/sub configurado, que descartam a cópia local. Escritas via
+ * {@code put} não são propagadas; o TTL local limita por quanto tempo outro nó
+ * pode servir um valor antigo.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "app.cache.near.enabled", havingValue = "true")
+public class NearCacheStore<T> implements CacheStore<String, T>, MessageListener {
+
+    private static final String DEFAULT_REGION = "default";
+    private static final char PREFIX_SEPARATOR = ':';
+
+    private final RedisCacheStore<T> delegate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NearCacheProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache<String, T>> regions = new ConcurrentHashMap<>();
+
+    public NearCacheStore(
+            RedisCacheStore<T> delegate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            NearCacheProperties properties) {
+        this.delegate = delegate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        listenerContainer.addMessageListener(this, new ChannelTopic(properties.getInvalidationChannel()));
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(NearCacheStore.class);
+
+    @Override
+    public Optional<T> get(String key) {
+        Cache<String, T> region = regionFor(key);
+        T local = region.getIfPresent(key);
+        if (local != null) {
+            return Optional.of(local);
+        }
+        Optional<T> remote = delegate.get(key);
+        remote.ifPresent(value -> region.put(key, value));
+        return remote;
+    }
+
+    @Override
+    public Map<String, T> getAll(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : keys) {
+            T local = regionFor(key).getIfPresent(key);
+            if (local != null) {
+                result.put(key, local);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+        if (!missingKeys.isEmpty()) {
+            Map<String, T> remote = delegate.getAll(missingKeys);
+            remote.forEach((key, value) -> regionFor(key).put(key, value));
+            result.putAll(remote);
+        }
+        return result;
+    }
+
+    @Override
+    public void put(String key, T value) {
+        delegate.put(key, value);
+        regionFor(key).put(key, value);
+    }
+
+    @Override
+    public void evict(String key) {
+        regionFor(key).invalidate(key);
+        delegate.evict(key);
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.indexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        String originNodeId = payload.substring(0, separator);
+        if (nodeId.equals(originNodeId)) {
+            return;
+        }
+        String key = payload.substring(separator + 1);
+        regionFor(key).invalidate(key);
+    }
+
+    private void publishInvalidation(String key) {
+        try {
+            stringRedisTemplate.convertAndSend(properties.getInvalidationChannel(), nodeId + "|" + key);
+        } catch (Exception e) {
+            sendWarningLogMessageInvalidationNotPublished(key, e);
+        }
+    }
+
+    private Cache<String, T> regionFor(String key) {
+        int separator = key.indexOf(PREFIX_SEPARATOR);
+        String regionName = separator > 0 ? key.substring(0, separator) : DEFAULT_REGION;
+        if (!properties.getRegions().containsKey(regionName)) {
+            regionName = DEFAULT_REGION;
+        }
+        return regions.computeIfAbsent(regionName, this::buildRegion);
+    }
+
+    private Cache<String, T> buildRegion(String regionName) {
+        NearCacheProperties.Region region = properties.getRegions().get(regionName);
+        long maxSize = region != null && region.getMaxSize() != null ? region.getMaxSize() : properties.getMaxSize();
+        Duration ttl = region != null && region.getTtl() != null ? region.getTtl() : properties.getTtl();
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    private void sendWarningLogMessageInvalidationNotPublished(String key, Exception e) {
+        logger.warn("Near cache invalidation not published for key {}: {}", key, e.getMessage());
+    }
+}
@@ -1,6 +1,11 @@
 package com.example.poll_system.infrastructure.persistence.jpa.cache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.redis.core.RedisTemplate;
@@ -27,6 +32,31 @@ public class RedisCacheStore<T> implements CacheStore<String, T> {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, T> getAll(Collection<String> keys) {
+        Map<String, T> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        try {
+            List<String> orderedKeys = new ArrayList<>(keys);
+            List<Object> values = redisTemplate.opsForValue().multiGet(orderedKeys);
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                Object cached = values.get(i);
+                if (cached != null) {
+                    result.put(orderedKeys.get(i), (T) cached);
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            return result;
+        }
+    }
+
     @Override
     public void put(String key, T value) {
         try {
@@ -0,0 +1,55 @@
+package com.example.poll_system.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "poll_option_vote_counts")
+public class PollOptionVoteCountEntity {
+
+    @Id
+    @Column(name = "poll_option_id")
+    private String pollOptionId;
+
+    @Column(name = "poll_id", nullable = false)
+    private String pollId;
+
+    @Column(name = "vote_count", nullable = false)
+    private Long voteCount;
+
+    public PollOptionVoteCountEntity() {
+    }
+
+    public PollOptionVoteCountEntity(String pollOptionId, String pollId, Long voteCount) {
+        this.pollOptionId = pollOptionId;
+        this.pollId = pollId;
+        this.voteCount = voteCount;
+    }
+
+    public String getPollOptionId() {
+        return pollOptionId;
+    }
+
+    public void setPollOptionId(String pollOptionId) {
+        this.pollOptionId = pollOptionId;
+    }
+
+    public String getPollId() {
+        return pollId;
+    }
+
+    public void setPollId(String pollId) {
+        this.pollId = pollId;
+    }
+
+    public Long getVoteCount() {
+        return voteCount;
+    }
+
+    public void setVoteCount(Long voteCount) {
+        this.voteCount = voteCount;
+    }
+
+}
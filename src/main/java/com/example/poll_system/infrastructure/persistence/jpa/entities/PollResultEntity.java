@@ -0,0 +1,96 @@
+package com.example.poll_system.infrastructure.persistence.jpa.entities;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+@Entity
+@Table(name = "poll_results")
+public class PollResultEntity implements Persistable<String> {
+
+    @Id
+    @Column(name = "poll_id")
+    private String pollId;
+
+    @Column(name = "poll_title", nullable = false)
+    private String pollTitle;
+
+    @Column(name = "total_votes", nullable = false)
+    private long totalVotes;
+
+    @Column(name = "closed_at", nullable = false)
+    private LocalDateTime closedAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "poll_result_options", joinColumns = @JoinColumn(name = "poll_id"))
+    @OrderColumn(name = "position")
+    private List<PollResultOptionEmbeddable> options = new ArrayList<>();
+
+    // Snapshots só são inseridos: com id atribuído, sem isto o save faria um
+    // SELECT por snapshot antes do INSERT
+    @Transient
+    private boolean isNew = true;
+
+    public PollResultEntity() {
+    }
+
+    public PollResultEntity(String pollId, String pollTitle, long totalVotes, LocalDateTime closedAt,
+            List<PollResultOptionEmbeddable> options) {
+        this.pollId = pollId;
+        this.pollTitle = pollTitle;
+        this.totalVotes = totalVotes;
+        this.closedAt = closedAt;
+        this.options = new ArrayList<>(options);
+    }
+
+    @Override
+    public String getId() {
+        return pollId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public String getPollId() {
+        return pollId;
+    }
+
+    public String getPollTitle() {
+        return pollTitle;
+    }
+
+    public long getTotalVotes() {
+        return totalVotes;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public List<PollResultOptionEmbeddable> getOptions() {
+        return options;
+    }
+}
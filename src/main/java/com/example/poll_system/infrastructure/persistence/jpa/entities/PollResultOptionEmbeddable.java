@@ -0,0 +1,38 @@
+package com.example.poll_system.infrastructure.persistence.jpa.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class PollResultOptionEmbeddable {
+
+    @Column(name = "poll_option_id", nullable = false)
+    private String pollOptionId;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "votes_count", nullable = false)
+    private long votesCount;
+
+    public PollResultOptionEmbeddable() {
+    }
+
+    public PollResultOptionEmbeddable(String pollOptionId, String description, long votesCount) {
+        this.pollOptionId = pollOptionId;
+        this.description = description;
+        this.votesCount = votesCount;
+    }
+
+    public String getPollOptionId() {
+        return pollOptionId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getVotesCount() {
+        return votesCount;
+    }
+}
@@ -32,7 +32,8 @@ public class UserEntity {
     @Column(nullable = false)
     private UserRole role;
 
-    @Column(name = "url_image_profile")
+    // Só o pipeline de imagem altera, pelo UPDATE condicional do UserJpaRepository
+    @Column(name = "url_image_profile", updatable = false)
     private String urlImageProfile;
 
     @Column(name = "is_active", nullable = false)
@@ -0,0 +1,66 @@
+package com.example.poll_system.infrastructure.persistence.jpa.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "vote_receipt_digests")
+public class VoteReceiptDigestEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "user_email", nullable = false)
+    private String userEmail;
+
+    @Column(name = "receipt_count", nullable = false)
+    private int receiptCount;
+
+    @Column(name = "first_receipt_at", nullable = false)
+    private LocalDateTime firstReceiptAt;
+
+    @Column(name = "last_receipt_at", nullable = false)
+    private LocalDateTime lastReceiptAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "claimed_count", nullable = false)
+    private int claimedCount;
+
+    public VoteReceiptDigestEntity() {
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getUserEmail() {
+        return userEmail;
+    }
+
+    public int getReceiptCount() {
+        return receiptCount;
+    }
+
+    public LocalDateTime getFirstReceiptAt() {
+        return firstReceiptAt;
+    }
+
+    public LocalDateTime getLastReceiptAt() {
+        return lastReceiptAt;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public int getClaimedCount() {
+        return claimedCount;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.infrastructure.persistence.jpa.entities.OutboxEventEntity;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    @Query("SELECT o FROM OutboxEventEntity o WHERE o.publishedAt IS NULL ORDER BY o.id")
+    List<OutboxEventEntity> findPending(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE OutboxEventEntity o SET o.publishedAt = :publishedAt WHERE o.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity o WHERE o.publishedAt < :threshold")
+    int deletePublishedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,106 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.domain.gateways.OutboxRepository;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.OutboxEventEntity;
+
+@Repository
+@Profile("jpa")
+public class OutboxRepositoryJpa implements OutboxRepository {
+
+    private static final String INSERT_OUTBOX_EVENT_SQL = "INSERT INTO outbox_events "
+            + "(aggregate_id, exchange, routing_key, type_id, payload, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final OutboxEventJpaRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String jdbcTimeZone;
+
+    public OutboxRepositoryJpa(OutboxEventJpaRepository jpaRepository, JdbcTemplate jdbcTemplate) {
+        this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void save(OutboxMessage message) {
+        jpaRepository.save(new OutboxEventEntity(
+                message.aggregateId(),
+                message.exchange(),
+                message.routingKey(),
+                message.typeId(),
+                message.payload(),
+                message.createdAt()));
+    }
+
+    /**
+     * O id IDENTITY impede o Hibernate de agrupar os INSERTs; o lote vai em um
+     * único batch JDBC, na conexão da transação corrente.
+     */
+    @Override
+    public void saveAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Calendar calendar = jdbcCalendar();
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.aggregateId());
+            ps.setString(2, message.exchange());
+            ps.setString(3, message.routingKey());
+            ps.setString(4, message.typeId());
+            ps.setString(5, message.payload());
+            ps.setTimestamp(6, Timestamp.valueOf(message.createdAt()), calendar);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OutboxMessage> findPending(int limit) {
+        return jpaRepository.findPending(PageRequest.of(0, limit)).stream()
+                .map(entity -> new OutboxMessage(
+                        entity.getId(),
+                        entity.getAggregateId(),
+                        entity.getExchange(),
+                        entity.getRoutingKey(),
+                        entity.getTypeId(),
+                        entity.getPayload(),
+                        entity.getCreatedAt()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markPublished(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jpaRepository.markPublished(ids, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public int deletePublishedBefore(LocalDateTime threshold) {
+        return jpaRepository.deletePublishedBefore(threshold);
+    }
+
+    // Mesmo fuso usado pelo Hibernate para colunas TIMESTAMP
+    private Calendar jdbcCalendar() {
+        return jdbcTimeZone.isBlank()
+                ? Calendar.getInstance()
+                : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+    }
+}
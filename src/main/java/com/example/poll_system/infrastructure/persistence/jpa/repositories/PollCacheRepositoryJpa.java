@@ -0,0 +1,190 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.infrastructure.persistence.jpa.cache.CacheStore;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntity;
+import com.example.poll_system.infrastructure.persistence.jpa.mappers.PollMapper;
+
+@Repository
+@Profile("jpa")
+public class PollCacheRepositoryJpa implements PollRepository {
+
+    private final PollJpaRepository jpaRepository;
+    private final CacheStore<String, PollEntity> cacheStore;
+    private final PollMapper pollMapper;
+    private final PollStatusTransitions pollStatusTransitions;
+
+    public PollCacheRepositoryJpa(
+            PollJpaRepository jpaRepository,
+            CacheStore<String, PollEntity> cacheStore,
+            PollMapper pollMapper,
+            PollStatusTransitions pollStatusTransitions) {
+        this.jpaRepository = jpaRepository;
+        this.cacheStore = cacheStore;
+        this.pollMapper = pollMapper;
+        this.pollStatusTransitions = pollStatusTransitions;
+    }
+
+    @Override
+    public void save(Poll poll) {
+        PollEntity entity = pollMapper.toEntity(poll);
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    public Optional<Poll> findById(String id) {
+        Optional<PollEntity> cachedEntity = cacheStore.get(cacheKey(id));
+        if (cachedEntity.isPresent()) {
+            return Optional.of(pollMapper.toDomain(cachedEntity.get()));
+        }
+        // Carrega enquete e opções em uma única consulta
+        Optional<PollEntity> entity = jpaRepository.findByIdWithOptions(id);
+        if (entity.isPresent()) {
+            Poll poll = pollMapper.toDomain(entity.get());
+            // Cacheia uma cópia desanexada do agregado, sem proxies do Hibernate
+            cacheStore.put(cacheKey(id), pollMapper.toEntity(poll));
+            return Optional.of(poll);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Poll> findAll() {
+        List<PollEntity> entities = jpaRepository.findAll();
+        return entities.stream()
+                .map(pollMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<Poll> findAll(Pageable pageable) {
+        Page<PollEntity> entitiesPage = jpaRepository.findAll(pageable);
+        return entitiesPage.map(pollMapper::toDomain);
+    }
+
+    @Override
+    public void update(Poll poll) {
+        PollEntity entity = pollMapper.toEntity(poll);
+        evict(poll.getId());
+        evictAdmissions(poll.getOptions().stream().map(PollOption::getId).toList());
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    public void delete(String id) {
+        evict(id);
+        evictAdmissions(jpaRepository.findOptionIdsByPollIdIn(List.of(id)));
+        jpaRepository.deleteById(id);
+    }
+
+    @Override
+    public List<Poll> findByStatus(PollStatus status) {
+        List<PollEntity> entities = jpaRepository.findByStatus(status);
+        return entities.stream()
+                .map(pollMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Poll> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdWithOptions(ids).stream()
+                .map(pollMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<PollDeadline> openAllScheduled(Collection<String> ids, LocalDateTime startDate) {
+        List<PollDeadline> opened = pollStatusTransitions.openAllScheduled(ids, startDate);
+        List<String> openedIds = opened.stream().map(PollDeadline::pollId).toList();
+        openedIds.forEach(this::evict);
+        evictAdmissionsOf(openedIds);
+        return opened;
+    }
+
+    @Override
+    public List<String> closeAllOpen(Collection<String> ids, LocalDateTime endDate) {
+        List<String> closed = pollStatusTransitions.closeAllOpen(ids, endDate);
+        closed.forEach(this::evict);
+        evictAdmissionsOf(closed);
+        return closed;
+    }
+
+    @Override
+    public List<PollDeadline> findScheduledStartingUntil(LocalDateTime until) {
+        return jpaRepository.findStartingUntil(PollStatus.SCHEDULED, until).stream()
+                .map(view -> new PollDeadline(view.getId(), view.getDueAt()))
+                .toList();
+    }
+
+    @Override
+    public List<PollDeadline> findOpenEndingUntil(LocalDateTime until) {
+        return jpaRepository.findEndingUntil(PollStatus.OPEN, until).stream()
+                .map(view -> new PollDeadline(view.getId(), view.getDueAt()))
+                .toList();
+    }
+
+    /**
+     * Invalida o cache imediatamente e, se houver transação ativa, de novo após
+     * o commit, evitando que uma leitura concorrente recoloque no cache a versão
+     * anterior da enquete antes da alteração ser confirmada.
+     */
+    private void evict(String id) {
+        cacheStore.evict(cacheKey(id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cacheStore.evict(cacheKey(id));
+                }
+            });
+        }
+    }
+
+    /**
+     * A admissão de votos guarda o status da enquete pela chave de cada opção
+     * (ver {@link VoteAdmissionGatewayJpa}); toda mudança de status invalida
+     * essas entradas, imediatamente e de novo após o commit.
+     */
+    private void evictAdmissions(List<String> pollOptionIds) {
+        List<String> keys = pollOptionIds.stream().map(VoteAdmissionGatewayJpa::pollOptionKey).toList();
+        keys.forEach(cacheStore::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    keys.forEach(cacheStore::evict);
+                }
+            });
+        }
+    }
+
+    private void evictAdmissionsOf(List<String> pollIds) {
+        if (!pollIds.isEmpty()) {
+            evictAdmissions(jpaRepository.findOptionIdsByPollIdIn(pollIds));
+        }
+    }
+
+    private String cacheKey(String id) {
+        return "pollId:" + id;
+    }
+
+}
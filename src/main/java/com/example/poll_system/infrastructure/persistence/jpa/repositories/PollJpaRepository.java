@@ -1,6 +1,9 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +16,31 @@ import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntit
 @Repository
 public interface PollJpaRepository extends JpaRepository<PollEntity, String> {
 
+    @Query("SELECT p FROM PollEntity p LEFT JOIN FETCH p.options WHERE p.id = :id")
+    Optional<PollEntity> findByIdWithOptions(@Param("id") String id);
+
+    @Query("SELECT DISTINCT p FROM PollEntity p LEFT JOIN FETCH p.options WHERE p.id IN :ids")
+    List<PollEntity> findAllByIdWithOptions(@Param("ids") Collection<String> ids);
+
     @Query("SELECT p FROM PollEntity p LEFT JOIN FETCH p.options WHERE p.status = :status")
     List<PollEntity> findByStatus(@Param("status") PollStatus status);
+
+    @Query("SELECT o.id FROM PollOptionEntity o WHERE o.pollId IN :pollIds")
+    List<String> findOptionIdsByPollIdIn(@Param("pollIds") Collection<String> pollIds);
+
+    @Query("SELECT p.id AS id, p.startDate AS dueAt FROM PollEntity p "
+            + "WHERE p.status = :status AND p.startDate <= :until")
+    List<PollDeadlineView> findStartingUntil(@Param("status") PollStatus status,
+            @Param("until") LocalDateTime until);
+
+    @Query("SELECT p.id AS id, p.endDate AS dueAt FROM PollEntity p "
+            + "WHERE p.status = :status AND p.endDate <= :until")
+    List<PollDeadlineView> findEndingUntil(@Param("status") PollStatus status,
+            @Param("until") LocalDateTime until);
+
+    interface PollDeadlineView {
+        String getId();
+
+        LocalDateTime getDueAt();
+    }
 }
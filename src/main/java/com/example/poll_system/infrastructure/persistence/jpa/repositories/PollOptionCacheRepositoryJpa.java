@@ -1,6 +1,9 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.context.annotation.Profile;
@@ -64,4 +67,32 @@ public class PollOptionCacheRepositoryJpa implements PollOptionRepository {
         return pollOptionMapper.toDomainList(entities);
     }
 
+    @Override
+    public List<PollOption> findAllByIds(Collection<String> ids) {
+        List<String> cacheKeys = ids.stream()
+                .map(id -> "pollOptionId:" + id)
+                .toList();
+        Map<String, PollOptionEntity> cachedEntities = cacheStore.getAll(cacheKeys);
+
+        List<PollOption> result = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            PollOptionEntity cachedEntity = cachedEntities.get("pollOptionId:" + id);
+            if (cachedEntity != null) {
+                result.add(pollOptionMapper.toDomain(cachedEntity));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            // Uma única consulta para todas as opções que não estavam no cache
+            for (PollOptionEntity entity : jpaRepository.findAllById(missingIds)) {
+                cacheStore.put("pollOptionId:" + entity.getId(), entity);
+                result.add(pollOptionMapper.toDomain(entity));
+            }
+        }
+        return result;
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,4 +46,10 @@ public class PollOptionRepositoryJpa implements PollOptionRepository {
         List<PollOptionEntity> entities = jpaRepository.findByPollId(pollId);
         return pollOptionMapper.toDomainList(entities);
     }
+
+    @Override
+    public List<PollOption> findAllByIds(Collection<String> ids) {
+        List<PollOptionEntity> entities = jpaRepository.findAllById(ids);
+        return pollOptionMapper.toDomainList(entities);
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollOptionVoteCountEntity;
+
+@Repository
+public interface PollOptionVoteCountJpaRepository extends JpaRepository<PollOptionVoteCountEntity, String> {
+
+    List<PollOptionVoteCountEntity> findByPollId(String pollId);
+
+    List<PollOptionVoteCountEntity> findByPollIdIn(Collection<String> pollIds);
+
+    @Modifying
+    @Query(value = "INSERT INTO poll_option_vote_counts (poll_option_id, poll_id, vote_count) " +
+            "VALUES (:pollOptionId, :pollId, :delta) " +
+            "ON CONFLICT (poll_option_id) " +
+            "DO UPDATE SET vote_count = poll_option_vote_counts.vote_count + EXCLUDED.vote_count", nativeQuery = true)
+    void increment(
+            @Param("pollOptionId") String pollOptionId,
+            @Param("pollId") String pollId,
+            @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO poll_option_vote_counts (poll_option_id, poll_id, vote_count) " +
+            "SELECT po.id, po.poll_id, 0 FROM poll_options po WHERE po.poll_id = :pollId " +
+            "ON CONFLICT (poll_option_id) DO NOTHING", nativeQuery = true)
+    void initializeByPollId(@Param("pollId") String pollId);
+
+    // Mesma ordem de opções do incrementAll, para não travar em ordem cruzada
+    @Modifying
+    @Query(value = "INSERT INTO poll_option_vote_counts (poll_option_id, poll_id, vote_count) " +
+            "SELECT po.id, po.poll_id, 0 FROM poll_options po WHERE po.poll_id IN (:pollIds) ORDER BY po.id " +
+            "ON CONFLICT (poll_option_id) DO NOTHING", nativeQuery = true)
+    void initializeByPollIdIn(@Param("pollIds") Collection<String> pollIds);
+
+    @Query(value = "SELECT * FROM poll_option_vote_counts " +
+            "WHERE poll_id IN (:pollIds) ORDER BY poll_option_id FOR UPDATE", nativeQuery = true)
+    List<PollOptionVoteCountEntity> lockByPollIdIn(@Param("pollIds") Collection<String> pollIds);
+
+    @Query(value = "SELECT poll_option_id FROM poll_option_vote_counts " +
+            "WHERE poll_id = :pollId ORDER BY poll_option_id FOR UPDATE", nativeQuery = true)
+    List<String> lockByPollId(@Param("pollId") String pollId);
+
+    @Modifying
+    @Query(value = "UPDATE poll_option_vote_counts c SET vote_count = (" +
+            "SELECT COUNT(*) FROM votes v " +
+            "WHERE v.poll_option_id = c.poll_option_id AND v.status = 'PROCESSED') " +
+            "WHERE c.poll_id = :pollId", nativeQuery = true)
+    int recountByPollId(@Param("pollId") String pollId);
+}
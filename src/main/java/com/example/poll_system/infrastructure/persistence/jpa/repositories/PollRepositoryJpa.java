@@ -1,5 +1,7 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -17,7 +19,7 @@ import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntit
 import com.example.poll_system.infrastructure.persistence.jpa.mappers.PollMapper;
 
 @Repository
-@Profile("jpa")
+@Profile("jpa-no-cache")
 public class PollRepositoryJpa implements PollRepository {
 
     @Autowired
@@ -26,6 +28,9 @@ public class PollRepositoryJpa implements PollRepository {
     @Autowired
     private PollMapper pollMapper;
 
+    @Autowired
+    private PollStatusTransitions pollStatusTransitions;
+
     @Override
     public void save(Poll poll) {
         PollEntity entity = pollMapper.toEntity(poll);
@@ -70,4 +75,38 @@ public class PollRepositoryJpa implements PollRepository {
                 .map(pollMapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public List<Poll> findAllByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdWithOptions(ids).stream()
+                .map(pollMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<PollDeadline> openAllScheduled(Collection<String> ids, LocalDateTime startDate) {
+        return pollStatusTransitions.openAllScheduled(ids, startDate);
+    }
+
+    @Override
+    public List<String> closeAllOpen(Collection<String> ids, LocalDateTime endDate) {
+        return pollStatusTransitions.closeAllOpen(ids, endDate);
+    }
+
+    @Override
+    public List<PollDeadline> findScheduledStartingUntil(LocalDateTime until) {
+        return jpaRepository.findStartingUntil(PollStatus.SCHEDULED, until).stream()
+                .map(view -> new PollDeadline(view.getId(), view.getDueAt()))
+                .toList();
+    }
+
+    @Override
+    public List<PollDeadline> findOpenEndingUntil(LocalDateTime until) {
+        return jpaRepository.findEndingUntil(PollStatus.OPEN, until).stream()
+                .map(view -> new PollDeadline(view.getId(), view.getDueAt()))
+                .toList();
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollResultEntity;
+
+@Repository
+public interface PollResultJpaRepository extends JpaRepository<PollResultEntity, String> {
+
+    @Modifying
+    @Query(value = "UPDATE poll_result_options SET votes_count = votes_count + :delta " +
+            "WHERE poll_id = :pollId AND poll_option_id = :pollOptionId", nativeQuery = true)
+    int addOptionVotes(
+            @Param("pollId") String pollId,
+            @Param("pollOptionId") String pollOptionId,
+            @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE poll_results SET total_votes = total_votes + :delta WHERE poll_id = :pollId",
+            nativeQuery = true)
+    int addTotalVotes(@Param("pollId") String pollId, @Param("delta") long delta);
+}
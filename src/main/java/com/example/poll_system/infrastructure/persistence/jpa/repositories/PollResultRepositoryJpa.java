@@ -0,0 +1,94 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollResultEntity;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollResultOptionEmbeddable;
+
+@Repository
+@Profile("jpa")
+public class PollResultRepositoryJpa implements PollResultRepository {
+
+    private final PollResultJpaRepository jpaRepository;
+
+    public PollResultRepositoryJpa(PollResultJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    public void save(PollResult pollResult) {
+        jpaRepository.save(toEntity(pollResult));
+    }
+
+    @Override
+    public void saveAll(List<PollResult> pollResults) {
+        jpaRepository.saveAll(pollResults.stream()
+                .map(this::toEntity)
+                .toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PollResult> findByPollId(String pollId) {
+        return jpaRepository.findById(pollId)
+                .map(entity -> new PollResult(
+                        entity.getPollId(),
+                        entity.getPollTitle(),
+                        entity.getTotalVotes(),
+                        entity.getClosedAt(),
+                        entity.getOptions().stream()
+                                .map(option -> new OptionResult(
+                                        option.getPollOptionId(),
+                                        option.getDescription(),
+                                        option.getVotesCount()))
+                                .toList()));
+    }
+
+    /**
+     * Um UPDATE por opção e um por enquete, que não alteram nada enquanto a
+     * enquete não tem resultado gravado. Chamado depois do incremento dos
+     * contadores: se o fechamento travou os contadores antes, o incremento
+     * espera e o resultado já está gravado quando estes UPDATEs rodam.
+     */
+    @Override
+    @Transactional
+    public void addVotes(List<Vote> votes) {
+        Map<String, Vote> firstVoteByOption = new TreeMap<>();
+        Map<String, Long> deltaByOption = new HashMap<>();
+        Map<String, Long> deltaByPoll = new TreeMap<>();
+        for (Vote vote : votes) {
+            firstVoteByOption.putIfAbsent(vote.getPollOptionId(), vote);
+            deltaByOption.merge(vote.getPollOptionId(), 1L, Long::sum);
+            deltaByPoll.merge(vote.getPollId(), 1L, Long::sum);
+        }
+        for (Vote vote : firstVoteByOption.values()) {
+            jpaRepository.addOptionVotes(vote.getPollId(), vote.getPollOptionId(),
+                    deltaByOption.get(vote.getPollOptionId()));
+        }
+        deltaByPoll.forEach(jpaRepository::addTotalVotes);
+    }
+
+    private PollResultEntity toEntity(PollResult pollResult) {
+        return new PollResultEntity(
+                pollResult.pollId(),
+                pollResult.pollTitle(),
+                pollResult.totalVotes(),
+                pollResult.closedAt(),
+                pollResult.options().stream()
+                        .map(option -> new PollResultOptionEmbeddable(
+                                option.pollOptionId(),
+                                option.description(),
+                                option.votesCount()))
+                        .toList());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+
+/**
+ * Transições de status em lote com um único UPDATE ... WHERE id = ANY(?) AND
+ * status = ?. O filtro por status faz de cada UPDATE um compare-and-set: o
+ * RETURNING traz só as enquetes que esta chamada realmente mudou.
+ */
+@Component
+public class PollStatusTransitions {
+
+    private static final String OPEN_SCHEDULED_SQL = "UPDATE polls SET status = 'OPEN', start_date = ? "
+            + "WHERE id = ANY(?) AND status = 'SCHEDULED' "
+            + "RETURNING id, end_date";
+
+    private static final String CLOSE_OPEN_SQL = "UPDATE polls SET status = 'CLOSED', end_date = ? "
+            + "WHERE id = ANY(?) AND status = 'OPEN' "
+            + "RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String jdbcTimeZone;
+
+    public PollStatusTransitions(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<PollDeadline> openAllScheduled(Collection<String> ids, LocalDateTime startDate) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(OPEN_SCHEDULED_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(startDate), jdbcCalendar());
+            ps.setArray(2, connection.createArrayOf("varchar", ids.toArray()));
+            return ps;
+        }, (rs, rowNum) -> new PollDeadline(
+                rs.getString("id"),
+                rs.getTimestamp("end_date", jdbcCalendar()).toLocalDateTime()));
+    }
+
+    public List<String> closeAllOpen(Collection<String> ids, LocalDateTime endDate) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(CLOSE_OPEN_SQL);
+            ps.setTimestamp(1, Timestamp.valueOf(endDate), jdbcCalendar());
+            ps.setArray(2, connection.createArrayOf("varchar", ids.toArray()));
+            return ps;
+        }, (rs, rowNum) -> rs.getString("id"));
+    }
+
+    // Mesmo fuso usado pelo Hibernate para colunas TIMESTAMP
+    private Calendar jdbcCalendar() {
+        return jdbcTimeZone.isBlank()
+                ? Calendar.getInstance()
+                : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+    }
+}
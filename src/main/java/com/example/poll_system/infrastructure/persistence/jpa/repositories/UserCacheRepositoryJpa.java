@@ -1,6 +1,10 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -91,10 +95,11 @@ public class UserCacheRepositoryJpa implements UserRepository {
         // Salvar no banco
         UserEntity updatedEntity = jpaRepository.save(entity);
 
-        // Re-cachear com dados atualizados
-        cacheStore.put(updatedEntity.getId(), updatedEntity);
-        cacheStore.put("email:" + updatedEntity.getEmail(), updatedEntity);
-        cacheStore.put("cpf:" + updatedEntity.getCpf(), updatedEntity);
+        // Sem re-cachear: a imagem de perfil não é gravada por este update, então a
+        // entidade devolvida pode trazer uma imagem já trocada pelo pipeline
+        cacheStore.evict(updatedEntity.getId());
+        cacheStore.evict("email:" + updatedEntity.getEmail());
+        cacheStore.evict("cpf:" + updatedEntity.getCpf());
     }
 
     @Override
@@ -107,6 +112,7 @@ public class UserCacheRepositoryJpa implements UserRepository {
             cacheStore.evict("email:" + userEntity.getEmail());
             cacheStore.evict("cpf:" + userEntity.getCpf());
         }
+        cacheStore.evict(VoteAdmissionGatewayJpa.userKey(id));
 
         jpaRepository.deleteById(id);
     }
@@ -171,4 +177,46 @@ public class UserCacheRepositoryJpa implements UserRepository {
         return entitiesPage.map(userMapper::toDomain);
     }
 
+    /**
+     * O UPDATE já foi confirmado quando o cache é invalidado, então uma leitura
+     * concorrente não recoloca a imagem anterior no cache.
+     */
+    @Override
+    public boolean changeUrlImageProfile(String userId, String urlImageProfile, LocalDateTime stagedAt) {
+        if (jpaRepository.updateUrlImageProfileIfNewer(userId, urlImageProfile, stagedAt) == 0) {
+            return false;
+        }
+        cacheStore.evict(userId);
+        jpaRepository.findById(userId).ifPresent(entity -> {
+            cacheStore.evict("email:" + entity.getEmail());
+            cacheStore.evict("cpf:" + entity.getCpf());
+        });
+        return true;
+    }
+
+    @Override
+    public List<User> findAllByIds(Collection<String> ids) {
+        Map<String, UserEntity> cachedEntities = cacheStore.getAll(ids);
+
+        List<User> result = new ArrayList<>();
+        List<String> missingIds = new ArrayList<>();
+        for (String id : ids) {
+            UserEntity cachedEntity = cachedEntities.get(id);
+            if (cachedEntity != null) {
+                result.add(userMapper.toDomain(cachedEntity));
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            // Uma única consulta para todos os usuários que não estavam no cache
+            for (UserEntity entity : jpaRepository.findAllById(missingIds)) {
+                cacheStore.put(entity.getId(), entity);
+                result.add(userMapper.toDomain(entity));
+            }
+        }
+        return result;
+    }
+
 }
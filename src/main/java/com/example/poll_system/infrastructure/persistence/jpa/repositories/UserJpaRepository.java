@@ -1,9 +1,14 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.poll_system.infrastructure.persistence.jpa.entities.UserEntity;
 
@@ -13,4 +18,14 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, String> {
     Optional<UserEntity> findByEmail(String email);
 
     Optional<UserEntity> findByCpf(String cpf);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE users SET url_image_profile = :urlImageProfile, url_image_profile_staged_at = :stagedAt " +
+            "WHERE id = :id AND (url_image_profile_staged_at IS NULL OR url_image_profile_staged_at < :stagedAt)",
+            nativeQuery = true)
+    int updateUrlImageProfileIfNewer(
+            @Param("id") String id,
+            @Param("urlImageProfile") String urlImageProfile,
+            @Param("stagedAt") LocalDateTime stagedAt);
 }
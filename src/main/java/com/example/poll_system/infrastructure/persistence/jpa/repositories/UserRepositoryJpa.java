@@ -1,5 +1,7 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -73,4 +75,17 @@ public class UserRepositoryJpa implements UserRepository {
         Page<UserEntity> entitiesPage = jpaRepository.findAll(pageable);
         return entitiesPage.map(userMapper::toDomain);
     }
+
+    @Override
+    public List<User> findAllByIds(Collection<String> ids) {
+        List<UserEntity> entities = jpaRepository.findAllById(ids);
+        return entities.stream()
+                .map(userMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean changeUrlImageProfile(String userId, String urlImageProfile, LocalDateTime stagedAt) {
+        return jpaRepository.updateUrlImageProfileIfNewer(userId, urlImageProfile, stagedAt) == 1;
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway;
+import com.example.poll_system.infrastructure.persistence.jpa.cache.CacheStore;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntity;
+
+/**
+ * Responde "usuário existe, opção existe e a enquete dona da opção está
+ * aberta" para a admissão de votos. Lê as duas entradas da admissão (usuário
+ * e enquete da opção) com um único multi-get no cache e, se faltar qualquer
+ * uma, resolve tudo com uma única consulta no banco e recoloca as entradas.
+ * A enquete é guardada pela chave da opção porque o id da enquete só é
+ * conhecido depois de ler a opção; {@link PollCacheRepositoryJpa} invalida
+ * essas entradas a cada mudança de status.
+ */
+@Repository
+@Profile("jpa")
+public class VoteAdmissionGatewayJpa implements VoteAdmissionGateway {
+
+    private static final String ADMISSION_SQL = "SELECT "
+            + "EXISTS (SELECT 1 FROM users u WHERE u.id = :userId) AS user_exists, "
+            + "po.id AS poll_option_id, p.id AS poll_id, p.status AS poll_status "
+            + "FROM (VALUES (1)) AS single_row(x) "
+            + "LEFT JOIN poll_options po ON po.id = :pollOptionId "
+            + "LEFT JOIN polls p ON p.id = po.poll_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CacheStore<String, Object> cacheStore;
+
+    public VoteAdmissionGatewayJpa(NamedParameterJdbcTemplate jdbcTemplate, CacheStore<String, Object> cacheStore) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheStore = cacheStore;
+    }
+
+    @Override
+    public Admission check(String userId, String pollOptionId) {
+        String userKey = userKey(userId);
+        String pollKey = pollOptionKey(pollOptionId);
+        Map<String, Object> cached = cacheStore.getAll(List.of(userKey, pollKey));
+        if (Boolean.TRUE.equals(cached.get(userKey)) && cached.get(pollKey) instanceof PollEntity poll) {
+            return new Admission(true, true, poll.getId(), poll.getStatus());
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("userId", userId)
+                .addValue("pollOptionId", pollOptionId);
+        return jdbcTemplate.queryForObject(ADMISSION_SQL, params, (rs, rowNum) -> {
+            boolean userExists = rs.getBoolean("user_exists");
+            boolean pollOptionExists = rs.getString("poll_option_id") != null;
+            String pollId = rs.getString("poll_id");
+            String status = rs.getString("poll_status");
+            PollStatus pollStatus = status != null ? PollStatus.valueOf(status) : null;
+            // Só respostas positivas vão para o cache; ausências podem deixar de ser
+            if (userExists) {
+                cacheStore.put(userKey, Boolean.TRUE);
+            }
+            if (pollId != null) {
+                cacheStore.put(pollKey, pollSnapshot(pollId, pollStatus));
+            }
+            return new Admission(userExists, pollOptionExists, pollId, pollStatus);
+        });
+    }
+
+    static String userKey(String userId) {
+        return "voteAdmission:userId:" + userId;
+    }
+
+    static String pollOptionKey(String pollOptionId) {
+        return "voteAdmission:pollOptionId:" + pollOptionId;
+    }
+
+    private PollEntity pollSnapshot(String pollId, PollStatus status) {
+        PollEntity poll = new PollEntity();
+        poll.setId(pollId);
+        poll.setStatus(status);
+        return poll;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollOptionVoteCountEntity;
+
+@Repository
+@Profile("jpa")
+public class VoteCountRepositoryJpa implements VoteCountRepository {
+
+    private final PollOptionVoteCountJpaRepository jpaRepository;
+
+    public VoteCountRepositoryJpa(PollOptionVoteCountJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void increment(Vote vote) {
+        jpaRepository.increment(vote.getPollOptionId(), vote.getPollId(), 1L);
+    }
+
+    /**
+     * Agrupa os votos por opção e aplica um único upsert por opção. As opções são
+     * atualizadas sempre na mesma ordem para evitar deadlocks entre lotes
+     * concorrentes.
+     */
+    @Override
+    @Transactional
+    public void incrementAll(List<Vote> votes) {
+        Map<String, Vote> firstVoteByOption = new TreeMap<>();
+        Map<String, Long> deltaByOption = new HashMap<>();
+        for (Vote vote : votes) {
+            firstVoteByOption.putIfAbsent(vote.getPollOptionId(), vote);
+            deltaByOption.merge(vote.getPollOptionId(), 1L, Long::sum);
+        }
+        for (Vote vote : firstVoteByOption.values()) {
+            jpaRepository.increment(vote.getPollOptionId(), vote.getPollId(), deltaByOption.get(vote.getPollOptionId()));
+        }
+    }
+
+    @Override
+    public Map<String, Long> findCountsByPollId(String pollId) {
+        Map<String, Long> result = new HashMap<>();
+        for (PollOptionVoteCountEntity entity : jpaRepository.findByPollId(pollId)) {
+            result.put(entity.getPollOptionId(), entity.getVoteCount());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Map<String, Long>> findCountsByPollIds(Collection<String> pollIds) {
+        if (pollIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return groupByPollId(jpaRepository.findByPollIdIn(pollIds));
+    }
+
+    /**
+     * Cria os contadores que faltam antes de travar, para que o primeiro voto
+     * de uma opção também espere pela leitura.
+     */
+    @Override
+    @Transactional
+    public Map<String, Map<String, Long>> lockCountsByPollIds(Collection<String> pollIds) {
+        if (pollIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        jpaRepository.initializeByPollIdIn(pollIds);
+        return groupByPollId(jpaRepository.lockByPollIdIn(pollIds));
+    }
+
+    private Map<String, Map<String, Long>> groupByPollId(List<PollOptionVoteCountEntity> entities) {
+        Map<String, Map<String, Long>> result = new HashMap<>();
+        for (PollOptionVoteCountEntity entity : entities) {
+            result.computeIfAbsent(entity.getPollId(), pollId -> new HashMap<>())
+                    .put(entity.getPollOptionId(), entity.getVoteCount());
+        }
+        return result;
+    }
+
+    /**
+     * Recalcula os contadores da enquete a partir da tabela de votos. As linhas
+     * dos contadores são criadas e travadas antes da contagem, então votos
+     * concorrentes esperam o fim da reconstrução e nenhum incremento é perdido.
+     */
+    @Override
+    @Transactional
+    public void rebuildByPollId(String pollId) {
+        jpaRepository.initializeByPollId(pollId);
+        jpaRepository.lockByPollId(pollId);
+        jpaRepository.recountByPollId(pollId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.poll_system.infrastructure.persistence.jpa.entities.VoteReceiptDigestEntity;
+
+@Repository
+public interface VoteReceiptDigestJpaRepository extends JpaRepository<VoteReceiptDigestEntity, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO vote_receipt_digests "
+            + "(user_id, user_email, receipt_count, first_receipt_at, last_receipt_at) "
+            + "VALUES (:userId, :userEmail, 1, :occurredAt, :occurredAt) "
+            + "ON CONFLICT (user_id) DO UPDATE SET "
+            + "user_email = EXCLUDED.user_email, "
+            + "receipt_count = vote_receipt_digests.receipt_count + 1, "
+            + "first_receipt_at = LEAST(vote_receipt_digests.first_receipt_at, EXCLUDED.first_receipt_at), "
+            + "last_receipt_at = GREATEST(vote_receipt_digests.last_receipt_at, EXCLUDED.last_receipt_at)",
+            nativeQuery = true)
+    int upsert(@Param("userId") String userId, @Param("userEmail") String userEmail,
+            @Param("occurredAt") LocalDateTime occurredAt);
+
+    // SKIP LOCKED: instâncias concorrentes do scheduler pegam digests diferentes
+    @Query(value = "SELECT * FROM vote_receipt_digests "
+            + "WHERE first_receipt_at < :firstReceiptBefore "
+            + "AND (claimed_at IS NULL OR claimed_at < :staleClaimBefore) "
+            + "ORDER BY first_receipt_at "
+            + "LIMIT :limit "
+            + "FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<VoteReceiptDigestEntity> findDueForUpdate(@Param("firstReceiptBefore") LocalDateTime firstReceiptBefore,
+            @Param("staleClaimBefore") LocalDateTime staleClaimBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE VoteReceiptDigestEntity d SET d.claimedAt = :claimedAt, d.claimedCount = d.receiptCount "
+            + "WHERE d.userId IN :userIds")
+    int claimByUserIds(@Param("userIds") Collection<String> userIds, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Só remove quem não recebeu comprovantes novos depois da reclamação
+    @Modifying
+    @Query("DELETE FROM VoteReceiptDigestEntity d "
+            + "WHERE d.userId IN :userIds AND d.claimedAt = :claimedAt AND d.receiptCount = d.claimedCount")
+    int deleteClaimed(@Param("userIds") Collection<String> userIds, @Param("claimedAt") LocalDateTime claimedAt);
+
+    // Os comprovantes que chegaram durante o envio ficam pendentes, com a janela
+    // contada a partir da reclamação
+    @Modifying
+    @Query("UPDATE VoteReceiptDigestEntity d SET d.receiptCount = d.receiptCount - d.claimedCount, "
+            + "d.firstReceiptAt = d.claimedAt, d.claimedAt = NULL, d.claimedCount = 0 "
+            + "WHERE d.userId IN :userIds AND d.claimedAt = :claimedAt")
+    int keepReceivedAfterClaim(@Param("userIds") Collection<String> userIds,
+            @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Modifying
+    @Query("UPDATE VoteReceiptDigestEntity d SET d.claimedAt = NULL, d.claimedCount = 0 "
+            + "WHERE d.userId IN :userIds AND d.claimedAt = :claimedAt")
+    int releaseClaimed(@Param("userIds") Collection<String> userIds, @Param("claimedAt") LocalDateTime claimedAt);
+}
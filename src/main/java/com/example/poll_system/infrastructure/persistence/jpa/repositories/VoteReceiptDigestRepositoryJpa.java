@@ -0,0 +1,75 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.VoteReceiptDigestEntity;
+
+@Repository
+@Profile("jpa")
+public class VoteReceiptDigestRepositoryJpa implements VoteReceiptDigestRepository {
+
+    private final VoteReceiptDigestJpaRepository jpaRepository;
+
+    public VoteReceiptDigestRepositoryJpa(VoteReceiptDigestJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    @Override
+    @Transactional
+    public void record(String userId, String userEmail, LocalDateTime occurredAt) {
+        jpaRepository.upsert(userId, userEmail, occurredAt);
+    }
+
+    @Override
+    @Transactional
+    public List<VoteReceiptDigest> claimDue(LocalDateTime firstReceiptBefore, LocalDateTime staleClaimBefore,
+            int limit) {
+        List<VoteReceiptDigestEntity> due = jpaRepository.findDueForUpdate(firstReceiptBefore, staleClaimBefore,
+                limit);
+        if (due.isEmpty()) {
+            return List.of();
+        }
+        // Precisão de microssegundos do TIMESTAMP, para comparar depois por igualdade
+        LocalDateTime claimedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        jpaRepository.claimByUserIds(due.stream().map(VoteReceiptDigestEntity::getUserId).toList(), claimedAt);
+        return due.stream()
+                .map(entity -> new VoteReceiptDigest(
+                        entity.getUserId(),
+                        entity.getUserEmail(),
+                        entity.getReceiptCount(),
+                        entity.getFirstReceiptAt(),
+                        entity.getLastReceiptAt(),
+                        claimedAt))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void complete(List<VoteReceiptDigest> digests) {
+        userIdsByClaim(digests).forEach((claimedAt, userIds) -> {
+            jpaRepository.deleteClaimed(userIds, claimedAt);
+            jpaRepository.keepReceivedAfterClaim(userIds, claimedAt);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void release(List<VoteReceiptDigest> digests) {
+        userIdsByClaim(digests).forEach((claimedAt, userIds) -> jpaRepository.releaseClaimed(userIds, claimedAt));
+    }
+
+    private Map<LocalDateTime, List<String>> userIdsByClaim(List<VoteReceiptDigest> digests) {
+        return digests.stream().collect(Collectors.groupingBy(
+                VoteReceiptDigest::claimedAt,
+                Collectors.mapping(VoteReceiptDigest::userId, Collectors.toList())));
+    }
+}
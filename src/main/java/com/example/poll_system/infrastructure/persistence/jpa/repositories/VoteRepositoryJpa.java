@@ -1,16 +1,28 @@
 package com.example.poll_system.infrastructure.persistence.jpa.repositories;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.poll_system.domain.entities.Vote;
 import com.example.poll_system.domain.gateways.VoteRepository;
@@ -27,12 +39,118 @@ public class VoteRepositoryJpa implements VoteRepository {
     @Autowired
     private VoteMapper voteMapper;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.time_zone:}")
+    private String jdbcTimeZone;
+
+    // ON CONFLICT sem alvo cobre tanto a PK (mesma chave de idempotência)
+    // quanto o índice único (user_id, poll_id).
+    private static final String INSERT_VOTE_IF_ABSENT_SQL = "INSERT INTO votes "
+            + "(id, user_id, poll_option_id, poll_id, created_at, status) "
+            + "VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT DO NOTHING";
+
+    private static final String INSERT_VOTES_IF_ABSENT_SQL = "INSERT INTO votes "
+            + "(id, user_id, poll_option_id, poll_id, created_at, status) "
+            + "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], "
+            + "?::timestamp[], ?::varchar[]) "
+            + "ON CONFLICT DO NOTHING "
+            + "RETURNING id";
+
     @Override
     public void save(Vote vote) {
         VoteEntity entity = voteMapper.toEntity(vote);
         jpaRepository.save(entity);
     }
 
+    @Override
+    public boolean saveIfAbsent(Vote vote) {
+        return jdbcTemplate.update(INSERT_VOTE_IF_ABSENT_SQL, ps -> {
+            ps.setString(1, vote.getId());
+            ps.setString(2, vote.getUserId());
+            ps.setString(3, vote.getPollOptionId());
+            ps.setString(4, vote.getPollId());
+            ps.setTimestamp(5, Timestamp.valueOf(vote.getCreatedAt()), jdbcCalendar());
+            ps.setString(6, vote.getStatus().name());
+        }) == 1;
+    }
+
+    /**
+     * Persiste o lote com um único INSERT ... SELECT FROM unnest(...), que
+     * ignora duplicados e devolve os IDs efetivamente inseridos: um round-trip
+     * por lote e nenhuma consulta prévia de existência. Repetições dentro do
+     * próprio lote (mesmo id ou mesmo usuário na enquete) ficam só com a
+     * primeira ocorrência, para que cada voto inserido volte uma única vez.
+     */
+    @Override
+    @Transactional
+    public List<Vote> saveAllIfAbsent(List<Vote> votes) {
+        List<Vote> distinctVotes = distinctByIdAndUserPoll(votes);
+        if (distinctVotes.isEmpty()) {
+            return List.of();
+        }
+        int size = distinctVotes.size();
+        String[] ids = new String[size];
+        String[] userIds = new String[size];
+        String[] pollOptionIds = new String[size];
+        String[] pollIds = new String[size];
+        String[] createdAts = new String[size];
+        String[] statuses = new String[size];
+        for (int i = 0; i < size; i++) {
+            Vote vote = distinctVotes.get(i);
+            ids[i] = vote.getId();
+            userIds[i] = vote.getUserId();
+            pollOptionIds[i] = vote.getPollOptionId();
+            pollIds[i] = vote.getPollId();
+            createdAts[i] = toJdbcTimestampLiteral(vote.getCreatedAt());
+            statuses[i] = vote.getStatus().name();
+        }
+        List<String> insertedIds = jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_VOTES_IF_ABSENT_SQL);
+            ps.setArray(1, connection.createArrayOf("varchar", ids));
+            ps.setArray(2, connection.createArrayOf("varchar", userIds));
+            ps.setArray(3, connection.createArrayOf("varchar", pollOptionIds));
+            ps.setArray(4, connection.createArrayOf("varchar", pollIds));
+            ps.setArray(5, connection.createArrayOf("varchar", createdAts));
+            ps.setArray(6, connection.createArrayOf("varchar", statuses));
+            return ps;
+        }, (rs, rowNum) -> rs.getString("id"));
+        Set<String> inserted = new HashSet<>(insertedIds);
+        return distinctVotes.stream()
+                .filter(vote -> inserted.contains(vote.getId()))
+                .toList();
+    }
+
+    private List<Vote> distinctByIdAndUserPoll(List<Vote> votes) {
+        Set<String> seenIds = new HashSet<>();
+        Set<String> seenUserPolls = new HashSet<>();
+        List<Vote> distinct = new ArrayList<>(votes.size());
+        for (Vote vote : votes) {
+            if (seenIds.add(vote.getId()) && seenUserPolls.add(vote.getUserId() + "|" + vote.getPollId())) {
+                distinct.add(vote);
+            }
+        }
+        return distinct;
+    }
+
+    // Mesmo fuso usado pelo Hibernate para colunas TIMESTAMP
+    private Calendar jdbcCalendar() {
+        return jdbcTimeZone.isBlank()
+                ? Calendar.getInstance()
+                : Calendar.getInstance(TimeZone.getTimeZone(jdbcTimeZone));
+    }
+
+    /**
+     * Equivalente textual de {@code setTimestamp(ts, jdbcCalendar())}, usado nos
+     * arrays, onde o driver não aceita um Calendar.
+     */
+    private String toJdbcTimestampLiteral(LocalDateTime createdAt) {
+        ZoneId zone = jdbcTimeZone.isBlank() ? ZoneId.systemDefault() : ZoneId.of(jdbcTimeZone);
+        return Timestamp.valueOf(createdAt).toInstant().atZone(zone).toLocalDateTime().toString();
+    }
+
     @Override
     public Optional<Vote> findById(String id) {
         Optional<VoteEntity> entity = jpaRepository.findById(id);
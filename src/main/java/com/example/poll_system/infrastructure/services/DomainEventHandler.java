@@ -1,7 +1,26 @@
 package com.example.poll_system.infrastructure.services;
 
+import java.util.List;
+
 import com.example.poll_system.domain.entities.DomainEvent;
 
 public interface DomainEventHandler<T extends DomainEvent> {
     void handle(T event);
+
+    /**
+     * Eventos do mesmo tipo publicados juntos. Handlers que fazem I/O por
+     * evento podem sobrescrever para agrupar o trabalho.
+     */
+    default void handleAll(List<T> events) {
+        events.forEach(this::handle);
+    }
+
+    /**
+     * Handlers assíncronos rodam no executor do {@code EventDispatcher}, fora
+     * da thread e da transação de quem publicou o evento. Só devem ser
+     * assíncronos handlers cujo erro não precisa chegar a quem publicou.
+     */
+    default boolean isAsync() {
+        return false;
+    }
 }
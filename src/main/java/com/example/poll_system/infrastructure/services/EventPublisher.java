@@ -1,8 +1,14 @@
 package com.example.poll_system.infrastructure.services;
 
+import java.util.List;
+
 import com.example.poll_system.domain.entities.DomainEvent;
 
 public interface EventPublisher {
     void publish(DomainEvent event);
 
+    default void publishAll(List<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
+
 }
@@ -1,5 +1,38 @@
 package com.example.poll_system.infrastructure.services;
 
+import java.util.List;
+
+import org.springframework.mail.MailSendException;
+
 public interface MailSender {
     void send(String to, String subject, String body);
+
+    /**
+     * Envia as mensagens reaproveitando conexões SMTP. Devolve as mensagens
+     * cujo destinatário foi recusado pelo servidor; falhas de conexão que
+     * persistem após reconectar são lançadas como {@link PartialSendException},
+     * indicando até onde o lote chegou.
+     */
+    List<MailMessage> sendAll(List<MailMessage> messages);
+
+    record MailMessage(String to, String subject, String body) {
+    }
+
+    /**
+     * As primeiras {@link #getHandledCount()} mensagens do lote já foram
+     * tratadas (enviadas ou recusadas) e não devem ser reenviadas.
+     */
+    class PartialSendException extends MailSendException {
+
+        private final int handledCount;
+
+        public PartialSendException(String message, Throwable cause, int handledCount) {
+            super(message, cause);
+            this.handledCount = handledCount;
+        }
+
+        public int getHandledCount() {
+            return handledCount;
+        }
+    }
 }
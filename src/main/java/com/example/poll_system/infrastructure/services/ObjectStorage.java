@@ -3,9 +3,36 @@ package com.example.poll_system.infrastructure.services;
 import java.io.InputStream;
 
 public interface ObjectStorage {
-    String upload(String fileName, InputStream fileContent) throws Exception;
 
-    byte[] download(String fileName) throws Exception;
+    /** Tamanho a informar quando o conteúdo chega como stream de tamanho desconhecido. */
+    long UNKNOWN_SIZE = -1;
+
+    /**
+     * Grava o conteúdo com o nome informado, sem carregá-lo em memória, e
+     * devolve esse nome. Com {@code size} conhecido o
+     * objeto vai em uma única requisição; com {@link #UNKNOWN_SIZE} vai em
+     * partes de tamanho fixo.
+     */
+    String upload(String fileName, InputStream fileContent, long size, String contentType) throws Exception;
+
+    default String upload(String fileName, InputStream fileContent) throws Exception {
+        return upload(fileName, fileContent, UNKNOWN_SIZE, null);
+    }
+
+    boolean exists(String fileName) throws Exception;
+
+    /** Abre o objeto para leitura em stream; quem chama deve fechá-lo. */
+    InputStream download(String fileName) throws Exception;
+
+    /** Lê {@code length} bytes a partir de {@code offset}, para atender HTTP Range. */
+    InputStream download(String fileName, long offset, long length) throws Exception;
 
     void delete(String fileName);
+
+    /**
+     * URL GET pré-assinada e de curta duração, para o cliente baixar o objeto
+     * direto do storage sem passar pela aplicação. Devolve {@code null} quando
+     * {@code fileName} é {@code null}.
+     */
+    String presignedUrl(String fileName);
 }
@@ -5,6 +5,11 @@ public interface PasswordEncoder {
 
     boolean matches(String rawPassword, String encodedPassword);
 
+    /** Indica se o hash foi gerado com um custo diferente do configurado. */
+    default boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
+
     default boolean isPasswordValid(String password) {
         return password != null &&
                 password.length() >= 8 &&
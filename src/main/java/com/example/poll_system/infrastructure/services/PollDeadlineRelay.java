@@ -0,0 +1,14 @@
+package com.example.poll_system.infrastructure.services;
+
+import java.time.LocalDateTime;
+
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.Transition;
+
+/**
+ * Entrega o prazo de uma enquete recém-criada ao {@code PollDeadlineTimer} do
+ * nó líder, o único que executa transições. Prazos que não chegarem ao líder
+ * entram pela próxima recarga do {@code PollScheduler}.
+ */
+public interface PollDeadlineRelay {
+    void relay(String pollId, Transition transition, LocalDateTime dueAt);
+}
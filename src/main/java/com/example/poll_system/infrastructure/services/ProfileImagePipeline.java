@@ -0,0 +1,38 @@
+package com.example.poll_system.infrastructure.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Processamento da imagem de perfil fora da requisição. {@link #stage} só
+ * copia o conteúdo para disco local calculando o SHA-256; o envio ao object
+ * storage acontece em {@link #process}, chamado de forma assíncrona.
+ */
+public interface ProfileImagePipeline {
+
+    StagedImage stage(InputStream content, String contentType) throws IOException;
+
+    /**
+     * Envia a imagem e as miniaturas, se ainda não existirem, e aponta o
+     * usuário para ela, a menos que uma imagem enviada depois já tenha sido
+     * aplicada. Sempre descarta o arquivo em staging.
+     */
+    void process(String userId, StagedImage image);
+
+    void discard(StagedImage image);
+
+    /**
+     * {@code objectName} é derivado do hash, então imagens iguais têm o mesmo
+     * nome. {@code stagedAt} ordena envios do mesmo usuário processados fora de
+     * ordem.
+     */
+    record StagedImage(
+            Path path,
+            String objectName,
+            long size,
+            String contentType,
+            LocalDateTime stagedAt) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.poll_system.infrastructure.services.handlers;
+
+import java.nio.file.Path;
+
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
+import com.example.poll_system.infrastructure.services.DomainEventHandler;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
+
+@Component
+public class ProcessProfileImageHandler implements DomainEventHandler<ProfileImageStagedEvent> {
+
+    private final ProfileImagePipeline profileImagePipeline;
+
+    public ProcessProfileImageHandler(ProfileImagePipeline profileImagePipeline) {
+        this.profileImagePipeline = profileImagePipeline;
+    }
+
+    @Override
+    public void handle(ProfileImageStagedEvent event) {
+        profileImagePipeline.process(event.getUserId(), new StagedImage(
+                Path.of(event.getStagedPath()),
+                event.getObjectName(),
+                event.getSize(),
+                event.getContentType(),
+                event.getStagedAt()));
+    }
+
+    @Override
+    public boolean isAsync() {
+        return true;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.poll_system.infrastructure.services.handlers;
+
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.entities.events.UserUpdatedEvent;
+import com.example.poll_system.domain.gateways.RevokedUserRegistry;
+import com.example.poll_system.infrastructure.services.DomainEventHandler;
+
+@Component
+public class RevokeUserTokensHandler implements DomainEventHandler<UserUpdatedEvent> {
+
+    private final RevokedUserRegistry revokedUserRegistry;
+
+    public RevokeUserTokensHandler(RevokedUserRegistry revokedUserRegistry) {
+        this.revokedUserRegistry = revokedUserRegistry;
+    }
+
+    @Override
+    public void handle(UserUpdatedEvent event) {
+        revokedUserRegistry.revoke(event.getUserId(), Instant.now());
+    }
+
+}
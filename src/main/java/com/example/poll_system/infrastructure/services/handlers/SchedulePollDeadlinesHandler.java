@@ -0,0 +1,29 @@
+package com.example.poll_system.infrastructure.services.handlers;
+
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.entities.events.PollCreatedEvent;
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.infrastructure.services.DomainEventHandler;
+import com.example.poll_system.infrastructure.services.PollDeadlineRelay;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.Transition;
+
+@Component
+public class SchedulePollDeadlinesHandler implements DomainEventHandler<PollCreatedEvent> {
+
+    private final PollDeadlineRelay pollDeadlineRelay;
+
+    public SchedulePollDeadlinesHandler(PollDeadlineRelay pollDeadlineRelay) {
+        this.pollDeadlineRelay = pollDeadlineRelay;
+    }
+
+    @Override
+    public void handle(PollCreatedEvent event) {
+        if (event.getPollStatus() == PollStatus.SCHEDULED) {
+            pollDeadlineRelay.relay(event.getPollId(), Transition.OPEN, event.getPollStartDate());
+        } else if (event.getPollStatus() == PollStatus.OPEN) {
+            pollDeadlineRelay.relay(event.getPollId(), Transition.CLOSE, event.getPollEndDate());
+        }
+    }
+
+}
@@ -1,11 +1,13 @@
 package com.example.poll_system.infrastructure.services.handlers;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.poll_system.domain.entities.events.PollClosedEvent;
-import com.example.poll_system.domain.gateways.MessageQueueGateway;
 import com.example.poll_system.infrastructure.services.DomainEventHandler;
+import com.example.poll_system.infrastructure.services.impl.OutboxMessagePublisher;
 
 @Component
 public class SendEmailPollClosedHandler implements DomainEventHandler<PollClosedEvent> {
@@ -16,15 +18,20 @@ public class SendEmailPollClosedHandler implements DomainEventHandler<PollClosed
     @Value("${app.rabbitmq.email-poll-close.routing-key}")
     private String emailRoutingKey;
 
-    private final MessageQueueGateway messageQueueGateway;
+    private final OutboxMessagePublisher outboxMessagePublisher;
 
-    public SendEmailPollClosedHandler(MessageQueueGateway messageQueueGateway) {
-        this.messageQueueGateway = messageQueueGateway;
+    public SendEmailPollClosedHandler(OutboxMessagePublisher outboxMessagePublisher) {
+        this.outboxMessagePublisher = outboxMessagePublisher;
     }
 
     @Override
     public void handle(PollClosedEvent event) {
-        messageQueueGateway.send(exchangeName, event, emailRoutingKey);
+        outboxMessagePublisher.publish(event.getPollId(), exchangeName, event, emailRoutingKey);
+    }
+
+    @Override
+    public void handleAll(List<PollClosedEvent> events) {
+        outboxMessagePublisher.publishAll(events, PollClosedEvent::getPollId, exchangeName, emailRoutingKey);
     }
 
 }
@@ -1,26 +1,44 @@
 package com.example.poll_system.infrastructure.services.handlers;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
-import com.example.poll_system.domain.gateways.MessageQueueGateway;
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository;
 import com.example.poll_system.infrastructure.services.DomainEventHandler;
+import com.example.poll_system.infrastructure.services.impl.OutboxMessagePublisher;
 
+/**
+ * Com {@code app.email.vote-digest.enabled} o voto processado só incrementa o
+ * digest do usuário, enviado depois pelo {@code VoteReceiptDigestScheduler};
+ * sem digest cada voto vira uma mensagem na fila de emails.
+ */
 @Component
 public class SendEmailVoteProcessedHandler implements DomainEventHandler<VoteProcessedEvent> {
 
     private final static String EXCHANGE_NAME = "vote";
     private final static String ROUTING_KEY = "email-key";
 
-    private final MessageQueueGateway messageQueueGateway;
+    private final OutboxMessagePublisher outboxMessagePublisher;
+    private final VoteReceiptDigestRepository voteReceiptDigestRepository;
 
-    public SendEmailVoteProcessedHandler(MessageQueueGateway messageQueueGateway) {
-        this.messageQueueGateway = messageQueueGateway;
+    @Value("${app.email.vote-digest.enabled:false}")
+    private boolean digestEnabled;
+
+    public SendEmailVoteProcessedHandler(
+            OutboxMessagePublisher outboxMessagePublisher,
+            VoteReceiptDigestRepository voteReceiptDigestRepository) {
+        this.outboxMessagePublisher = outboxMessagePublisher;
+        this.voteReceiptDigestRepository = voteReceiptDigestRepository;
     }
 
     @Override
     public void handle(VoteProcessedEvent event) {
-        messageQueueGateway.send(EXCHANGE_NAME, event, ROUTING_KEY);
+        if (digestEnabled) {
+            voteReceiptDigestRepository.record(event.getUserId(), event.getUserEmail(), event.getVoteDate());
+            return;
+        }
+        outboxMessagePublisher.publish(event.getUserId(), EXCHANGE_NAME, event, ROUTING_KEY);
     }
 
 }
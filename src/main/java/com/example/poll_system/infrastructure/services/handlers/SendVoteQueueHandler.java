@@ -1,8 +1,18 @@
 package com.example.poll_system.infrastructure.services.handlers;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
+import com.example.poll_system.domain.exceptions.FailedToSendMessageToQueueException;
 import com.example.poll_system.domain.gateways.MessageQueueGateway;
 import com.example.poll_system.infrastructure.services.DomainEventHandler;
 
@@ -15,13 +25,47 @@ public class SendVoteQueueHandler implements DomainEventHandler<VoteCreatedEvent
 
     private final MessageQueueGateway messageQueueGateway;
 
+    /**
+     * Com {@code true} o 202 só é devolvido depois do confirm do broker, então
+     * um voto aceito nunca se perde; com {@code false} a resposta não espera o
+     * confirm e falhas de publicação ficam apenas no log e nas métricas.
+     */
+    @Value("${app.rabbitmq.vote-publish.await-confirm:true}")
+    private boolean awaitConfirm;
+
+    @Value("${app.rabbitmq.vote-publish.timeout:PT10S}")
+    private Duration confirmTimeout;
+
     public SendVoteQueueHandler(MessageQueueGateway messageQueueGateway) {
         this.messageQueueGateway = messageQueueGateway;
     }
 
+    private final Logger logger = LoggerFactory.getLogger(SendVoteQueueHandler.class);
+
     @Override
     public void handle(VoteCreatedEvent event) {
-        messageQueueGateway.send(EXCHANGE_NAME, event, ROUTING_KEY);
+        CompletableFuture<Void> confirmation = messageQueueGateway.sendAsync(EXCHANGE_NAME, event, ROUTING_KEY);
+        if (!awaitConfirm) {
+            confirmation.exceptionally(error -> {
+                sendErrorLogMessageVoteNotPublished(event, error);
+                return null;
+            });
+            return;
+        }
+        try {
+            confirmation.get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FailedToSendMessageToQueueException("Erro ao enviar voto para a fila");
+        } catch (ExecutionException | TimeoutException e) {
+            sendErrorLogMessageVoteNotPublished(event, e);
+            throw new FailedToSendMessageToQueueException("Erro ao enviar voto para a fila");
+        }
+    }
+
+    private void sendErrorLogMessageVoteNotPublished(VoteCreatedEvent event, Throwable error) {
+        logger.error("Vote from user {} for option {} was not confirmed by the broker: {}",
+                event.getUserId(), event.getPollOptionId(), error.getMessage());
     }
 
 }
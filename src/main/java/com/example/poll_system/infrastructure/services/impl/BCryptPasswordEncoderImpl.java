@@ -1,14 +1,74 @@
 package com.example.poll_system.infrastructure.services.impl;
 
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
+import com.example.poll_system.domain.exceptions.TooManyRequestsException;
 import com.example.poll_system.infrastructure.services.PasswordEncoder;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * O bcrypt roda em um pool próprio e limitado
+ * ({@code app.security.password-hashing.*}), para que picos de login não
+ * consumam a CPU das threads que atendem as demais requisições. A thread da
+ * requisição só espera o resultado. Com a fila cheia, ou se a espera passar de
+ * {@code max-wait}, a operação é recusada com {@link TooManyRequestsException}
+ * em vez de enfileirar mais trabalho.
+ */
 @Service
 public class BCryptPasswordEncoderImpl implements PasswordEncoder {
-    private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    private static final String METRIC_PREFIX = "poll.password-hashing.";
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final Counter rejectedCounter;
+
+    public BCryptPasswordEncoderImpl(
+            MeterRegistry meterRegistry,
+            @Value("${app.security.bcrypt.strength:10}") int strength,
+            @Value("${app.security.password-hashing.pool-size:2}") int poolSize,
+            @Value("${app.security.password-hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${app.security.password-hashing.max-wait:PT2S}") Duration maxWait) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.maxWait = maxWait;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge(METRIC_PREFIX + "queued", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge(METRIC_PREFIX + "active", executor, ThreadPoolExecutor::getActiveCount);
+        this.rejectedCounter = meterRegistry.counter(METRIC_PREFIX + "rejected");
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(BCryptPasswordEncoderImpl.class);
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
     @Override
     public String encode(String rawPassword) {
@@ -16,7 +76,7 @@ public class BCryptPasswordEncoderImpl implements PasswordEncoder {
             throw new BusinessRulesException(
                     "Invalid password. Password must be at least 8 characters long and include at least one uppercase letter, one lowercase letter, one digit, and one special character.");
         }
-        return encoder.encode(rawPassword);
+        return runBounded(() -> encoder.encode(rawPassword));
     }
 
     @Override
@@ -24,6 +84,46 @@ public class BCryptPasswordEncoderImpl implements PasswordEncoder {
         if (rawPassword == null || encodedPassword == null) {
             throw new BusinessRulesException("Password or encoded password cannot be null.");
         }
-        return encoder.matches(rawPassword, encodedPassword);
+        return runBounded(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return encoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T runBounded(Callable<T> hashing) {
+        Future<T> future;
+        try {
+            future = executor.submit(hashing);
+        } catch (RejectedExecutionException e) {
+            return reject("queue full");
+        }
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return reject("wait exceeded " + maxWait);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T reject(String reason) {
+        rejectedCounter.increment();
+        sendWarningLogMessageHashingRejected(reason);
+        throw new TooManyRequestsException("Too many authentication requests. Please try again shortly.");
+    }
+
+    private void sendWarningLogMessageHashingRejected(String reason) {
+        logger.warn("Password hashing rejected ({}), active: {}, queued: {}",
+                reason, executor.getActiveCount(), executor.getQueue().size());
     }
 }
@@ -1,32 +1,227 @@
 package com.example.poll_system.infrastructure.services.impl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
-import org.springframework.stereotype.Service;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.example.poll_system.domain.entities.DomainEvent;
 import com.example.poll_system.infrastructure.services.DomainEventHandler;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
-@Service
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Despacha eventos de domínio para os handlers registrados.
+ *
+ * Handlers síncronos rodam na thread de quem publicou, na ordem de registro, e
+ * propagam exceções. Handlers com {@link DomainEventHandler#isAsync()} vão
+ * para um executor limitado; com a fila cheia o handler roda na thread de quem
+ * publicou, o que segura o produtor em vez de acumular eventos.
+ *
+ * {@link #publishAll} agrupa os eventos por classe concreta e entrega cada
+ * grupo de uma vez a {@link DomainEventHandler#handleAll}.
+ *
+ * Os handlers de um tipo de evento incluem os registrados para as suas
+ * superclasses e interfaces. A resolução é feita uma vez por classe concreta
+ * e guardada em listas imutáveis; registrar um handler descarta essas listas.
+ */
 public class EventDispatcher implements EventPublisher {
 
-    @SuppressWarnings("rawtypes")
-    private final Map<Class<? extends DomainEvent>, List<DomainEventHandler>> handlers = new HashMap<>();
+    private static final String METRIC_PREFIX = "poll.events.handler.";
+
+    private final MeterRegistry meterRegistry;
+    private final int asyncPoolSize;
+    private final int asyncQueueCapacity;
+
+    private volatile Map<Class<?>, List<Registration>> registrationsByDeclaredType = Map.of();
+    private final Map<Class<?>, List<Registration>> registrationsByEventType = new ConcurrentHashMap<>();
+    private volatile ThreadPoolExecutor asyncExecutor;
 
-    public <T extends DomainEvent> void registerHandler(Class<T> eventType, DomainEventHandler<T> handler) {
-        handlers.computeIfAbsent(eventType, k -> new ArrayList<>()).add(handler);
+    public EventDispatcher() {
+        this(new SimpleMeterRegistry(), 4, 1000);
+    }
+
+    public EventDispatcher(MeterRegistry meterRegistry, int asyncPoolSize, int asyncQueueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.asyncPoolSize = asyncPoolSize;
+        this.asyncQueueCapacity = asyncQueueCapacity;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(EventDispatcher.class);
+
+    public synchronized <T extends DomainEvent> void registerHandler(Class<T> eventType, DomainEventHandler<T> handler) {
+        Map<Class<?>, List<Registration>> updated = new HashMap<>(registrationsByDeclaredType);
+        List<Registration> registrations = new ArrayList<>(updated.getOrDefault(eventType, List.of()));
+        registrations.add(new Registration(handler, eventType));
+        updated.put(eventType, List.copyOf(registrations));
+        registrationsByDeclaredType = Map.copyOf(updated);
+        registrationsByEventType.clear();
+        if (handler.isAsync() && asyncExecutor == null) {
+            asyncExecutor = createAsyncExecutor();
+        }
     }
 
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public void publish(DomainEvent event) {
-        List<DomainEventHandler> eventHandlers = handlers.getOrDefault(event.getClass(), List.of());
-        for (DomainEventHandler handler : eventHandlers) {
-            handler.handle(event);
+        List<Registration> registrations = registrationsByEventType.computeIfAbsent(event.getClass(), this::resolve);
+        for (Registration registration : registrations) {
+            if (registration.async) {
+                asyncExecutor.execute(() -> invokeAsync(registration, event));
+            } else {
+                registration.invoke(event);
+            }
+        }
+    }
+
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        Map<Class<?>, List<DomainEvent>> eventsByType = new LinkedHashMap<>();
+        for (DomainEvent event : events) {
+            eventsByType.computeIfAbsent(event.getClass(), type -> new ArrayList<>()).add(event);
+        }
+        eventsByType.forEach((eventType, sameTypeEvents) -> {
+            List<Registration> registrations = registrationsByEventType.computeIfAbsent(eventType, this::resolve);
+            for (Registration registration : registrations) {
+                if (registration.async) {
+                    asyncExecutor.execute(() -> invokeAllAsync(registration, sameTypeEvents));
+                } else {
+                    registration.invokeAll(sameTypeEvents);
+                }
+            }
+        });
+    }
+
+    public void shutdown() throws InterruptedException {
+        ThreadPoolExecutor executor = asyncExecutor;
+        if (executor != null) {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void invokeAsync(Registration registration, DomainEvent event) {
+        try {
+            registration.invoke(event);
+        } catch (RuntimeException e) {
+            sendErrorLogMessageAsyncHandlerFailed(registration, event, e);
+        }
+    }
+
+    private void invokeAllAsync(Registration registration, List<DomainEvent> events) {
+        try {
+            registration.invokeAll(events);
+        } catch (RuntimeException e) {
+            sendErrorLogMessageAsyncHandlerFailed(registration, events.get(0), e);
+        }
+    }
+
+    private List<Registration> resolve(Class<?> eventType) {
+        Map<Class<?>, List<Registration>> declared = registrationsByDeclaredType;
+        List<Registration> resolved = new ArrayList<>();
+        for (Class<?> type : typeHierarchy(eventType)) {
+            resolved.addAll(declared.getOrDefault(type, List.of()));
+        }
+        return List.copyOf(resolved);
+    }
+
+    /** A própria classe, as superclasses e depois as interfaces, sem repetição. */
+    private static Set<Class<?>> typeHierarchy(Class<?> eventType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> type = eventType; type != null; type = type.getSuperclass()) {
+            types.add(type);
+        }
+        Deque<Class<?>> pending = new ArrayDeque<>(types);
+        while (!pending.isEmpty()) {
+            for (Class<?> implemented : pending.poll().getInterfaces()) {
+                if (types.add(implemented)) {
+                    pending.add(implemented);
+                }
+            }
+        }
+        return types;
+    }
+
+    private ThreadPoolExecutor createAsyncExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                asyncPoolSize,
+                asyncPoolSize,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(asyncQueueCapacity),
+                Thread.ofPlatform().name("event-dispatcher-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        meterRegistry.gauge(METRIC_PREFIX + "async.queued", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge(METRIC_PREFIX + "async.active", executor, ThreadPoolExecutor::getActiveCount);
+        return executor;
+    }
+
+    private void sendErrorLogMessageAsyncHandlerFailed(Registration registration, DomainEvent event,
+            RuntimeException e) {
+        logger.error("Async handler {} failed for event {}", registration.name, event.getClass().getSimpleName(), e);
+    }
+
+    private final class Registration {
+        @SuppressWarnings("rawtypes")
+        private final DomainEventHandler handler;
+        private final boolean async;
+        private final String name;
+        private final Timer timer;
+        private final Counter failures;
+
+        private Registration(DomainEventHandler<?> handler, Class<?> eventType) {
+            this.handler = handler;
+            this.async = handler.isAsync();
+            this.name = handler.getClass().getSimpleName();
+            this.timer = Timer.builder(METRIC_PREFIX + "duration")
+                    .tag("handler", name)
+                    .tag("event", eventType.getSimpleName())
+                    .register(meterRegistry);
+            this.failures = Counter.builder(METRIC_PREFIX + "failures")
+                    .tag("handler", name)
+                    .tag("event", eventType.getSimpleName())
+                    .register(meterRegistry);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void invokeAll(List<DomainEvent> events) {
+            long start = System.nanoTime();
+            try {
+                handler.handleAll(events);
+            } catch (RuntimeException e) {
+                failures.increment();
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void invoke(DomainEvent event) {
+            long start = System.nanoTime();
+            try {
+                handler.handle(event);
+            } catch (RuntimeException e) {
+                failures.increment();
+                throw e;
+            } finally {
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
         }
     }
 
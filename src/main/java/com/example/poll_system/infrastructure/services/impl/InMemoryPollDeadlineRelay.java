@@ -0,0 +1,27 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.infrastructure.services.PollDeadlineRelay;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.Transition;
+
+/** Com um único nó, o prazo vai direto para o timer local. */
+@Service
+@Profile("in-memory")
+public class InMemoryPollDeadlineRelay implements PollDeadlineRelay {
+
+    private final PollDeadlineTimer pollDeadlineTimer;
+
+    public InMemoryPollDeadlineRelay(PollDeadlineTimer pollDeadlineTimer) {
+        this.pollDeadlineTimer = pollDeadlineTimer;
+    }
+
+    @Override
+    public void relay(String pollId, Transition transition, LocalDateTime dueAt) {
+        pollDeadlineTimer.schedule(pollId, transition, dueAt);
+    }
+}
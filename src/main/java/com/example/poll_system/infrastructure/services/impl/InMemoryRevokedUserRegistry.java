@@ -0,0 +1,38 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.gateways.RevokedUserRegistry;
+
+/**
+ * Revogações mantidas só neste nó. Uma revogação mais antiga que a validade
+ * dos tokens é descartada, pois todo token emitido antes dela já expirou.
+ */
+@Service
+@Profile("in-memory")
+public class InMemoryRevokedUserRegistry implements RevokedUserRegistry {
+
+    private final Map<String, Instant> revokedAtByUserId = new ConcurrentHashMap<>();
+
+    @Value("${app.jwt.expiration:86400}")
+    private long tokenLifetimeSeconds;
+
+    @Override
+    public void revoke(String userId, Instant revokedAt) {
+        revokedAtByUserId.merge(userId, revokedAt, (current, next) -> next.isAfter(current) ? next : current);
+        Instant oldestRelevant = Instant.now().minusSeconds(tokenLifetimeSeconds);
+        revokedAtByUserId.values().removeIf(instant -> instant.isBefore(oldestRelevant));
+    }
+
+    @Override
+    public boolean isRevoked(String userId, Instant tokenIssuedAt) {
+        Instant revokedAt = revokedAtByUserId.get(userId);
+        return revokedAt != null && !tokenIssuedAt.isAfter(revokedAt);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.gateways.SchedulerLeaseGateway;
+
+@Service
+@Profile("in-memory")
+public class InMemorySchedulerLeaseGateway implements SchedulerLeaseGateway {
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(String lease, String holder, Duration timeToLive) {
+        long now = System.nanoTime();
+        Lease current = leases.compute(lease, (name, existing) -> {
+            if (existing == null || existing.holder().equals(holder) || existing.expiresAt() - now <= 0) {
+                return new Lease(holder, now + timeToLive.toNanos());
+            }
+            return existing;
+        });
+        return current.holder().equals(holder);
+    }
+
+    @Override
+    public void release(String lease, String holder) {
+        leases.computeIfPresent(lease, (name, existing) -> existing.holder().equals(holder) ? null : existing);
+    }
+
+    private record Lease(String holder, long expiresAt) {
+    }
+}
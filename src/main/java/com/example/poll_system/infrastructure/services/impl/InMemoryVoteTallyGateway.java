@@ -0,0 +1,47 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+
+@Service
+@Profile("in-memory")
+public class InMemoryVoteTallyGateway implements VoteTallyGateway {
+
+    private final Map<String, Map<String, Long>> tallyByPollId = new HashMap<>();
+
+    @Override
+    public synchronized void increment(Vote vote) {
+        Map<String, Long> tally = tallyByPollId.get(vote.getPollId());
+        if (tally != null) {
+            tally.merge(vote.getPollOptionId(), 1L, Long::sum);
+        }
+    }
+
+    @Override
+    public synchronized void incrementAll(List<Vote> votes) {
+        for (Vote vote : votes) {
+            increment(vote);
+        }
+    }
+
+    @Override
+    public synchronized Optional<Map<String, Long>> findByPollId(String pollId) {
+        Map<String, Long> tally = tallyByPollId.get(pollId);
+        return tally == null ? Optional.empty() : Optional.of(new HashMap<>(tally));
+    }
+
+    @Override
+    public synchronized void populate(String pollId, Map<String, Long> voteCountsByOptionId) {
+        if (!voteCountsByOptionId.isEmpty()) {
+            tallyByPollId.putIfAbsent(pollId, new HashMap<>(voteCountsByOptionId));
+        }
+    }
+}
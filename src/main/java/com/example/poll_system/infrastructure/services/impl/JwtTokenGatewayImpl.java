@@ -1,9 +1,13 @@
 package com.example.poll_system.infrastructure.services.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.HexFormat;
 
 import javax.crypto.SecretKey;
 
@@ -12,19 +16,43 @@ import org.springframework.stereotype.Service;
 
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.gateways.JwtTokenGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
+/**
+ * Chave HMAC e parser são montados uma vez no construtor. Tokens já
+ * verificados ficam em um cache limitado, indexado pelo SHA-256 do token, até
+ * a sua expiração; assim a mesma requisição, ou as seguintes com o mesmo
+ * token, não repetem a verificação da assinatura nem o parse do JSON.
+ */
 @Service
 public class JwtTokenGatewayImpl implements JwtTokenGateway {
 
-    @Value("${app.jwt.secret:mySecretKey123456789012345678901234567890}")
-    private String secretKey;
-
-    @Value("${app.jwt.expiration:86400}") // 24 hours in seconds
-    private Long expirationTime;
+    private final Long expirationTime;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    public JwtTokenGatewayImpl(
+            @Value("${app.jwt.secret:mySecretKey123456789012345678901234567890}") String secretKey,
+            @Value("${app.jwt.expiration:86400}") Long expirationTime, // 24 hours in seconds
+            @Value("${app.jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
+        this.expirationTime = expirationTime;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+    }
 
     @Override
     public String generateToken(User user) {
@@ -38,20 +66,35 @@ public class JwtTokenGatewayImpl implements JwtTokenGateway {
                 .claim("role", user.getRole().name())
                 .issuedAt(Date.from(now))
                 .expiration(Date.from(expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    @Override
+    public TokenClaims verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            // O parser lança a exceção adequada para token ausente
+            return toTokenClaims(parser.parseSignedClaims(token).getPayload());
+        }
+        String tokenHash = sha256(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+        TokenClaims claims = toTokenClaims(parser.parseSignedClaims(token).getPayload());
+        verifiedTokens.put(tokenHash, claims);
+        return claims;
+    }
+
     @Override
     public String extractEmailFromToken(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verifyToken(token).email();
     }
 
     @Override
     public boolean isTokenValid(String token, String email) {
         try {
-            String tokenEmail = extractEmailFromToken(token);
-            return tokenEmail.equals(email) && !isTokenExpired(token);
+            return verifyToken(token).email().equals(email);
         } catch (Exception e) {
             return false;
         }
@@ -60,8 +103,7 @@ public class JwtTokenGatewayImpl implements JwtTokenGateway {
     @Override
     public boolean isTokenExpired(String token) {
         try {
-            Date expiration = extractClaim(token, Claims::getExpiration);
-            return expiration.before(new Date());
+            return !verifyToken(token).expiresAt().isAfter(Instant.now());
         } catch (Exception e) {
             return true;
         }
@@ -72,20 +114,41 @@ public class JwtTokenGatewayImpl implements JwtTokenGateway {
         return expirationTime;
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private TokenClaims toTokenClaims(Claims claims) {
+        return new TokenClaims(
+                claims.getSubject(),
+                claims.get("userId", String.class),
+                claims.get("name", String.class),
+                claims.get("role", String.class),
+                claims.getIssuedAt() == null ? null : claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant());
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    /** Cada token fica no cache só até a sua própria expiração. */
+    private static final class UntilTokenExpiration implements Expiry<String, TokenClaims> {
+
+        @Override
+        public long expireAfterCreate(String tokenHash, TokenClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(tokenHash, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String tokenHash, TokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Token bucket por domínio de destino, com rajada de até um segundo de
+ * envios. {@link #acquire} bloqueia a thread até haver token, o que é barato
+ * nas virtual threads dos listeners.
+ */
+public class MailRateLimiter {
+
+    private final ToDoubleFunction<String> permitsPerSecondByDomain;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public MailRateLimiter(ToDoubleFunction<String> permitsPerSecondByDomain) {
+        this.permitsPerSecondByDomain = permitsPerSecondByDomain;
+    }
+
+    public void acquire(String domain) {
+        Bucket bucket = buckets.computeIfAbsent(domain, key -> {
+            double permitsPerSecond = permitsPerSecondByDomain.applyAsDouble(key);
+            return permitsPerSecond > 0 ? new Bucket(permitsPerSecond) : null;
+        });
+        if (bucket == null) {
+            return;
+        }
+        long waitNanos;
+        while ((waitNanos = bucket.tryTake()) > 0) {
+            LockSupport.parkNanos(waitNanos);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public static String domainOf(String address) {
+        int at = address.lastIndexOf('@');
+        return at < 0 ? "" : address.substring(at + 1).toLowerCase();
+    }
+
+    private static final class Bucket {
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        private Bucket(double permitsPerSecond) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, permitsPerSecond);
+            this.tokens = capacity;
+        }
+
+        /** Consome um token e devolve 0, ou devolve quantos nanos esperar. */
+        private synchronized long tryTake() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / permitsPerNano);
+        }
+    }
+}
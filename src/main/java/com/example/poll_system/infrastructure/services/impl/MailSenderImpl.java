@@ -1,29 +1,148 @@
 package com.example.poll_system.infrastructure.services.impl;
 
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import com.example.poll_system.infrastructure.config.MailDeliveryProperties;
 import com.example.poll_system.infrastructure.services.MailSender;
+import com.example.poll_system.infrastructure.services.MailSender.PartialSendException;
+import com.example.poll_system.infrastructure.services.impl.SmtpTransportPool.PooledTransport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
 
+/**
+ * Envio de emails por conexões SMTP reaproveitadas ({@link SmtpTransportPool})
+ * com limite de taxa por domínio de destino ({@link MailRateLimiter}).
+ *
+ * Host, porta, credenciais e propriedades da sessão vêm de
+ * {@code spring.mail.*}, através do {@link JavaMailSenderImpl} do Spring Boot.
+ * Um destinatário recusado não derruba o lote; uma falha de conexão é tentada
+ * de novo uma vez em conexão nova antes de ser lançada, junto com quantas
+ * mensagens do lote já tinham sido tratadas.
+ */
 @Service
 public class MailSenderImpl implements MailSender {
 
-    private final JavaMailSender javaMailSender;
+    private final SmtpTransportPool transportPool;
+    private final MailRateLimiter rateLimiter;
+    private final String from;
+    private final String defaultEncoding;
+    private final Counter sentCounter;
+    private final Counter rejectedCounter;
+
+    public MailSenderImpl(
+            JavaMailSenderImpl javaMailSender,
+            MailDeliveryProperties properties,
+            MeterRegistry meterRegistry) {
+        MailDeliveryProperties.Pool pool = properties.getPool();
+        this.transportPool = new SmtpTransportPool(
+                javaMailSender.getSession(),
+                javaMailSender.getHost(),
+                javaMailSender.getPort(),
+                javaMailSender.getUsername(),
+                javaMailSender.getPassword(),
+                pool.getMaxSize(),
+                pool.getMaxMessagesPerConnection(),
+                pool.getMaxIdle().toMillis(),
+                meterRegistry);
+        this.rateLimiter = new MailRateLimiter(properties.getRateLimit()::permitsPerSecondFor);
+        this.from = properties.getFrom();
+        this.defaultEncoding = javaMailSender.getDefaultEncoding() != null
+                ? javaMailSender.getDefaultEncoding()
+                : "UTF-8";
+        this.sentCounter = meterRegistry.counter("poll.mail.sent");
+        this.rejectedCounter = meterRegistry.counter("poll.mail.rejected");
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(MailSenderImpl.class);
 
-    public MailSenderImpl(JavaMailSender javaMailSender) {
-        this.javaMailSender = javaMailSender;
+    @PreDestroy
+    public void close() {
+        transportPool.closeAll();
     }
 
     @Override
     public void send(String to, String subject, String body) {
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(to);
-        message.setSubject(subject);
-        message.setText(body);
-        message.setFrom("noreply@poll-system.com");
+        List<MailMessage> rejected = sendAll(List.of(new MailMessage(to, subject, body)));
+        if (!rejected.isEmpty()) {
+            throw new MailSendException("Recipient rejected: " + to);
+        }
+    }
+
+    @Override
+    public List<MailMessage> sendAll(List<MailMessage> messages) {
+        List<MailMessage> rejected = new ArrayList<>();
+        int next = 0;
+        int lastFailedIndex = -1;
+        while (next < messages.size()) {
+            PooledTransport transport = borrow(next);
+            boolean broken = false;
+            try {
+                while (next < messages.size() && transport.canSendMore()) {
+                    MailMessage message = messages.get(next);
+                    rateLimiter.acquire(MailRateLimiter.domainOf(message.to()));
+                    MimeMessage mimeMessage = toMimeMessage(message);
+                    try {
+                        transport.send(mimeMessage, mimeMessage.getAllRecipients());
+                        sentCounter.increment();
+                    } catch (SendFailedException e) {
+                        rejectedCounter.increment();
+                        sendWarningLogMessageRecipientRejected(message, e);
+                        rejected.add(message);
+                    }
+                    next++;
+                }
+            } catch (MessagingException e) {
+                broken = true;
+                if (lastFailedIndex == next) {
+                    throw new PartialSendException("Failed to send email to " + messages.get(next).to(), e, next);
+                }
+                lastFailedIndex = next;
+                sendWarningLogMessageConnectionFailed(e);
+            } finally {
+                transportPool.release(transport, broken);
+            }
+        }
+        return rejected;
+    }
+
+    private PooledTransport borrow(int handledCount) {
+        try {
+            return transportPool.borrow();
+        } catch (MessagingException e) {
+            throw new PartialSendException("Failed to open SMTP connection", e, handledCount);
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailMessage message) throws MessagingException {
+        MimeMessageHelper helper = new MimeMessageHelper(transportPool.newMessage(), defaultEncoding);
+        helper.setFrom(from);
+        helper.setTo(message.to());
+        helper.setSubject(message.subject());
+        helper.setText(message.body());
+        MimeMessage mimeMessage = helper.getMimeMessage();
+        mimeMessage.saveChanges();
+        return mimeMessage;
+    }
+
+    private void sendWarningLogMessageRecipientRejected(MailMessage message, SendFailedException e) {
+        logger.warn("SMTP server rejected recipient {}: {}", message.to(), e.getMessage());
+    }
 
-        javaMailSender.send(message);
+    private void sendWarningLogMessageConnectionFailed(MessagingException e) {
+        logger.warn("SMTP connection failed, retrying on a new connection: {}", e.getMessage());
     }
 
 }
@@ -1,51 +1,118 @@
 package com.example.poll_system.infrastructure.services.impl;
 
 import java.io.InputStream;
-import java.time.LocalDateTime;
+import java.time.Duration;
 
-import org.apache.commons.io.IOUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
 import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
 import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.errors.ErrorResponseException;
+import io.minio.http.Method;
 
+/**
+ * Upload e download em stream: nenhum dos dois materializa o objeto no heap.
+ * Sem tamanho conhecido o upload usa multipart do S3 com partes de
+ * {@code app.minio.upload.part-size}, então só uma parte fica em buffer por vez.
+ *
+ * Para leitura pelo cliente a aplicação entrega URLs pré-assinadas, válidas
+ * por {@code app.minio.presigned-url.expiry}. A URL de cada objeto é
+ * reaproveitada até restar {@code app.minio.presigned-url.min-remaining} de
+ * validade, assim respostas repetidas não reassinam nem mudam a URL, o que
+ * deixa o navegador usar o próprio cache.
+ */
 @Service
 public class MinioStorage implements ObjectStorage {
 
-    private final MinioClient minioClient;
+    private static final String DEFAULT_CONTENT_TYPE = "image/jpeg";
 
-    @Value("${app.minio.bucket-name}")
-    private String minioBucketName;
+    private final MinioClient minioClient;
+    private final MinioClient presignClient;
+    private final String minioBucketName;
+    private final DataSize uploadPartSize;
+    private final Duration presignedUrlExpiry;
+    private final Cache<String, String> presignedUrls;
 
-    public MinioStorage(MinioClient minioClient) {
+    public MinioStorage(
+            MinioClient minioClient,
+            @Qualifier("minioPresignClient") MinioClient presignClient,
+            @Value("${app.minio.bucket-name}") String minioBucketName,
+            @Value("${app.minio.upload.part-size:5MB}") DataSize uploadPartSize,
+            @Value("${app.minio.presigned-url.expiry:PT15M}") Duration presignedUrlExpiry,
+            @Value("${app.minio.presigned-url.min-remaining:PT5M}") Duration presignedUrlMinRemaining,
+            @Value("${app.minio.presigned-url.cache-max-size:10000}") long presignedUrlCacheMaxSize) {
+        if (presignedUrlMinRemaining.compareTo(presignedUrlExpiry) >= 0) {
+            throw new IllegalArgumentException("Presigned URL min-remaining must be shorter than its expiry");
+        }
         this.minioClient = minioClient;
+        this.presignClient = presignClient;
+        this.minioBucketName = minioBucketName;
+        this.uploadPartSize = uploadPartSize;
+        this.presignedUrlExpiry = presignedUrlExpiry;
+        this.presignedUrls = Caffeine.newBuilder()
+                .maximumSize(presignedUrlCacheMaxSize)
+                .expireAfterWrite(presignedUrlExpiry.minus(presignedUrlMinRemaining))
+                .build();
     }
 
     @Override
-    public String upload(String fileName, InputStream fileContent) throws Exception {
-        String name = fileName + "-" + LocalDateTime.now().toString();
+    public String upload(String fileName, InputStream fileContent, long size, String contentType) throws Exception {
+        boolean sizeKnown = size >= 0;
         minioClient.putObject(
                 PutObjectArgs.builder()
                         .bucket(minioBucketName)
-                        .object(name)
-                        .stream(fileContent, fileContent.available(), -1)
-                        .contentType("image/jpeg")
+                        .object(fileName)
+                        .stream(fileContent, sizeKnown ? size : -1, sizeKnown ? -1 : uploadPartSize.toBytes())
+                        .contentType(contentType != null ? contentType : DEFAULT_CONTENT_TYPE)
+                        .build());
+        return fileName;
+    }
+
+    @Override
+    public boolean exists(String fileName) throws Exception {
+        try {
+            minioClient.statObject(
+                    StatObjectArgs.builder()
+                            .bucket(minioBucketName)
+                            .object(fileName)
+                            .build());
+            return true;
+        } catch (ErrorResponseException e) {
+            if ("NoSuchKey".equals(e.errorResponse().code())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public InputStream download(String fileName) throws Exception {
+        return minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(minioBucketName)
+                        .object(fileName)
                         .build());
-        return name;
     }
 
     @Override
-    public byte[] download(String fileName) throws Exception {
-        var stream = minioClient.getObject(
+    public InputStream download(String fileName, long offset, long length) throws Exception {
+        return minioClient.getObject(
                 GetObjectArgs.builder()
                         .bucket(minioBucketName)
                         .object(fileName)
+                        .offset(offset)
+                        .length(length)
                         .build());
-        return IOUtils.toByteArray(stream);
     }
 
     @Override
@@ -53,4 +120,26 @@ public class MinioStorage implements ObjectStorage {
         // Implement the delete logic using MinIO client
     }
 
+    @Override
+    public String presignedUrl(String fileName) {
+        if (fileName == null) {
+            return null;
+        }
+        return presignedUrls.get(fileName, this::presign);
+    }
+
+    private String presign(String fileName) {
+        try {
+            return presignClient.getPresignedObjectUrl(
+                    GetPresignedObjectUrlArgs.builder()
+                            .method(Method.GET)
+                            .bucket(minioBucketName)
+                            .object(fileName)
+                            .expiry((int) presignedUrlExpiry.toSeconds())
+                            .build());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to presign URL for object " + fileName, e);
+        }
+    }
+
 }
@@ -0,0 +1,55 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.gateways.OutboxRepository;
+import com.example.poll_system.domain.gateways.OutboxRepository.OutboxMessage;
+
+/**
+ * Grava a mensagem na tabela de outbox em vez de publicá-la no broker. Chamado
+ * dentro da transação do caso de uso, o evento só passa a existir se a
+ * alteração do agregado for confirmada; a publicação fica a cargo do
+ * {@code OutboxRelay}.
+ */
+@Component
+public class OutboxMessagePublisher {
+
+    private final OutboxRepository outboxRepository;
+    private final MessageConverter messageConverter;
+
+    public OutboxMessagePublisher(OutboxRepository outboxRepository, MessageConverter messageConverter) {
+        this.outboxRepository = outboxRepository;
+        this.messageConverter = messageConverter;
+    }
+
+    public void publish(String aggregateId, String exchange, Object message, String routingKey) {
+        outboxRepository.save(toOutboxMessage(aggregateId, exchange, message, routingKey));
+    }
+
+    /** Grava o lote de mensagens com uma única escrita na outbox. */
+    public <T> void publishAll(List<T> messages, Function<T, String> aggregateId, String exchange,
+            String routingKey) {
+        outboxRepository.saveAll(messages.stream()
+                .map(message -> toOutboxMessage(aggregateId.apply(message), exchange, message, routingKey))
+                .toList());
+    }
+
+    private OutboxMessage toOutboxMessage(String aggregateId, String exchange, Object message, String routingKey) {
+        Message serialized = messageConverter.toMessage(message, new MessageProperties());
+        Object typeId = serialized.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        return new OutboxMessage(
+                aggregateId,
+                exchange,
+                routingKey,
+                typeId != null ? typeId.toString() : message.getClass().getName(),
+                new String(serialized.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+
+/**
+ * Imagens ficam no object storage em {@code profile-images/{sha256}}, com as
+ * miniaturas em {@code profile-images/{sha256}-{lado}}. Como o nome vem do
+ * conteúdo, uma imagem já enviada (outro usuário ou o mesmo arquivo de novo)
+ * não é enviada outra vez. As miniaturas são enviadas antes da original, então
+ * a existência da original indica que o conjunto está completo.
+ *
+ * A imagem é decodificada com subamostragem proporcional à maior miniatura,
+ * para não carregar no heap a resolução inteira de fotos grandes.
+ */
+@Service
+public class ProfileImagePipelineImpl implements ProfileImagePipeline {
+
+    private static final String OBJECT_PREFIX = "profile-images/";
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+
+    private final ObjectStorage objectStorage;
+    private final UserRepository userRepository;
+    private final Path stagingDirectory;
+    private final List<Integer> thumbnailSizes;
+
+    public ProfileImagePipelineImpl(
+            ObjectStorage objectStorage,
+            UserRepository userRepository,
+            @Value("${app.profile-images.staging-dir:${java.io.tmpdir}/poll-system-profile-images}") Path stagingDirectory,
+            @Value("${app.profile-images.thumbnail-sizes:64,256}") List<Integer> thumbnailSizes) {
+        this.objectStorage = objectStorage;
+        this.userRepository = userRepository;
+        this.stagingDirectory = stagingDirectory;
+        this.thumbnailSizes = List.copyOf(thumbnailSizes);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ProfileImagePipelineImpl.class);
+
+    public static String thumbnailName(String objectName, int size) {
+        return objectName + "-" + size;
+    }
+
+    @Override
+    public StagedImage stage(InputStream content, String contentType) throws IOException {
+        Files.createDirectories(stagingDirectory);
+        Path file = Files.createTempFile(stagingDirectory, "profile-", ".upload");
+        MessageDigest digest = sha256();
+        try (DigestInputStream hashing = new DigestInputStream(content, digest)) {
+            long size = Files.copy(hashing, file, StandardCopyOption.REPLACE_EXISTING);
+            String objectName = OBJECT_PREFIX + HexFormat.of().formatHex(digest.digest());
+            return new StagedImage(file, objectName, size, contentType, LocalDateTime.now());
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @Override
+    public void process(String userId, StagedImage image) {
+        try {
+            if (objectStorage.exists(image.objectName())) {
+                sendInfoLogMessageDuplicateImage(userId, image);
+            } else {
+                uploadThumbnails(image);
+                try (InputStream content = Files.newInputStream(image.path())) {
+                    objectStorage.upload(image.objectName(), content, image.size(), image.contentType());
+                }
+            }
+            pointUserToImage(userId, image);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to process profile image of user " + userId, e);
+        } finally {
+            discard(image);
+        }
+    }
+
+    @Override
+    public void discard(StagedImage image) {
+        try {
+            Files.deleteIfExists(image.path());
+        } catch (IOException e) {
+            sendWarningLogMessageDiscardFailed(image, e);
+        }
+    }
+
+    private void uploadThumbnails(StagedImage image) throws Exception {
+        if (thumbnailSizes.isEmpty()) {
+            return;
+        }
+        BufferedImage source = readSubsampled(image.path(), Collections.max(thumbnailSizes));
+        if (source == null) {
+            sendWarningLogMessageUnsupportedImage(image);
+            return;
+        }
+        for (int size : thumbnailSizes) {
+            byte[] thumbnail = toJpeg(resize(source, size));
+            objectStorage.upload(thumbnailName(image.objectName(), size), new ByteArrayInputStream(thumbnail),
+                    thumbnail.length, THUMBNAIL_CONTENT_TYPE);
+        }
+    }
+
+    /**
+     * Atualiza só a imagem, sem regravar o usuário lido antes do upload, para
+     * não desfazer um UpdateUser concorrente nem sobrescrever uma imagem
+     * enviada depois que terminou primeiro.
+     */
+    private void pointUserToImage(String userId, StagedImage image) {
+        if (!userRepository.changeUrlImageProfile(userId, image.objectName(), image.stagedAt())) {
+            sendWarningLogMessageImageNotApplied(userId, image.objectName());
+            return;
+        }
+        sendInfoLogMessageImageProcessed(userId, image.objectName());
+    }
+
+    private BufferedImage readSubsampled(Path file, int largestThumbnail) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            Iterator<ImageReader> readers = input == null ? Collections.emptyIterator() : ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int largestSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // Mantém pelo menos o dobro do lado da maior miniatura para a redução final
+                int subsampling = Math.max(1, largestSide / (largestThumbnail * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxSide) {
+        double scale = Math.min(1.0, (double) maxSide / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // JPEG não tem transparência
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] toJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", output);
+        return output.toByteArray();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void sendInfoLogMessageDuplicateImage(String userId, StagedImage image) {
+        logger.info("Profile image already stored, skipping upload - userId: {}, object: {}",
+                userId, image.objectName());
+    }
+
+    private void sendInfoLogMessageImageProcessed(String userId, String objectName) {
+        logger.info("Profile image processed - userId: {}, object: {}", userId, objectName);
+    }
+
+    private void sendWarningLogMessageUnsupportedImage(StagedImage image) {
+        logger.warn("Could not decode profile image {}, storing it without thumbnails", image.objectName());
+    }
+
+    private void sendWarningLogMessageImageNotApplied(String userId, String objectName) {
+        logger.warn("Profile image not applied, user missing or newer image already set - userId: {}, object: {}",
+                userId, objectName);
+    }
+
+    private void sendWarningLogMessageDiscardFailed(StagedImage image, IOException e) {
+        logger.warn("Could not delete staged profile image {}: {}", image.path(), e.getMessage());
+    }
+}
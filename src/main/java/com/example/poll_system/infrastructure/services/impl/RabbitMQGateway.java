@@ -1,16 +1,107 @@
 package com.example.poll_system.infrastructure.services.impl;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.example.poll_system.domain.gateways.MessageQueueGateway;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publicação no RabbitMQ com publisher confirms.
+ *
+ * {@link #sendAsync} apenas coloca a mensagem em um buffer limitado; uma
+ * thread dedicada drena o buffer em lotes e publica cada lote em um único
+ * canal. O futuro de cada mensagem é concluído pelo confirm correlacionado do
+ * broker. Nacks e timeouts de confirmação são reenfileirados até
+ * {@code app.rabbitmq.publisher.max-attempts}; mensagens devolvidas por falta
+ * de rota falham direto, pois reenviar não muda o resultado.
+ */
 @Service
 public class RabbitMQGateway implements MessageQueueGateway {
+
+    private static final String METRIC_PREFIX = "poll.rabbitmq.publisher.";
+
     private final RabbitTemplate rabbitTemplate;
+    private final BlockingQueue<PendingMessage> buffer;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration confirmTimeout;
+    private final Duration enqueueTimeout;
 
-    public RabbitMQGateway(RabbitTemplate rabbitTemplate) {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter confirmedCounter;
+    private final Counter nackedCounter;
+    private final Counter returnedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread publisherThread;
+
+    public RabbitMQGateway(
+            RabbitTemplate rabbitTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.rabbitmq.publisher.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${app.rabbitmq.publisher.batch-size:100}") int batchSize,
+            @Value("${app.rabbitmq.publisher.max-attempts:3}") int maxAttempts,
+            @Value("${app.rabbitmq.publisher.confirm-timeout:PT5S}") Duration confirmTimeout,
+            @Value("${app.rabbitmq.publisher.enqueue-timeout:PT1S}") Duration enqueueTimeout) {
         this.rabbitTemplate = rabbitTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.confirmTimeout = confirmTimeout;
+        this.enqueueTimeout = enqueueTimeout;
+        Gauge.builder(METRIC_PREFIX + "in-flight", inFlight, AtomicInteger::get)
+                .description("Mensagens publicadas aguardando confirm do broker")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "buffered", buffer, BlockingQueue::size)
+                .description("Mensagens aguardando publicação no buffer local")
+                .register(meterRegistry);
+        this.confirmedCounter = meterRegistry.counter(METRIC_PREFIX + "confirmed");
+        this.nackedCounter = meterRegistry.counter(METRIC_PREFIX + "nacked");
+        this.returnedCounter = meterRegistry.counter(METRIC_PREFIX + "returned");
+        this.retriedCounter = meterRegistry.counter(METRIC_PREFIX + "retried");
+        this.failedCounter = meterRegistry.counter(METRIC_PREFIX + "failed");
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RabbitMQGateway.class);
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        publisherThread = Thread.ofPlatform()
+                .name("rabbitmq-publisher")
+                .daemon(true)
+                .start(this::publishLoop);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        publisherThread.join(confirmTimeout.toMillis());
     }
 
     @Override
@@ -18,4 +109,142 @@ public class RabbitMQGateway implements MessageQueueGateway {
         rabbitTemplate.convertAndSend(exchange, routingKey, message);
     }
 
+    @Override
+    public CompletableFuture<Void> sendAsync(String exchange, Object message, String routingKey) {
+        PendingMessage pending = new PendingMessage(exchange, routingKey, message);
+        if (!running) {
+            fail(pending, new AmqpException("RabbitMQ publisher is not running"));
+            return pending.future;
+        }
+        try {
+            if (!buffer.offer(pending, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                sendWarningLogMessageBufferFull(exchange, routingKey);
+                fail(pending, new AmqpException("RabbitMQ outbound buffer is full"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(pending, new AmqpException("Interrupted while enqueuing message", e));
+        }
+        return pending.future;
+    }
+
+    private void publishLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingMessage first = buffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Unexpected error while publishing batch of {} messages", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+        PendingMessage remaining;
+        while ((remaining = buffer.poll()) != null) {
+            fail(remaining, new AmqpException("RabbitMQ publisher stopped before publishing message"));
+        }
+    }
+
+    private void publishBatch(List<PendingMessage> batch) {
+        AtomicInteger dispatched = new AtomicInteger();
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingMessage pending : batch) {
+                    publish(operations, pending);
+                    dispatched.incrementAndGet();
+                }
+                return null;
+            });
+        } catch (AmqpException e) {
+            // Falha ao obter ou fechar o canal: só as mensagens que ainda não
+            // foram tratadas voltam para o buffer.
+            batch.subList(dispatched.get(), batch.size())
+                    .forEach(pending -> retryOrFail(pending, e));
+        }
+    }
+
+    private void publish(RabbitOperations operations, PendingMessage pending) {
+        pending.attempts++;
+        CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+        try {
+            operations.convertAndSend(pending.exchange, pending.routingKey, pending.message, correlation);
+        } catch (AmqpException e) {
+            retryOrFail(pending, e);
+            return;
+        }
+        inFlight.incrementAndGet();
+        correlation.getFuture()
+                .orTimeout(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((confirm, error) -> {
+                    inFlight.decrementAndGet();
+                    ReturnedMessage returned = correlation.getReturned();
+                    if (error != null) {
+                        retryOrFail(pending, error);
+                    } else if (returned != null) {
+                        returnedCounter.increment();
+                        sendWarningLogMessageReturned(pending, returned);
+                        fail(pending, new AmqpException("Message returned by broker: " + returned.getReplyText()));
+                    } else if (confirm.isAck()) {
+                        confirmedCounter.increment();
+                        pending.future.complete(null);
+                    } else {
+                        nackedCounter.increment();
+                        retryOrFail(pending, new AmqpException("Message nacked by broker: " + confirm.getReason()));
+                    }
+                });
+    }
+
+    private void retryOrFail(PendingMessage pending, Throwable cause) {
+        if (pending.attempts < maxAttempts && running) {
+            if (buffer.offer(pending)) {
+                retriedCounter.increment();
+                return;
+            }
+        }
+        sendErrorLogMessagePublishFailed(pending, cause);
+        fail(pending, cause);
+    }
+
+    private void fail(PendingMessage pending, Throwable cause) {
+        failedCounter.increment();
+        pending.future.completeExceptionally(cause);
+    }
+
+    private void sendWarningLogMessageBufferFull(String exchange, String routingKey) {
+        logger.warn("RabbitMQ outbound buffer full, rejecting message to exchange {} with routing key {}",
+                exchange, routingKey);
+    }
+
+    private void sendWarningLogMessageReturned(PendingMessage pending, ReturnedMessage returned) {
+        logger.warn("Message to exchange {} with routing key {} returned: {} {}",
+                pending.exchange, pending.routingKey, returned.getReplyCode(), returned.getReplyText());
+    }
+
+    private void sendErrorLogMessagePublishFailed(PendingMessage pending, Throwable cause) {
+        logger.error("Failed to publish message to exchange {} with routing key {} after {} attempts: {}",
+                pending.exchange, pending.routingKey, pending.attempts, cause.getMessage());
+    }
+
+    private static final class PendingMessage {
+        private final String exchange;
+        private final String routingKey;
+        private final Object message;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private volatile int attempts;
+
+        private PendingMessage(String exchange, String routingKey, Object message) {
+            this.exchange = exchange;
+            this.routingKey = routingKey;
+            this.message = message;
+        }
+    }
 }
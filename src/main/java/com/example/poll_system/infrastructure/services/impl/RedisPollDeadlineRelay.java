@@ -0,0 +1,113 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.infrastructure.services.PollDeadlineRelay;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.Transition;
+import com.example.poll_system.infrastructure.services.schedulers.SchedulerLeadership;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * O líder agenda o prazo direto no seu timer; os demais nós o anunciam no
+ * canal {@code scheduler:poll-deadlines} e só o líder agenda o que recebe.
+ * Assim seguidores não acumulam prazos que nunca executariam, e enquetes
+ * criadas neles abrem e fecham no horário em vez de esperar a recarga. Um
+ * anúncio perdido (sem líder, troca de líder ou Redis indisponível) é
+ * recuperado pela recarga do líder.
+ */
+@Service
+@Profile("jpa")
+public class RedisPollDeadlineRelay implements PollDeadlineRelay, MessageListener {
+
+    private static final String CHANNEL = "scheduler:poll-deadlines";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final PollDeadlineTimer pollDeadlineTimer;
+    private final SchedulerLeadership schedulerLeadership;
+
+    public RedisPollDeadlineRelay(
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            PollDeadlineTimer pollDeadlineTimer,
+            SchedulerLeadership schedulerLeadership) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.pollDeadlineTimer = pollDeadlineTimer;
+        this.schedulerLeadership = schedulerLeadership;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RedisPollDeadlineRelay.class);
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public void relay(String pollId, Transition transition, LocalDateTime dueAt) {
+        if (schedulerLeadership.isLeader()) {
+            pollDeadlineTimer.schedule(pollId, transition, dueAt);
+            return;
+        }
+        if (dueAt.isAfter(pollDeadlineTimer.horizon())) {
+            // Fora do horizonte nem o líder agendaria; entra pela recarga
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL, pollId + "|" + transition.name() + "|" + toEpochMillis(dueAt));
+        } catch (Exception e) {
+            sendWarningLogMessageDeadlineNotPublished(pollId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        if (!schedulerLeadership.isLeader()) {
+            return;
+        }
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = payload.split("\\|");
+        if (parts.length != 3) {
+            sendWarningLogMessageInvalidPayload(payload);
+            return;
+        }
+        try {
+            pollDeadlineTimer.schedule(parts[0], Transition.valueOf(parts[1]), toLocalDateTime(Long.parseLong(parts[2])));
+        } catch (IllegalArgumentException e) {
+            sendWarningLogMessageInvalidPayload(payload);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private void sendWarningLogMessageDeadlineNotPublished(String pollId, Exception e) {
+        logger.warn("Could not relay deadline of poll {} to the scheduler leader, it will be picked up on reload: {}",
+                pollId, e.getMessage());
+    }
+
+    private void sendWarningLogMessageInvalidPayload(String payload) {
+        logger.warn("Ignoring invalid poll deadline message: {}", payload);
+    }
+}
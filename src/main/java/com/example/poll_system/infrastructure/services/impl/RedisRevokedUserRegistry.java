@@ -0,0 +1,134 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.gateways.RevokedUserRegistry;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Cópia local das revogações, consultada sem I/O em cada requisição. Uma
+ * revogação é gravada no sorted set {@code auth:revoked-users} (score = instante
+ * em ms) e anunciada no canal de mesmo nome; cada nó aplica o anúncio na sua
+ * cópia. Ao subir, o nó carrega o sorted set. Entradas mais antigas que a
+ * validade dos tokens são removidas, pois todo token emitido antes delas já
+ * expirou.
+ */
+@Service
+@Profile("jpa")
+public class RedisRevokedUserRegistry implements RevokedUserRegistry, MessageListener {
+
+    private static final String KEY = "auth:revoked-users";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, Instant> revokedAtByUserId = new ConcurrentHashMap<>();
+
+    @Value("${app.jwt.expiration:86400}")
+    private long tokenLifetimeSeconds;
+
+    public RedisRevokedUserRegistry(StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RedisRevokedUserRegistry.class);
+
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(KEY));
+        load();
+    }
+
+    /**
+     * O container compartilhado só assina os canais quando o contexto sobe;
+     * recarrega depois disso para não perder revogações feitas no meio.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reloadAfterSubscribe() {
+        load();
+    }
+
+    private void load() {
+        Set<TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(KEY, oldestRelevant().toEpochMilli(), Double.POSITIVE_INFINITY);
+        if (revoked != null) {
+            revoked.forEach(entry -> apply(entry.getValue(), Instant.ofEpochMilli(entry.getScore().longValue())));
+        }
+        sendInfoLogMessageLoaded(revokedAtByUserId.size());
+    }
+
+    @Override
+    public void revoke(String userId, Instant revokedAt) {
+        apply(userId, revokedAt);
+        redisTemplate.opsForZSet().add(KEY, userId, revokedAt.toEpochMilli());
+        redisTemplate.opsForZSet().removeRangeByScore(KEY, Double.NEGATIVE_INFINITY, oldestRelevant().toEpochMilli());
+        try {
+            redisTemplate.convertAndSend(KEY, userId + "|" + revokedAt.toEpochMilli());
+        } catch (Exception e) {
+            // Os outros nós só verão a revogação ao recarregar o sorted set
+            sendWarningLogMessageRevocationNotPublished(userId, e);
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String userId, Instant tokenIssuedAt) {
+        Instant revokedAt = revokedAtByUserId.get(userId);
+        return revokedAt != null && !tokenIssuedAt.isAfter(revokedAt);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = payload.lastIndexOf('|');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            apply(payload.substring(0, separator), Instant.ofEpochMilli(Long.parseLong(payload.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            sendWarningLogMessageInvalidPayload(payload);
+        }
+    }
+
+    private void apply(String userId, Instant revokedAt) {
+        revokedAtByUserId.merge(userId, revokedAt, (current, next) -> next.isAfter(current) ? next : current);
+        Instant oldestRelevant = oldestRelevant();
+        revokedAtByUserId.values().removeIf(instant -> instant.isBefore(oldestRelevant));
+    }
+
+    private Instant oldestRelevant() {
+        return Instant.now().minusSeconds(tokenLifetimeSeconds);
+    }
+
+    private void sendInfoLogMessageLoaded(int count) {
+        logger.info("Loaded {} revoked users", count);
+    }
+
+    private void sendWarningLogMessageRevocationNotPublished(String userId, Exception e) {
+        logger.warn("Could not publish revocation of user {}: {}", userId, e.getMessage());
+    }
+
+    private void sendWarningLogMessageInvalidPayload(String payload) {
+        logger.warn("Ignoring invalid revocation message: {}", payload);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.example.poll_system.domain.gateways.SchedulerLeaseGateway;
+
+/**
+ * Lease em uma chave do Redis ({@code scheduler:lease:{nome}}) com o id do nó
+ * como valor e TTL. Aquisição, renovação e liberação comparam o dono dentro de
+ * um script, então um nó nunca renova nem apaga o lease de outro.
+ */
+@Service
+@Profile("jpa")
+public class RedisSchedulerLeaseGateway implements SchedulerLeaseGateway {
+
+    private static final RedisScript<Long> ACQUIRE_OR_RENEW_SCRIPT = new DefaultRedisScript<>(
+            "local holder = redis.call('GET', KEYS[1]) "
+                    + "if holder == false then redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 end "
+                    + "if holder == ARGV[1] then redis.call('PEXPIRE', KEYS[1], ARGV[2]) return 1 end "
+                    + "return 0",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisSchedulerLeaseGateway(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String lease, String holder, Duration timeToLive) {
+        Long acquired = redisTemplate.execute(ACQUIRE_OR_RENEW_SCRIPT, List.of(key(lease)),
+                holder, Long.toString(timeToLive.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void release(String lease, String holder) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key(lease)), holder);
+    }
+
+    private String key(String lease) {
+        return "scheduler:lease:" + lease;
+    }
+}
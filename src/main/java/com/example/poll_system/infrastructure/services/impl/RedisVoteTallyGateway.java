@@ -0,0 +1,146 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+
+/**
+ * Placar em tempo real por enquete mantido em um hash do Redis
+ * ({@code poll:{id}:tally}, um campo por opção).
+ *
+ * Os incrementos só são aplicados se o hash já existir: quem cria o hash é a
+ * leitura de estatísticas, a partir dos contadores do banco, e o TTL limita por
+ * quanto tempo uma eventual divergência pode durar. Dentro de uma transação os
+ * incrementos são adiados para depois do commit, então votos revertidos nunca
+ * chegam ao placar.
+ */
+@Service
+@Profile("jpa")
+public class RedisVoteTallyGateway implements VoteTallyGateway {
+
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "for i = 1, #ARGV, 2 do redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "return 1",
+            Long.class);
+
+    private static final RedisScript<Long> POPULATE_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('PEXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${app.vote-tally.ttl:PT5M}")
+    private Duration timeToLive;
+
+    public RedisVoteTallyGateway(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(RedisVoteTallyGateway.class);
+
+    @Override
+    public void increment(Vote vote) {
+        incrementAll(List.of(vote));
+    }
+
+    @Override
+    public void incrementAll(List<Vote> votes) {
+        if (votes.isEmpty()) {
+            return;
+        }
+        Map<String, Map<String, Long>> deltasByPollId = new LinkedHashMap<>();
+        for (Vote vote : votes) {
+            deltasByPollId.computeIfAbsent(vote.getPollId(), pollId -> new LinkedHashMap<>())
+                    .merge(vote.getPollOptionId(), 1L, Long::sum);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    applyIncrements(deltasByPollId);
+                }
+            });
+        } else {
+            applyIncrements(deltasByPollId);
+        }
+    }
+
+    @Override
+    public Optional<Map<String, Long>> findByPollId(String pollId) {
+        try {
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(tallyKey(pollId));
+            if (entries.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<String, Long> result = new HashMap<>();
+            entries.forEach((optionId, count) -> result.put((String) optionId, Long.parseLong((String) count)));
+            return Optional.of(result);
+        } catch (Exception e) {
+            sendWarningLogMessageTallyUnavailable(pollId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void populate(String pollId, Map<String, Long> voteCountsByOptionId) {
+        if (voteCountsByOptionId.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(voteCountsByOptionId.size() * 2 + 1);
+        args.add(String.valueOf(timeToLive.toMillis()));
+        voteCountsByOptionId.forEach((optionId, count) -> {
+            args.add(optionId);
+            args.add(String.valueOf(count));
+        });
+        try {
+            redisTemplate.execute(POPULATE_IF_ABSENT_SCRIPT, List.of(tallyKey(pollId)), args.toArray());
+        } catch (Exception e) {
+            sendWarningLogMessageTallyUnavailable(pollId, e);
+        }
+    }
+
+    private void applyIncrements(Map<String, Map<String, Long>> deltasByPollId) {
+        deltasByPollId.forEach((pollId, deltas) -> {
+            List<String> args = new ArrayList<>(deltas.size() * 2);
+            deltas.forEach((optionId, delta) -> {
+                args.add(optionId);
+                args.add(String.valueOf(delta));
+            });
+            try {
+                redisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(tallyKey(pollId)), args.toArray());
+            } catch (Exception e) {
+                sendWarningLogMessageTallyUnavailable(pollId, e);
+            }
+        });
+    }
+
+    private String tallyKey(String pollId) {
+        return "poll:" + pollId + ":tally";
+    }
+
+    private void sendWarningLogMessageTallyUnavailable(String pollId, Exception e) {
+        logger.warn("Vote tally unavailable for poll {}: {}", pollId, e.getMessage());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Pool de conexões SMTP autenticadas e reaproveitadas entre mensagens.
+ *
+ * No máximo {@code maxSize} conexões ficam abertas ao mesmo tempo. Uma
+ * conexão é fechada ao atingir {@code maxMessagesPerConnection} mensagens, ao
+ * ficar ociosa além de {@code maxIdleMillis} (servidores derrubam conexões
+ * paradas) ou quando quem a usou informa que ela quebrou.
+ */
+public class SmtpTransportPool {
+
+    private static final String METRIC_PREFIX = "poll.mail.smtp.";
+
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxMessagesPerConnection;
+    private final long maxIdleMillis;
+
+    private final Semaphore permits;
+    private final BlockingQueue<PooledTransport> idle = new LinkedBlockingQueue<>();
+    private final Counter openedCounter;
+
+    public SmtpTransportPool(
+            Session session,
+            String host,
+            int port,
+            String username,
+            String password,
+            int maxSize,
+            int maxMessagesPerConnection,
+            long maxIdleMillis,
+            MeterRegistry meterRegistry) {
+        this.session = session;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxIdleMillis = maxIdleMillis;
+        this.permits = new Semaphore(maxSize, true);
+        this.openedCounter = meterRegistry.counter(METRIC_PREFIX + "connections.opened");
+        meterRegistry.gauge(METRIC_PREFIX + "connections.idle", idle, BlockingQueue::size);
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    public PooledTransport borrow() throws MessagingException {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+        try {
+            PooledTransport pooled;
+            while ((pooled = idle.poll()) != null) {
+                if (!pooled.isExpired()) {
+                    return pooled;
+                }
+                close(pooled);
+            }
+            return open();
+        } catch (MessagingException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public void release(PooledTransport pooled, boolean broken) {
+        try {
+            if (broken || pooled.sent >= maxMessagesPerConnection) {
+                close(pooled);
+            } else {
+                pooled.lastUsedAt = System.currentTimeMillis();
+                idle.offer(pooled);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    public void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.poll()) != null) {
+            close(pooled);
+        }
+    }
+
+    public MimeMessage newMessage() {
+        return new MimeMessage(session);
+    }
+
+    private PooledTransport open() throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(host, port, username, password);
+        openedCounter.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport pooled) {
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            sendWarningLogMessageCloseFailed(e);
+        }
+    }
+
+    private void sendWarningLogMessageCloseFailed(MessagingException e) {
+        logger.warn("Failed to close SMTP connection: {}", e.getMessage());
+    }
+
+    public final class PooledTransport {
+        private final Transport transport;
+        private int sent;
+        private long lastUsedAt = System.currentTimeMillis();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        public boolean canSendMore() {
+            return sent < maxMessagesPerConnection;
+        }
+
+        public void send(MimeMessage message, Address[] recipients) throws MessagingException {
+            sent++;
+            transport.sendMessage(message, recipients);
+        }
+
+        private boolean isExpired() {
+            return System.currentTimeMillis() - lastUsedAt > maxIdleMillis || !transport.isConnected();
+        }
+    }
+}
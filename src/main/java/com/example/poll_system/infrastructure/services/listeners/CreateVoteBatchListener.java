@@ -0,0 +1,49 @@
+package com.example.poll_system.infrastructure.services.listeners;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.application.usecases.vote.ProcessVoteBatch;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
+
+@Component
+@ConditionalOnProperty(name = "app.rabbitmq.vote-batch.enabled", havingValue = "true")
+public class CreateVoteBatchListener {
+
+    private final ProcessVoteBatch processVoteBatch;
+
+    public CreateVoteBatchListener(ProcessVoteBatch processVoteBatch) {
+        this.processVoteBatch = processVoteBatch;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(CreateVoteBatchListener.class);
+
+    @RabbitListener(queues = "${app.rabbitmq.vote-queue}", containerFactory = "voteBatchListenerContainerFactory")
+    public void listen(List<VoteCreatedEvent> messages) {
+        try {
+            List<ProcessVoteInput> inputs = messages.stream()
+                    .map(message -> new ProcessVoteInput(message.getUserId(), message.getPollOptionId(),
+                            message.getIdempotencyKey()))
+                    .toList();
+            processVoteBatch.execute(inputs);
+            sendInfoLogMessageBatchProcessed(messages.size());
+        } catch (Exception e) {
+            sendErrorLogMessageBatchFailed(messages.size(), e);
+            throw e;
+        }
+    }
+
+    private void sendInfoLogMessageBatchProcessed(int size) {
+        logger.info("Vote batch consumed - Messages: {}", size);
+    }
+
+    private void sendErrorLogMessageBatchFailed(int size, Exception e) {
+        logger.error("Vote batch failed - Messages: {}, Error: {}", size, e.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.poll_system.infrastructure.services.listeners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.example.poll_system.application.usecases.vote.ProcessVote;
@@ -10,6 +11,7 @@ import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
 import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
 
 @Component
+@ConditionalOnProperty(name = "app.rabbitmq.vote-batch.enabled", havingValue = "false", matchIfMissing = true)
 public class CreateVoteListener {
 
     private final ProcessVote processVote;
@@ -23,7 +25,8 @@ public class CreateVoteListener {
     @RabbitListener(queues = "${app.rabbitmq.vote-queue}")
     public void listen(VoteCreatedEvent message) {
         try {
-            ProcessVoteInput input = new ProcessVoteInput(message.getUserId(), message.getPollOptionId());
+            ProcessVoteInput input = new ProcessVoteInput(message.getUserId(), message.getPollOptionId(),
+                    message.getIdempotencyKey());
             processVote.execute(input);
             sendInfoLogMessageVoteProcessed(message);
         } catch (Exception e) {
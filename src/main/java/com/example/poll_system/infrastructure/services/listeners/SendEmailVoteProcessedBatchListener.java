@@ -0,0 +1,100 @@
+package com.example.poll_system.infrastructure.services.listeners;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.application.usecases.user.SendEmailBatch;
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.domain.gateways.MessageQueueGateway;
+import com.example.poll_system.infrastructure.services.MailSender.PartialSendException;
+
+/**
+ * Consome a fila de emails de voto processado em lotes e envia cada lote
+ * pelas mesmas conexões SMTP. Destinatários recusados são apenas registrados:
+ * reenviar não muda a resposta do servidor.
+ *
+ * Se a conexão cair no meio do lote, só os emails ainda não enviados voltam
+ * para a fila (republicados com confirm) e o lote é confirmado, para que o
+ * retry do container não reenvie os que já saíram. Se nenhum saiu, o lote
+ * inteiro volta para o retry do container, com o backoff e a DLQ de sempre.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rabbitmq.email-batch.enabled", havingValue = "true")
+public class SendEmailVoteProcessedBatchListener {
+
+    private static final String SUBJECT = "Voto Processado";
+    private static final String BODY = "Seu voto foi processado com sucesso!";
+
+    private final SendEmailBatch sendEmailBatch;
+    private final MessageQueueGateway messageQueueGateway;
+    private final String exchange;
+    private final String emailRoutingKey;
+
+    public SendEmailVoteProcessedBatchListener(
+            SendEmailBatch sendEmailBatch,
+            MessageQueueGateway messageQueueGateway,
+            @Value("${app.rabbitmq.exchange}") String exchange,
+            @Value("${app.rabbitmq.email-routing-key}") String emailRoutingKey) {
+        this.sendEmailBatch = sendEmailBatch;
+        this.messageQueueGateway = messageQueueGateway;
+        this.exchange = exchange;
+        this.emailRoutingKey = emailRoutingKey;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SendEmailVoteProcessedBatchListener.class);
+
+    @RabbitListener(queues = "${app.rabbitmq.email-queue}", containerFactory = "emailBatchListenerContainerFactory")
+    public void listen(List<VoteProcessedEvent> events) {
+        try {
+            List<SendEmailInput> inputs = events.stream()
+                    .map(event -> new SendEmailInput(event.getUserEmail(), SUBJECT, BODY))
+                    .toList();
+            List<SendEmailInput> rejected = sendEmailBatch.execute(inputs);
+            rejected.forEach(this::sendWarningLogMessageRecipientRejected);
+            sendInfoLogMessageBatchSent(events.size(), rejected.size());
+        } catch (PartialSendException e) {
+            if (e.getHandledCount() == 0) {
+                sendErrorLogMessageBatchFailed(events.size(), e);
+                throw e;
+            }
+            requeueUnsent(events.subList(e.getHandledCount(), events.size()), e);
+        } catch (Exception e) {
+            sendErrorLogMessageBatchFailed(events.size(), e);
+            throw e;
+        }
+    }
+
+    private void requeueUnsent(List<VoteProcessedEvent> unsent, PartialSendException cause) {
+        List<CompletableFuture<Void>> confirmations = unsent.stream()
+                .map(event -> messageQueueGateway.sendAsync(exchange, event, emailRoutingKey))
+                .toList();
+        // Sem o confirm de todas, o lote inteiro volta para o retry do container
+        CompletableFuture.allOf(confirmations.toArray(CompletableFuture[]::new)).join();
+        sendWarningLogMessageBatchRequeued(unsent.size(), cause);
+    }
+
+    private void sendInfoLogMessageBatchSent(int size, int rejected) {
+        logger.info("Email Vote Processed batch sent - Messages: {}, Rejected: {}", size, rejected);
+    }
+
+    private void sendWarningLogMessageRecipientRejected(SendEmailInput input) {
+        logger.warn("Email Vote Processed not delivered, recipient rejected: {}", input.email());
+    }
+
+    private void sendWarningLogMessageBatchRequeued(int unsent, PartialSendException cause) {
+        logger.warn("Email Vote Processed batch interrupted after {} messages, {} requeued: {}",
+                cause.getHandledCount(), unsent, cause.getMessage());
+    }
+
+    private void sendErrorLogMessageBatchFailed(int size, Exception e) {
+        logger.error("Email Vote Processed batch failed - Messages: {}, Error: {}", size, e.getMessage());
+    }
+}
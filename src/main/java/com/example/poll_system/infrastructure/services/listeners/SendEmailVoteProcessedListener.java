@@ -3,6 +3,7 @@ package com.example.poll_system.infrastructure.services.listeners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import com.example.poll_system.application.usecases.user.SendEmailUseCase;
@@ -11,6 +12,7 @@ import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
 import com.example.poll_system.domain.exceptions.FailedToSendMessageToQueueException;
 
 @Component
+@ConditionalOnProperty(name = "app.rabbitmq.email-batch.enabled", havingValue = "false", matchIfMissing = true)
 public class SendEmailVoteProcessedListener {
 
     private final SendEmailUseCase sendEmailVoteProcessed;
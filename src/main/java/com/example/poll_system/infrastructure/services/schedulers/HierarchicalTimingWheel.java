@@ -0,0 +1,113 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Timing wheel hierárquico: cada nível tem {@code wheelSize} buckets de
+ * {@code tickMillis}; prazos além do alcance do nível vão para um nível de
+ * overflow criado sob demanda, com tick igual ao alcance do nível de baixo.
+ * Quando o nível de baixo completa uma volta, o bucket seguinte do overflow é
+ * redistribuído nele.
+ *
+ * Agendar custa O(1) e avançar custa O(ticks decorridos), independente de
+ * quantos itens estão agendados. Um item é entregue no primeiro
+ * {@link #advanceTo} cujo instante esteja pelo menos um tick depois do prazo,
+ * ou seja, com no máximo {@code tickMillis} de atraso e nunca antes do prazo.
+ * Os métodos públicos são sincronizados.
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<List<Entry<T>>> buckets;
+    private final List<Entry<T>> expired = new ArrayList<>();
+
+    private long currentTime;
+    private int size;
+    private HierarchicalTimingWheel<T> overflow;
+
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis and wheelSize must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Agenda {@code item} para {@code dueAtMillis}. Prazos já vencidos são
+     * entregues no próximo {@link #advanceTo}.
+     */
+    public synchronized void schedule(T item, long dueAtMillis) {
+        Entry<T> entry = new Entry<>(item, dueAtMillis);
+        if (!add(entry)) {
+            expired.add(entry);
+        }
+        size++;
+    }
+
+    /** Avança o relógio até {@code nowMillis}, entregando os itens vencidos. */
+    public synchronized void advanceTo(long nowMillis, Consumer<T> onDue) {
+        List<Entry<T>> due = new ArrayList<>(expired);
+        expired.clear();
+        advance(nowMillis, due::add);
+        size -= due.size();
+        due.forEach(entry -> onDue.accept(entry.item()));
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.dueAtMillis() < currentTime) {
+            return false;
+        }
+        if (entry.dueAtMillis() < currentTime + intervalMillis) {
+            buckets.get(bucketIndex(entry.dueAtMillis())).add(entry);
+            return true;
+        }
+        overflow().add(entry);
+        return true;
+    }
+
+    private void advance(long nowMillis, Consumer<Entry<T>> onDue) {
+        while (currentTime + tickMillis <= nowMillis) {
+            List<Entry<T>> bucket = buckets.get(bucketIndex(currentTime));
+            bucket.forEach(onDue);
+            bucket.clear();
+            currentTime += tickMillis;
+            if (overflow != null && Math.floorMod(currentTime, intervalMillis) == 0) {
+                // O bucket do overflow que cobre a próxima volta cabe inteiro neste nível
+                overflow.advance(currentTime + intervalMillis, entry -> {
+                    if (!add(entry)) {
+                        onDue.accept(entry);
+                    }
+                });
+            }
+        }
+    }
+
+    private HierarchicalTimingWheel<T> overflow() {
+        if (overflow == null) {
+            overflow = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTime);
+        }
+        return overflow;
+    }
+
+    private int bucketIndex(long timeMillis) {
+        return (int) Math.floorMod(Math.floorDiv(timeMillis, tickMillis), (long) wheelSize);
+    }
+
+    private record Entry<T>(T item, long dueAtMillis) {
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.gateways.MessageQueueGateway;
+import com.example.poll_system.domain.gateways.OutboxRepository;
+import com.example.poll_system.domain.gateways.OutboxRepository.OutboxMessage;
+
+/**
+ * Publica as mensagens pendentes da outbox no RabbitMQ, em lotes e na ordem em
+ * que foram gravadas.
+ *
+ * Uma mensagem só é marcada como publicada depois do confirm do broker.
+ * Agregados diferentes são publicados em paralelo, mas dentro de um agregado
+ * a mensagem seguinte só é enviada depois do confirm da anterior; se uma
+ * falhar, as seguintes do mesmo agregado nem saem e são enviadas, em ordem, na
+ * próxima execução. A entrega é at-least-once: um confirm perdido pode gerar
+ * duplicatas.
+ *
+ * Só o nó líder ({@link SchedulerLeadership}) publica: a busca das pendentes
+ * não trava linhas, e dois nós publicando o mesmo lote duplicariam mensagens e
+ * quebrariam a ordem por agregado.
+ */
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final MessageQueueGateway messageQueueGateway;
+    private final SchedulerLeadership schedulerLeadership;
+
+    @Value("${app.outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.confirm-timeout:PT30S}")
+    private Duration confirmTimeout;
+
+    @Value("${app.outbox.retention:P7D}")
+    private Duration retention;
+
+    public OutboxRelay(OutboxRepository outboxRepository, MessageQueueGateway messageQueueGateway,
+            SchedulerLeadership schedulerLeadership) {
+        this.outboxRepository = outboxRepository;
+        this.messageQueueGateway = messageQueueGateway;
+        this.schedulerLeadership = schedulerLeadership;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.interval:500}")
+    public void relay() {
+        if (!schedulerLeadership.isLeader()) {
+            return;
+        }
+        List<OutboxMessage> pending;
+        boolean drained;
+        do {
+            pending = outboxRepository.findPending(batchSize);
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = publishBatch(pending);
+        } while (drained && pending.size() == batchSize && schedulerLeadership.isLeader());
+    }
+
+    @Scheduled(cron = "${app.outbox.cleanup.cron:0 30 3 * * *}")
+    public void cleanup() {
+        if (!schedulerLeadership.isLeader()) {
+            return;
+        }
+        int deleted = outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention));
+        sendInfoLogMessageCleanup(deleted);
+    }
+
+    /**
+     * @return {@code true} se todas as mensagens do lote foram confirmadas.
+     */
+    private boolean publishBatch(List<OutboxMessage> batch) {
+        Map<String, List<OutboxMessage>> byAggregate = new LinkedHashMap<>();
+        for (OutboxMessage message : batch) {
+            byAggregate.computeIfAbsent(message.aggregateId(), id -> new ArrayList<>()).add(message);
+        }
+        Set<Long> confirmed = ConcurrentHashMap.newKeySet();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        List<CompletableFuture<Void>> chains = byAggregate.values().stream()
+                .map(messages -> publishInOrder(messages, 0, confirmed, abandoned))
+                .toList();
+        awaitChains(chains);
+        // Depois do timeout nenhuma cadeia envia a próxima mensagem, senão ela
+        // sairia antes da reenviada na próxima execução
+        abandoned.set(true);
+
+        List<Long> published = batch.stream()
+                .map(OutboxMessage::id)
+                .filter(confirmed::contains)
+                .toList();
+        outboxRepository.markPublished(published);
+        return published.size() == batch.size();
+    }
+
+    private CompletableFuture<Void> publishInOrder(List<OutboxMessage> messages, int index, Set<Long> confirmed,
+            AtomicBoolean abandoned) {
+        if (index == messages.size() || abandoned.get()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        OutboxMessage message = messages.get(index);
+        return messageQueueGateway.sendAsync(message.exchange(), toAmqpMessage(message), message.routingKey())
+                .handle((ignored, error) -> error)
+                .thenCompose(error -> {
+                    if (error != null) {
+                        sendWarningLogMessagePublishFailed(message);
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    confirmed.add(message.id());
+                    return publishInOrder(messages, index + 1, confirmed, abandoned);
+                });
+    }
+
+    private void awaitChains(List<CompletableFuture<Void>> chains) {
+        try {
+            CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new))
+                    .get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // O que não foi confirmado até aqui fica pendente para a próxima execução.
+        }
+    }
+
+    private Message toAmqpMessage(OutboxMessage message) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, message.typeId());
+        properties.setMessageId("outbox-" + message.id());
+        return new Message(message.payload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private void sendWarningLogMessagePublishFailed(OutboxMessage message) {
+        logger.warn("Outbox message not published, will retry: id={}, aggregateId={}, routingKey={}",
+                message.id(), message.aggregateId(), message.routingKey());
+    }
+
+    private void sendInfoLogMessageCleanup(int deleted) {
+        logger.info("Outbox cleanup removed {} published messages older than {}", deleted, retention);
+    }
+
+}
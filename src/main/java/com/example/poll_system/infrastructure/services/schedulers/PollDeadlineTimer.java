@@ -0,0 +1,87 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Prazos de abertura e fechamento das enquetes que vencem dentro do horizonte
+ * ({@code app.poll.scheduler.lookahead}), guardados em um
+ * {@link HierarchicalTimingWheel} com ticks de um segundo. Prazos além do
+ * horizonte são ignorados e entram pela próxima recarga do
+ * {@link PollScheduler}.
+ *
+ * Cada transição é agendada uma única vez enquanto estiver pendente, então
+ * recargas repetidas não duplicam entradas.
+ */
+@Component
+public class PollDeadlineTimer {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 60;
+
+    private final Duration lookahead;
+    private final HierarchicalTimingWheel<PollTransition> wheel;
+    private final Set<PollTransition> pending = ConcurrentHashMap.newKeySet();
+
+    public PollDeadlineTimer(@Value("${app.poll.scheduler.lookahead:PT5M}") Duration lookahead) {
+        this.lookahead = lookahead;
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, toEpochMillis(LocalDateTime.now()));
+    }
+
+    public void scheduleOpening(String pollId, LocalDateTime startDate) {
+        schedule(new PollTransition(pollId, Transition.OPEN), startDate);
+    }
+
+    public void scheduleClosing(String pollId, LocalDateTime endDate) {
+        schedule(new PollTransition(pollId, Transition.CLOSE), endDate);
+    }
+
+    public void schedule(String pollId, Transition transition, LocalDateTime dueAt) {
+        schedule(new PollTransition(pollId, transition), dueAt);
+    }
+
+    /** Limite superior dos prazos aceitos a partir de agora. */
+    public LocalDateTime horizon() {
+        return LocalDateTime.now().plus(lookahead);
+    }
+
+    /** Remove e devolve as transições cujo prazo já passou. */
+    public List<PollTransition> pollDue() {
+        List<PollTransition> due = new ArrayList<>();
+        wheel.advanceTo(toEpochMillis(LocalDateTime.now()), due::add);
+        pending.removeAll(due);
+        return due;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private void schedule(PollTransition transition, LocalDateTime dueAt) {
+        if (dueAt.isAfter(horizon())) {
+            return;
+        }
+        if (pending.add(transition)) {
+            wheel.schedule(transition, toEpochMillis(dueAt));
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public enum Transition {
+        OPEN, CLOSE
+    }
+
+    public record PollTransition(String pollId, Transition transition) {
+    }
+}
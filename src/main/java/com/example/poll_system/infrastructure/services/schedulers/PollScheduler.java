@@ -1,78 +1,157 @@
 package com.example.poll_system.infrastructure.services.schedulers;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import com.example.poll_system.application.usecases.poll.ActivePoll;
-import com.example.poll_system.application.usecases.poll.ClosePoll;
-import com.example.poll_system.application.usecases.poll.dto.ActivePollInput;
-import com.example.poll_system.application.usecases.poll.dto.ClosePollInput;
-import com.example.poll_system.domain.entities.Poll;
-import com.example.poll_system.domain.enums.PollStatus;
+
+import com.example.poll_system.application.usecases.poll.ActivePolls;
+import com.example.poll_system.application.usecases.poll.ClosePolls;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput.ActivatedPoll;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsOutput;
 import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.PollTransition;
 
+/**
+ * Abre e fecha enquetes no prazo. A cada recarga busca, por consulta de
+ * intervalo, só as enquetes que começam ou terminam dentro do horizonte do
+ * {@link PollDeadlineTimer} (incluindo as atrasadas); o tick de um segundo
+ * executa as transições vencidas. Enquetes criadas entre recargas entram pelo
+ * {@code PollCreatedEvent}, que o {@code PollDeadlineRelay} leva até o timer
+ * do líder mesmo quando a enquete foi criada em outro nó.
+ *
+ * As transições vencidas no mesmo tick são executadas em lotes de até
+ * {@code app.poll.scheduler.batch-size} pelos use cases {@link ActivePolls} e
+ * {@link ClosePolls}, cujo UPDATE só afeta enquetes ainda no status esperado;
+ * prazos de enquetes já abertas ou fechadas por outro caminho são apenas
+ * descartados.
+ *
+ * Só o nó líder ({@link SchedulerLeadership}) recarrega e executa prazos; ao
+ * assumir a liderança o nó recarrega na hora, sem esperar o próximo ciclo.
+ */
 @Component
 public class PollScheduler {
 
-    private final ActivePoll activePoll;
-    private final ClosePoll closePoll;
+    private final ActivePolls activePolls;
+    private final ClosePolls closePolls;
     private final PollRepository pollRepository;
+    private final PollDeadlineTimer pollDeadlineTimer;
+    private final SchedulerLeadership schedulerLeadership;
+    private final int batchSize;
+
+    private volatile boolean leading;
 
-    public PollScheduler(ActivePoll activePoll, PollRepository pollRepository, ClosePoll closePoll) {
-        this.activePoll = activePoll;
+    public PollScheduler(
+            ActivePolls activePolls,
+            PollRepository pollRepository,
+            ClosePolls closePolls,
+            PollDeadlineTimer pollDeadlineTimer,
+            SchedulerLeadership schedulerLeadership,
+            @Value("${app.poll.scheduler.batch-size:500}") int batchSize) {
+        this.activePolls = activePolls;
         this.pollRepository = pollRepository;
-        this.closePoll = closePoll;
+        this.closePolls = closePolls;
+        this.pollDeadlineTimer = pollDeadlineTimer;
+        this.schedulerLeadership = schedulerLeadership;
+        this.batchSize = batchSize;
     }
 
     private final Logger logger = LoggerFactory.getLogger(PollScheduler.class);
 
-    @Scheduled(fixedRate = 60000)
-    @Transactional
-    public void open() {
-        sendInfoLogMessageExecutingPollScheduler();
-        List<Poll> scheduledPolls = pollRepository.findByStatus(PollStatus.SCHEDULED);
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Poll poll : scheduledPolls) {
-            if (!poll.getStartDate().isAfter(now)) {
-                activePoll.execute(new ActivePollInput(poll.getId()));
-                sendInfoLogMessageActivatingPoll(poll);
+    @Scheduled(fixedDelayString = "${app.poll.scheduler.reload-interval:60000}")
+    public void reload() {
+        if (!schedulerLeadership.isLeader()) {
+            return;
+        }
+        loadDeadlines();
+    }
+
+    @Scheduled(fixedRateString = "${app.poll.scheduler.tick-interval:1000}")
+    public void tick() {
+        boolean leader = schedulerLeadership.isLeader();
+        boolean becameLeader = leader && !leading;
+        leading = leader;
+        if (!leader) {
+            return;
+        }
+        if (becameLeader) {
+            loadDeadlines();
+        }
+        List<String> toOpen = new ArrayList<>();
+        List<String> toClose = new ArrayList<>();
+        for (PollTransition due : pollDeadlineTimer.pollDue()) {
+            switch (due.transition()) {
+                case OPEN -> toOpen.add(due.pollId());
+                case CLOSE -> toClose.add(due.pollId());
             }
         }
+        inBatches(toOpen, this::open);
+        inBatches(toClose, this::close);
     }
 
-    @Scheduled(fixedRate = 60000)
-    @Transactional
-    public void close() {
-        sendInfoLogMessageExecutingPollScheduler();
-        List<Poll> activePolls = pollRepository.findByStatus(PollStatus.OPEN);
-        LocalDateTime now = LocalDateTime.now();
-
-        for (Poll poll : activePolls) {
-            if (!poll.getEndDate().isAfter(now)) {
-                closePoll.execute(new ClosePollInput(poll.getId()));
-                sendInfoLogMessageClosingPoll(poll);
+    private void loadDeadlines() {
+        LocalDateTime horizon = pollDeadlineTimer.horizon();
+        for (PollDeadline deadline : pollRepository.findScheduledStartingUntil(horizon)) {
+            pollDeadlineTimer.scheduleOpening(deadline.pollId(), deadline.dueAt());
+        }
+        for (PollDeadline deadline : pollRepository.findOpenEndingUntil(horizon)) {
+            pollDeadlineTimer.scheduleClosing(deadline.pollId(), deadline.dueAt());
+        }
+        sendInfoLogMessageReloaded(horizon);
+    }
+
+    private void inBatches(List<String> pollIds, Consumer<List<String>> transition) {
+        for (int from = 0; from < pollIds.size(); from += batchSize) {
+            if (!schedulerLeadership.isLeader()) {
+                // Lease perdido no meio do tick: o novo líder recarrega o que faltou
+                return;
             }
+            List<String> batch = List.copyOf(pollIds.subList(from, Math.min(from + batchSize, pollIds.size())));
+            try {
+                transition.accept(batch);
+            } catch (RuntimeException e) {
+                // Os prazos voltam na próxima recarga, pois as enquetes seguem no status anterior
+                sendErrorLogMessageBatchFailed(batch, e);
+            }
+        }
+    }
+
+    private void open(List<String> pollIds) {
+        ActivePollsOutput output = activePolls.execute(new ActivePollsInput(pollIds));
+        for (ActivatedPoll activated : output.activatedPolls()) {
+            pollDeadlineTimer.scheduleClosing(activated.pollId(), activated.endDate());
         }
+        sendInfoLogMessageBatchDone("Activated", pollIds.size(), output.activatedPolls().size());
+    }
+
+    private void close(List<String> pollIds) {
+        ClosePollsOutput output = closePolls.execute(new ClosePollsInput(pollIds));
+        sendInfoLogMessageBatchDone("Closed", pollIds.size(), output.closedPollIds().size());
     }
 
-    private void sendInfoLogMessageExecutingPollScheduler() {
-        logger.info("Executing PollScheduler at {}.", LocalDateTime.now());
+    private void sendInfoLogMessageReloaded(LocalDateTime horizon) {
+        logger.info("PollScheduler reloaded deadlines until {}, {} pending.",
+                horizon, pollDeadlineTimer.pendingCount());
     }
 
-    private void sendInfoLogMessageActivatingPoll(Poll poll) {
-        logger.info("Activating poll: pollId={} at {}",
-                poll.getId(), LocalDateTime.now());
+    private void sendInfoLogMessageBatchDone(String transition, int due, int done) {
+        logger.info("{} {} of {} due polls at {}, the rest had already changed status.",
+                transition, done, due, LocalDateTime.now());
     }
 
-    private void sendInfoLogMessageClosingPoll(Poll poll) {
-        logger.info("Closing poll: pollId={} at {}", poll.getId(), LocalDateTime.now());
+    private void sendErrorLogMessageBatchFailed(List<String> pollIds, RuntimeException e) {
+        logger.error("Failed to transition batch of {} polls {}, retrying on next reload",
+                pollIds.size(), pollIds, e);
     }
 
 }
@@ -0,0 +1,104 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.domain.gateways.SchedulerLeaseGateway;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Eleição de líder por lease para as tarefas que devem rodar em um único nó
+ * do cluster. O lease é renovado a cada
+ * {@code app.scheduler.leader.renew-interval} e expira após
+ * {@code app.scheduler.leader.lease-ttl} sem renovação, quando outro nó pode
+ * assumi-lo.
+ *
+ * A liderança local vale até o TTL contado a partir do início da última
+ * renovação bem-sucedida, que nunca é depois da expiração no Redis; se a
+ * renovação falhar, o nó deixa de se considerar líder antes de outro poder
+ * assumir.
+ */
+@Component
+public class SchedulerLeadership {
+
+    private final SchedulerLeaseGateway schedulerLeaseGateway;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${app.scheduler.leader.lease-name:poll-system-schedulers}")
+    private String leaseName;
+
+    @Value("${app.scheduler.leader.lease-ttl:PT15S}")
+    private Duration leaseTtl;
+
+    private volatile long leaderUntilNanos = System.nanoTime();
+    private volatile boolean leader;
+
+    public SchedulerLeadership(SchedulerLeaseGateway schedulerLeaseGateway) {
+        this.schedulerLeaseGateway = schedulerLeaseGateway;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(SchedulerLeadership.class);
+
+    @Scheduled(fixedDelayString = "${app.scheduler.leader.renew-interval:5000}")
+    public void renew() {
+        long startedAt = System.nanoTime();
+        try {
+            if (schedulerLeaseGateway.tryAcquire(leaseName, nodeId, leaseTtl)) {
+                leaderUntilNanos = startedAt + leaseTtl.toNanos();
+                if (!leader) {
+                    leader = true;
+                    sendInfoLogMessageLeadershipAcquired();
+                }
+            } else if (leader) {
+                leader = false;
+                sendInfoLogMessageLeadershipLost();
+            }
+        } catch (RuntimeException e) {
+            sendWarningLogMessageRenewFailed(e);
+        }
+    }
+
+    public boolean isLeader() {
+        return leader && System.nanoTime() - leaderUntilNanos < 0;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!leader) {
+            return;
+        }
+        leader = false;
+        try {
+            schedulerLeaseGateway.release(leaseName, nodeId);
+        } catch (RuntimeException e) {
+            sendWarningLogMessageReleaseFailed(e);
+        }
+    }
+
+    private void sendInfoLogMessageLeadershipAcquired() {
+        logger.info("Scheduler leadership acquired: node={}, lease={}", nodeId, leaseName);
+    }
+
+    private void sendInfoLogMessageLeadershipLost() {
+        logger.info("Scheduler leadership lost: node={}, lease={}", nodeId, leaseName);
+    }
+
+    private void sendWarningLogMessageRenewFailed(RuntimeException e) {
+        logger.warn("Scheduler lease renewal failed: node={}, error={}", nodeId, e.getMessage());
+    }
+
+    private void sendWarningLogMessageReleaseFailed(RuntimeException e) {
+        logger.warn("Scheduler lease release failed: node={}, error={}", nodeId, e.getMessage());
+    }
+}
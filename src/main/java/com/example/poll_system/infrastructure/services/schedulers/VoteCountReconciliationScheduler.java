@@ -0,0 +1,62 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.application.usecases.poll.RebuildPollVoteCounts;
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsInput;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.gateways.PollRepository;
+
+/**
+ * Reconstrói periodicamente os contadores de votos das enquetes abertas a partir
+ * da tabela de votos, corrigindo qualquer divergência acumulada. Roda apenas no
+ * nó líder.
+ */
+@Component
+public class VoteCountReconciliationScheduler {
+
+    private final RebuildPollVoteCounts rebuildPollVoteCounts;
+    private final PollRepository pollRepository;
+    private final SchedulerLeadership schedulerLeadership;
+
+    public VoteCountReconciliationScheduler(RebuildPollVoteCounts rebuildPollVoteCounts,
+            PollRepository pollRepository, SchedulerLeadership schedulerLeadership) {
+        this.rebuildPollVoteCounts = rebuildPollVoteCounts;
+        this.pollRepository = pollRepository;
+        this.schedulerLeadership = schedulerLeadership;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(VoteCountReconciliationScheduler.class);
+
+    @Scheduled(cron = "${app.vote-counts.reconciliation.cron:0 0 3 * * *}")
+    public void reconcile() {
+        if (!schedulerLeadership.isLeader()) {
+            return;
+        }
+        sendInfoLogMessageExecutingReconciliation();
+        List<Poll> openPolls = pollRepository.findByStatus(PollStatus.OPEN);
+        for (Poll poll : openPolls) {
+            try {
+                rebuildPollVoteCounts.execute(new RebuildPollVoteCountsInput(poll.getId()));
+            } catch (Exception e) {
+                sendWarningLogMessageReconciliationFailed(poll, e);
+            }
+        }
+    }
+
+    private void sendInfoLogMessageExecutingReconciliation() {
+        logger.info("Executing VoteCountReconciliationScheduler at {}.", LocalDateTime.now());
+    }
+
+    private void sendWarningLogMessageReconciliationFailed(Poll poll, Exception e) {
+        logger.warn("Vote counts reconciliation failed: pollId={}, error={}", poll.getId(), e.getMessage());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.poll_system.application.usecases.vote.SendVoteReceiptDigests;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsOutput;
+
+/**
+ * Envia os digests de comprovantes de voto cuja janela
+ * ({@code app.email.vote-digest.window}, contada a partir do primeiro voto)
+ * já terminou. Repete em lotes até esvaziar os digests vencidos. Digests
+ * reclamados há mais de {@code app.email.vote-digest.claim-timeout} sem
+ * confirmação de envio voltam a ser enviados.
+ */
+@Component
+@ConditionalOnProperty(name = "app.email.vote-digest.enabled", havingValue = "true")
+public class VoteReceiptDigestScheduler {
+
+    private final SendVoteReceiptDigests sendVoteReceiptDigests;
+
+    @Value("${app.email.vote-digest.window:PT5M}")
+    private Duration window;
+
+    @Value("${app.email.vote-digest.claim-timeout:PT5M}")
+    private Duration claimTimeout;
+
+    @Value("${app.email.vote-digest.batch-size:200}")
+    private int batchSize;
+
+    public VoteReceiptDigestScheduler(SendVoteReceiptDigests sendVoteReceiptDigests) {
+        this.sendVoteReceiptDigests = sendVoteReceiptDigests;
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(VoteReceiptDigestScheduler.class);
+
+    @Scheduled(fixedDelayString = "${app.email.vote-digest.flush-interval:30000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime firstReceiptBefore = now.minus(window);
+        LocalDateTime staleClaimBefore = now.minus(claimTimeout);
+        try {
+            SendVoteReceiptDigestsOutput output;
+            do {
+                output = sendVoteReceiptDigests.execute(
+                        new SendVoteReceiptDigestsInput(firstReceiptBefore, staleClaimBefore, batchSize));
+            } while (output.digestsSent() == batchSize);
+        } catch (Exception e) {
+            sendWarningLogMessageFlushFailed(e);
+        }
+    }
+
+    private void sendWarningLogMessageFlushFailed(Exception e) {
+        logger.warn("Vote receipt digest flush failed, digests kept for next run: {}", e.getMessage());
+    }
+
+}
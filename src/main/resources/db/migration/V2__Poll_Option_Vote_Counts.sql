@@ -0,0 +1,21 @@
+-- Materialized vote counters per poll option
+-- Updated in the same transaction that persists each vote, so statistics read
+-- one row per option instead of aggregating the votes table
+
+CREATE TABLE IF NOT EXISTS poll_option_vote_counts (
+    poll_option_id VARCHAR(255) PRIMARY KEY,
+    poll_id VARCHAR(255) NOT NULL,
+    vote_count BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (poll_option_id) REFERENCES poll_options(id) ON DELETE CASCADE,
+    FOREIGN KEY (poll_id) REFERENCES polls(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_poll_option_vote_counts_poll_id ON poll_option_vote_counts(poll_id);
+
+-- Backfill counters from the votes already processed
+INSERT INTO poll_option_vote_counts (poll_option_id, poll_id, vote_count)
+SELECT poll_option_id, poll_id, COUNT(*)
+FROM votes
+WHERE status = 'PROCESSED'
+GROUP BY poll_option_id, poll_id
+ON CONFLICT (poll_option_id) DO NOTHING;
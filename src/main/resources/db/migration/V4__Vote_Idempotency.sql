@@ -0,0 +1,22 @@
+-- Idempotent vote processing
+-- One vote per user per poll, enforced by the database so redelivered queue
+-- messages can be inserted with ON CONFLICT DO NOTHING
+
+-- Keep only the earliest vote of each user in each poll
+DELETE FROM votes v
+USING votes d
+WHERE v.user_id = d.user_id
+  AND v.poll_id = d.poll_id
+  AND (v.created_at > d.created_at OR (v.created_at = d.created_at AND v.id > d.id));
+
+-- Counters may include the removed duplicates
+UPDATE poll_option_vote_counts c
+SET vote_count = (
+    SELECT COUNT(*) FROM votes v
+    WHERE v.poll_option_id = c.poll_option_id AND v.status = 'PROCESSED'
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_votes_user_id_poll_id ON votes(user_id, poll_id);
+
+-- Covered by the leading column of the unique index
+DROP INDEX IF EXISTS idx_votes_user_id;
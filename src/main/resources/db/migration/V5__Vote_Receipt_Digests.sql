@@ -0,0 +1,15 @@
+-- Vote receipt digests
+-- One row per user accumulates processed votes until the digest window
+-- closes; VoteReceiptDigestScheduler then sends a single summary email and
+-- deletes the row
+
+CREATE TABLE IF NOT EXISTS vote_receipt_digests (
+    user_id VARCHAR(255) PRIMARY KEY,
+    user_email VARCHAR(255) NOT NULL,
+    receipt_count INTEGER NOT NULL,
+    first_receipt_at TIMESTAMP NOT NULL,
+    last_receipt_at TIMESTAMP NOT NULL
+);
+
+-- The scheduler claims rows whose window (first_receipt_at + window) is over
+CREATE INDEX IF NOT EXISTS idx_vote_receipt_digests_first_receipt_at ON vote_receipt_digests(first_receipt_at);
@@ -0,0 +1,42 @@
+-- Final results of closed polls
+-- Written once by ClosePollImpl in the same transaction that closes the poll;
+-- statistics and the poll closed email read closed polls from here instead of
+-- aggregating votes again
+
+CREATE TABLE IF NOT EXISTS poll_results (
+    poll_id VARCHAR(255) PRIMARY KEY,
+    poll_title VARCHAR(255) NOT NULL,
+    total_votes BIGINT NOT NULL,
+    closed_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (poll_id) REFERENCES polls(id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS poll_result_options (
+    poll_id VARCHAR(255) NOT NULL,
+    position INTEGER NOT NULL,
+    poll_option_id VARCHAR(255) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    votes_count BIGINT NOT NULL,
+    PRIMARY KEY (poll_id, position),
+    FOREIGN KEY (poll_id) REFERENCES poll_results(poll_id) ON DELETE CASCADE
+);
+
+-- Backfill snapshots for polls closed before this migration
+INSERT INTO poll_results (poll_id, poll_title, total_votes, closed_at)
+SELECT p.id, p.title, COALESCE(SUM(c.vote_count), 0), p.end_date
+FROM polls p
+LEFT JOIN poll_option_vote_counts c ON c.poll_id = p.id
+WHERE p.status = 'CLOSED'
+GROUP BY p.id, p.title, p.end_date
+ON CONFLICT (poll_id) DO NOTHING;
+
+INSERT INTO poll_result_options (poll_id, position, poll_option_id, description, votes_count)
+SELECT o.poll_id,
+       ROW_NUMBER() OVER (PARTITION BY o.poll_id ORDER BY o.id) - 1,
+       o.id,
+       o.description,
+       COALESCE(c.vote_count, 0)
+FROM poll_options o
+JOIN polls p ON p.id = o.poll_id AND p.status = 'CLOSED'
+LEFT JOIN poll_option_vote_counts c ON c.poll_option_id = o.id
+ON CONFLICT (poll_id, position) DO NOTHING;
@@ -0,0 +1,6 @@
+-- Range queries used by PollScheduler to load only the polls whose start or
+-- end falls inside the next scheduling window. Partial indexes keep them small:
+-- only SCHEDULED polls wait to start and only OPEN polls wait to end.
+
+CREATE INDEX IF NOT EXISTS idx_polls_scheduled_start_date ON polls(start_date) WHERE status = 'SCHEDULED';
+CREATE INDEX IF NOT EXISTS idx_polls_open_end_date ON polls(end_date) WHERE status = 'OPEN';
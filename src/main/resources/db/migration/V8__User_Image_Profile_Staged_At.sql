@@ -0,0 +1,5 @@
+-- When the image currently in url_image_profile was uploaded. The profile image
+-- pipeline only points the user to an image staged after this instant, so two
+-- uploads processed out of order keep the latest one.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS url_image_profile_staged_at TIMESTAMP;
@@ -0,0 +1,9 @@
+-- Vote receipt digest claims
+-- The scheduler marks the rows it is about to send instead of deleting them,
+-- and deletes them only after the emails went out. claimed_count is the
+-- receipt_count that was claimed, so receipts recorded while the emails are
+-- being sent stay pending. A claim older than the claim timeout is treated as
+-- abandoned and the row becomes eligible again.
+
+ALTER TABLE vote_receipt_digests ADD COLUMN IF NOT EXISTS claimed_at TIMESTAMP;
+ALTER TABLE vote_receipt_digests ADD COLUMN IF NOT EXISTS claimed_count INTEGER NOT NULL DEFAULT 0;
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -21,6 +23,7 @@ import com.example.poll_system.application.usecases.auth.dtos.LoginOutput;
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.enums.UserRole;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
+import com.example.poll_system.domain.exceptions.TooManyRequestsException;
 import com.example.poll_system.domain.gateways.JwtTokenGateway;
 import com.example.poll_system.domain.gateways.UserRepository;
 import com.example.poll_system.domain.value_objects.Cpf;
@@ -194,6 +197,50 @@ class LoginImplTest {
         verifyNoInteractions(jwtTokenGateway);
     }
 
+    @Test
+    void shouldRehashPasswordWhenEncodingNeedsUpgrade() {
+        // Arrange
+        String email = "user@example.com";
+        String password = "Password123!";
+        User user = User.createVoter("1", "John Doe", new Cpf("74571762097"), new Email(email),
+                "oldHash", "http://example.com/image.jpg");
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(password, "oldHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(password)).thenReturn("newHash");
+
+        // Act
+        loginImpl.execute(new LoginInput(email, password));
+
+        // Assert
+        assertEquals("newHash", user.getPassword());
+        verify(userRepository, times(1)).update(user);
+    }
+
+    @Test
+    void shouldLoginEvenWhenRehashFails() {
+        // Arrange
+        String email = "user@example.com";
+        String password = "Password123!";
+        User user = User.createVoter("1", "John Doe", new Cpf("74571762097"), new Email(email),
+                "oldHash", "http://example.com/image.jpg");
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(password, "oldHash")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(password)).thenThrow(new TooManyRequestsException("busy"));
+        when(jwtTokenGateway.generateToken(user)).thenReturn("jwt.token.here");
+
+        // Act
+        LoginOutput result = loginImpl.execute(new LoginInput(email, password));
+
+        // Assert
+        assertEquals("jwt.token.here", result.accessToken());
+        assertEquals("oldHash", user.getPassword());
+        verify(userRepository, never()).update(any());
+    }
+
     @Test
     void shouldThrowExceptionWhenUserIsInactive() {
         // Arrange
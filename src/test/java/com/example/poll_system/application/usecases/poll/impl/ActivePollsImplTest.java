@@ -0,0 +1,52 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput.ActivatedPoll;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+
+public class ActivePollsImplTest {
+
+    @InjectMocks
+    private ActivePollsImpl activePollsImpl;
+
+    @Mock
+    private PollRepository pollRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldReturnEndDatesOfActivatedPollsOnly() {
+        // Given
+        List<String> pollIds = List.of("poll-1", "poll-2");
+        LocalDateTime endDate = LocalDateTime.now().plusDays(1);
+        when(pollRepository.openAllScheduled(eq(pollIds), any()))
+                .thenReturn(List.of(new PollDeadline("poll-1", endDate)));
+
+        // When
+        ActivePollsOutput output = activePollsImpl.execute(new ActivePollsInput(pollIds));
+
+        // Then
+        assertEquals(List.of(new ActivatedPoll("poll-1", endDate)), output.activatedPolls());
+        verify(pollRepository).openAllScheduled(eq(pollIds), any(LocalDateTime.class));
+    }
+}
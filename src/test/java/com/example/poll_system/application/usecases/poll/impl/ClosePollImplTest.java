@@ -4,16 +4,20 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -21,6 +25,8 @@ import org.mockito.MockitoAnnotations;
 
 import com.example.poll_system.application.usecases.poll.dto.ClosePollInput;
 import com.example.poll_system.application.usecases.poll.dto.ClosePollOutput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.impl.ProcessVoteImpl;
 import com.example.poll_system.domain.entities.Poll;
 import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.entities.User;
@@ -29,7 +35,16 @@ import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+import com.example.poll_system.infrastructure.persistence.PollOptionRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollResultRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteCountRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteRepositoryInMemory;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 public class ClosePollImplTest {
@@ -46,6 +61,12 @@ public class ClosePollImplTest {
     @Mock
     private EventPublisher eventPublisher;
 
+    @Mock
+    private VoteCountRepository voteCountRepository;
+
+    @Mock
+    private PollResultRepository pollResultRepository;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -118,6 +139,46 @@ public class ClosePollImplTest {
         verify(eventPublisher, times(1)).publish(any());
     }
 
+    @Test
+    void shouldSavePollResultSnapshotBeforePublishingEvent() {
+        // Given
+        String pollId = "poll-123";
+        ClosePollInput input = new ClosePollInput(pollId);
+        Poll openPoll = createOpenPoll();
+        User user = UserFactory.create(
+                "John Doe",
+                "05938337089",
+                "john.doe@email.com",
+                "QAZ123qaz*",
+                "voter",
+                "urlImageProfile");
+        when(userRepository.findById(Mockito.anyString())).thenReturn(Optional.of(user));
+        when(pollRepository.findById(pollId)).thenReturn(Optional.of(openPoll));
+        when(voteCountRepository.lockCountsByPollIds(List.of(pollId)))
+                .thenReturn(Map.of(pollId, Map.of("option-1", 7L)));
+
+        // When
+        closePollImpl.execute(input);
+
+        // Then
+        ArgumentCaptor<PollResult> captor = ArgumentCaptor.forClass(PollResult.class);
+        InOrder inOrder = inOrder(pollRepository, pollResultRepository, eventPublisher);
+        inOrder.verify(pollRepository).update(openPoll);
+        inOrder.verify(pollResultRepository).save(captor.capture());
+        inOrder.verify(eventPublisher).publish(any());
+
+        PollResult pollResult = captor.getValue();
+        assertEquals(pollId, pollResult.pollId());
+        assertEquals("Test Poll", pollResult.pollTitle());
+        assertEquals(7L, pollResult.totalVotes());
+        assertEquals(openPoll.getEndDate(), pollResult.closedAt());
+        assertEquals(2, pollResult.options().size());
+        assertEquals("option-1", pollResult.options().get(0).pollOptionId());
+        assertEquals(7L, pollResult.options().get(0).votesCount());
+        assertEquals("option-2", pollResult.options().get(1).pollOptionId());
+        assertEquals(0L, pollResult.options().get(1).votesCount());
+    }
+
     @Test
     void shouldThrowExceptionWhenPollNotFound() {
         // Given
@@ -400,4 +461,39 @@ public class ClosePollImplTest {
         verify(pollRepository, times(1)).findById(pollId);
         verify(pollRepository, times(1)).update(any(Poll.class));
     }
+
+    @Test
+    void shouldAddVoteProcessedAfterCloseToPollResult() {
+        // Given - fechamento e processamento compartilham os repositórios em memória
+        VoteRepositoryInMemory voteRepository = new VoteRepositoryInMemory();
+        VoteCountRepositoryInMemory voteCounts = new VoteCountRepositoryInMemory(voteRepository);
+        PollResultRepositoryInMemory pollResults = new PollResultRepositoryInMemory();
+        PollRepositoryInMemory polls = new PollRepositoryInMemory();
+        PollOptionRepositoryInMemory pollOptions = new PollOptionRepositoryInMemory();
+        Poll openPoll = createOpenPoll();
+        polls.save(openPoll);
+        pollOptions.saveAll(openPoll.getOptions());
+        User user = UserFactory.create(
+                "John Doe",
+                "05938337089",
+                "john.doe@email.com",
+                "QAZ123qaz*",
+                "voter",
+                "urlImageProfile");
+        when(userRepository.findById(Mockito.anyString())).thenReturn(Optional.of(user));
+        ClosePollImpl closePoll = new ClosePollImpl(polls, userRepository, eventPublisher, voteCounts, pollResults);
+        ProcessVoteImpl processVote = new ProcessVoteImpl(voteRepository, userRepository, pollOptions, voteCounts,
+                pollResults, Mockito.mock(VoteTallyGateway.class), eventPublisher);
+        processVote.execute(new ProcessVoteInput("voter-1", "option-1"));
+
+        // When - voto aceito antes do fechamento, mas ainda na fila quando a enquete fecha
+        closePoll.execute(new ClosePollInput(openPoll.getId()));
+        processVote.execute(new ProcessVoteInput("voter-2", "option-2"));
+
+        // Then
+        PollResult pollResult = pollResults.findByPollId(openPoll.getId()).orElseThrow();
+        assertEquals(2L, pollResult.totalVotes());
+        assertEquals(1L, pollResult.options().get(0).votesCount());
+        assertEquals(1L, pollResult.options().get(1).votesCount());
+    }
 }
@@ -0,0 +1,184 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsOutput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.impl.ProcessVoteBatchImpl;
+import com.example.poll_system.domain.entities.DomainEvent;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.PollClosedEvent;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+import com.example.poll_system.domain.value_objects.Cpf;
+import com.example.poll_system.domain.value_objects.Email;
+import com.example.poll_system.infrastructure.persistence.PollOptionRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.PollResultRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteCountRepositoryInMemory;
+import com.example.poll_system.infrastructure.persistence.VoteRepositoryInMemory;
+import com.example.poll_system.infrastructure.services.EventPublisher;
+
+public class ClosePollsImplTest {
+
+    @InjectMocks
+    private ClosePollsImpl closePollsImpl;
+
+    @Mock
+    private PollRepository pollRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private VoteCountRepository voteCountRepository;
+
+    @Mock
+    private PollResultRepository pollResultRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private Poll createClosedPoll(String pollId, String ownerId) {
+        List<PollOption> options = List.of(
+                new PollOption(pollId + "-option-1", "Option 1", pollId),
+                new PollOption(pollId + "-option-2", "Option 2", pollId));
+        Poll poll = Poll.createOpenPoll(pollId, "Poll " + pollId, "Description", ownerId,
+                LocalDateTime.now().plusDays(1), options);
+        poll.close();
+        return poll;
+    }
+
+    private User createOwner(String ownerId) {
+        return User.createVoter(ownerId, "John Doe", new Cpf("78887276030"),
+                new Email(ownerId + "@email.com"), "password123", "http://example.com/john.jpg");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCloseOnlyOpenPollsAndPublishEventsInOneBatch() {
+        // Given
+        List<String> pollIds = List.of("poll-1", "poll-2", "poll-3");
+        when(pollRepository.closeAllOpen(any(), any())).thenReturn(List.of("poll-1", "poll-2"));
+        when(pollRepository.findAllByIds(List.of("poll-1", "poll-2")))
+                .thenReturn(List.of(createClosedPoll("poll-1", "owner-1"), createClosedPoll("poll-2", "owner-1")));
+        when(userRepository.findAllByIds(List.of("owner-1"))).thenReturn(List.of(createOwner("owner-1")));
+        when(voteCountRepository.lockCountsByPollIds(List.of("poll-1", "poll-2")))
+                .thenReturn(Map.of("poll-1", Map.of("poll-1-option-1", 3L, "poll-1-option-2", 2L)));
+
+        // When
+        ClosePollsOutput output = closePollsImpl.execute(new ClosePollsInput(pollIds));
+
+        // Then
+        assertEquals(List.of("poll-1", "poll-2"), output.closedPollIds());
+        verify(pollRepository).closeAllOpen(any(), any());
+
+        ArgumentCaptor<List<PollResult>> results = ArgumentCaptor.forClass(List.class);
+        verify(pollResultRepository).saveAll(results.capture());
+        assertEquals(2, results.getValue().size());
+        assertEquals(5L, results.getValue().get(0).totalVotes());
+        assertEquals(0L, results.getValue().get(1).totalVotes());
+
+        ArgumentCaptor<List<DomainEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertEquals(2, events.getValue().size());
+        assertTrue(events.getValue().stream().allMatch(PollClosedEvent.class::isInstance));
+        verify(eventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void shouldNotLoadAnythingWhenNoPollWasStillOpen() {
+        // Given
+        when(pollRepository.closeAllOpen(any(), any())).thenReturn(List.of());
+
+        // When
+        ClosePollsOutput output = closePollsImpl.execute(new ClosePollsInput(List.of("poll-1")));
+
+        // Then
+        assertTrue(output.closedPollIds().isEmpty());
+        verify(pollRepository, never()).findAllByIds(any());
+        verifyNoInteractions(userRepository, voteCountRepository, pollResultRepository, eventPublisher);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldClosePollWithoutEventWhenOwnerIsNotFound() {
+        // Given
+        when(pollRepository.closeAllOpen(any(), any())).thenReturn(List.of("poll-1", "poll-2"));
+        when(pollRepository.findAllByIds(List.of("poll-1", "poll-2")))
+                .thenReturn(List.of(createClosedPoll("poll-1", "owner-1"), createClosedPoll("poll-2", "owner-2")));
+        when(userRepository.findAllByIds(List.of("owner-1", "owner-2"))).thenReturn(List.of(createOwner("owner-2")));
+        when(voteCountRepository.lockCountsByPollIds(any())).thenReturn(Map.of());
+
+        // When
+        ClosePollsOutput output = closePollsImpl.execute(new ClosePollsInput(List.of("poll-1", "poll-2")));
+
+        // Then
+        assertEquals(List.of("poll-1", "poll-2"), output.closedPollIds());
+        ArgumentCaptor<List<DomainEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAll(events.capture());
+        assertEquals(1, events.getValue().size());
+        assertEquals("poll-2", ((PollClosedEvent) events.getValue().get(0)).getPollId());
+    }
+
+    @Test
+    void shouldAddVotesProcessedAfterBulkCloseToPollResults() {
+        // Given - fechamento e processamento compartilham os repositórios em memória
+        VoteRepositoryInMemory voteRepository = new VoteRepositoryInMemory();
+        VoteCountRepositoryInMemory voteCounts = new VoteCountRepositoryInMemory(voteRepository);
+        PollResultRepositoryInMemory pollResults = new PollResultRepositoryInMemory();
+        PollRepositoryInMemory polls = new PollRepositoryInMemory();
+        PollOptionRepositoryInMemory pollOptions = new PollOptionRepositoryInMemory();
+        Poll openPoll = Poll.createOpenPoll("poll-1", "Poll poll-1", "Description", "owner-1",
+                LocalDateTime.now().plusDays(1), List.of(
+                        new PollOption("poll-1-option-1", "Option 1", "poll-1"),
+                        new PollOption("poll-1-option-2", "Option 2", "poll-1")));
+        polls.save(openPoll);
+        pollOptions.saveAll(openPoll.getOptions());
+        when(userRepository.findAllByIds(any())).thenReturn(List.of(createOwner("owner-1"), createOwner("voter-1")));
+        ClosePollsImpl closePolls = new ClosePollsImpl(polls, userRepository, eventPublisher, voteCounts,
+                pollResults);
+        ProcessVoteBatchImpl processVoteBatch = new ProcessVoteBatchImpl(voteRepository, userRepository, pollOptions,
+                voteCounts, pollResults, Mockito.mock(VoteTallyGateway.class), eventPublisher);
+
+        // When - lote aceito antes do fechamento, mas ainda na fila quando a enquete fecha
+        closePolls.execute(new ClosePollsInput(List.of("poll-1")));
+        processVoteBatch.execute(List.of(new ProcessVoteInput("voter-1", "poll-1-option-2")));
+
+        // Then
+        PollResult pollResult = pollResults.findByPollId("poll-1").orElseThrow();
+        assertEquals(1L, pollResult.totalVotes());
+        assertEquals(0L, pollResult.options().get(0).votesCount());
+        assertEquals(1L, pollResult.options().get(1).votesCount());
+    }
+}
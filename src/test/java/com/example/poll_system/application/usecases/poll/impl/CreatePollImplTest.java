@@ -17,11 +17,13 @@ import com.example.poll_system.application.usecases.poll.dto.CreatePollInput;
 import com.example.poll_system.application.usecases.poll.dto.CreatePollOutput;
 import com.example.poll_system.application.usecases.poll.dto.PollOptionInput;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.PollCreatedEvent;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
 import com.example.poll_system.domain.gateways.PollRepository;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 
 public class CreatePollImplTest {
 
@@ -37,6 +39,9 @@ public class CreatePollImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -103,6 +108,7 @@ public class CreatePollImplTest {
         Mockito.verify(pollRepository, Mockito.times(1)).save(Mockito.any());
         Mockito.verify(pollOptionRepository, Mockito.times(1)).saveAll(Mockito.anyList());
         Mockito.verify(userRepository, Mockito.times(1)).findById(Mockito.anyString());
+        Mockito.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(PollCreatedEvent.class));
     }
 
     @Test
@@ -3,6 +3,7 @@ package com.example.poll_system.application.usecases.poll.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -27,7 +28,11 @@ import com.example.poll_system.domain.entities.PollOption;
 import com.example.poll_system.domain.enums.PollStatus;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.PollRepository;
-import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository.OptionResult;
+import com.example.poll_system.domain.gateways.PollResultRepository.PollResult;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
 
 public class PollStatisticsImplTest {
 
@@ -38,7 +43,13 @@ public class PollStatisticsImplTest {
     private PollRepository pollRepository;
 
     @Mock
-    private VoteRepository voteRepository;
+    private VoteCountRepository voteCountRepository;
+
+    @Mock
+    private VoteTallyGateway voteTallyGateway;
+
+    @Mock
+    private PollResultRepository pollResultRepository;
 
     @BeforeEach
     void setUp() {
@@ -97,6 +108,41 @@ public class PollStatisticsImplTest {
         return voteCounts;
     }
 
+    @Test
+    void shouldServeClosedPollStatisticsFromResultSnapshot() {
+        // Given
+        String pollId = "poll-123";
+        PollStatisticsInput input = new PollStatisticsInput(pollId);
+        PollResult pollResult = new PollResult(
+                pollId,
+                "Test Poll",
+                8L,
+                LocalDateTime.now(),
+                List.of(
+                        new OptionResult("option-1", "Option 1", 5L),
+                        new OptionResult("option-2", "Option 2", 3L)));
+
+        when(pollResultRepository.findByPollId(pollId)).thenReturn(Optional.of(pollResult));
+
+        // When
+        PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
+
+        // Then
+        assertEquals(pollId, output.pollId());
+        assertEquals("Test Poll", output.pollTitle());
+        assertEquals(PollStatus.CLOSED.name(), output.pollStatus());
+        assertEquals(8L, output.totalVotes());
+        assertEquals(2, output.pollOptionsStatistics().size());
+        assertEquals("option-1", output.pollOptionsStatistics().get(0).pollOptionId());
+        assertEquals(5L, output.pollOptionsStatistics().get(0).votesCount());
+        assertEquals("option-2", output.pollOptionsStatistics().get(1).pollOptionId());
+        assertEquals(3L, output.pollOptionsStatistics().get(1).votesCount());
+
+        verify(pollRepository, times(0)).findById(any());
+        verify(voteCountRepository, times(0)).findCountsByPollId(any());
+        verify(voteTallyGateway, times(0)).findByPollId(any());
+    }
+
     @Test
     void shouldGetPollStatisticsSuccessfully() {
         // Given
@@ -106,7 +152,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> voteCounts = createVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(voteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(voteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -131,7 +177,7 @@ public class PollStatisticsImplTest {
         assertEquals(3L, option2Stats.votesCount());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -149,7 +195,7 @@ public class PollStatisticsImplTest {
 
         assertEquals("Poll not found with ID: " + pollId, exception.getMessage());
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(0)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(0)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -161,7 +207,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> emptyVoteCounts = createEmptyVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(emptyVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(emptyVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -180,7 +226,7 @@ public class PollStatisticsImplTest {
         });
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -192,7 +238,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> partialVoteCounts = createPartialVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(partialVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(partialVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -213,7 +259,7 @@ public class PollStatisticsImplTest {
         assertEquals(0L, option2Stats.votesCount());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -225,7 +271,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> emptyVoteCounts = createEmptyVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(scheduledPoll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(emptyVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(emptyVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -239,7 +285,7 @@ public class PollStatisticsImplTest {
         assertEquals(3, output.pollOptionsStatistics().size());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -251,7 +297,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> voteCounts = createVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(closedPoll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(voteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(voteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -265,7 +311,7 @@ public class PollStatisticsImplTest {
         assertEquals(2, output.pollOptionsStatistics().size());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -293,7 +339,7 @@ public class PollStatisticsImplTest {
         PollStatisticsInput input = new PollStatisticsInput(pollId);
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(pollWithMultipleOptions));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(multipleVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(multipleVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -325,7 +371,7 @@ public class PollStatisticsImplTest {
         assertEquals(5L, optionStatistics.get(3).votesCount());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -337,7 +383,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> voteCounts = createVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(voteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(voteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -358,7 +404,7 @@ public class PollStatisticsImplTest {
         });
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -373,7 +419,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> voteCounts = createVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(originalPoll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(voteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(voteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -384,7 +430,7 @@ public class PollStatisticsImplTest {
         assertEquals(originalOptionsCount, output.pollOptionsStatistics().size());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -396,14 +442,14 @@ public class PollStatisticsImplTest {
         Map<String, Long> voteCounts = createVoteCountsMap();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(voteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(voteCounts);
 
         // When
         pollStatisticsImpl.getPollStatistics(input);
 
         // Then
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -418,7 +464,7 @@ public class PollStatisticsImplTest {
         largeVoteCounts.put("option-2", 2500L);
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(largeVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(largeVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -429,7 +475,7 @@ public class PollStatisticsImplTest {
         assertEquals(2500L, output.pollOptionsStatistics().get(1).votesCount());
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
     }
 
     @Test
@@ -443,7 +489,7 @@ public class PollStatisticsImplTest {
         Map<String, Long> emptyVoteCounts = new HashMap<>();
 
         when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
-        when(voteRepository.countVotesByPollIdGroupedByOptionId(pollId)).thenReturn(emptyVoteCounts);
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(emptyVoteCounts);
 
         // When
         PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
@@ -459,6 +505,45 @@ public class PollStatisticsImplTest {
         });
 
         verify(pollRepository, times(1)).findById(pollId);
-        verify(voteRepository, times(1)).countVotesByPollIdGroupedByOptionId(pollId);
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
+    }
+
+    @Test
+    void shouldServeStatisticsFromTallyWhenAvailable() {
+        // Given
+        String pollId = "poll-123";
+        PollStatisticsInput input = new PollStatisticsInput(pollId);
+        Poll poll = createOpenPoll();
+
+        when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
+        when(voteTallyGateway.findByPollId(pollId)).thenReturn(Optional.of(createVoteCountsMap()));
+
+        // When
+        PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
+
+        // Then
+        assertEquals(8L, output.totalVotes());
+        verify(voteCountRepository, times(0)).findCountsByPollId(pollId);
+        verify(voteTallyGateway, times(0)).populate(any(), any());
+    }
+
+    @Test
+    void shouldPopulateTallyWithAllOptionsWhenTallyIsMissing() {
+        // Given
+        String pollId = "poll-123";
+        PollStatisticsInput input = new PollStatisticsInput(pollId);
+        Poll poll = createOpenPoll();
+
+        when(pollRepository.findById(pollId)).thenReturn(Optional.of(poll));
+        when(voteTallyGateway.findByPollId(pollId)).thenReturn(Optional.empty());
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(createPartialVoteCountsMap());
+
+        // When
+        PollStatisticsOutput output = pollStatisticsImpl.getPollStatistics(input);
+
+        // Then
+        assertEquals(10L, output.totalVotes());
+        verify(voteCountRepository, times(1)).findCountsByPollId(pollId);
+        verify(voteTallyGateway, times(1)).populate(pollId, Map.of("option-1", 10L, "option-2", 0L));
     }
 }
@@ -0,0 +1,91 @@
+package com.example.poll_system.application.usecases.poll.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsInput;
+import com.example.poll_system.application.usecases.poll.dto.RebuildPollVoteCountsOutput;
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.exceptions.EntityNotFoundException;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+
+public class RebuildPollVoteCountsImplTest {
+
+    @InjectMocks
+    private RebuildPollVoteCountsImpl rebuildPollVoteCounts;
+
+    @Mock
+    private PollRepository pollRepository;
+
+    @Mock
+    private VoteCountRepository voteCountRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private Poll createOpenPoll(String pollId) {
+        return Poll.createOpenPoll(
+                pollId,
+                "Test Poll",
+                "Test poll description",
+                "owner-123",
+                LocalDateTime.now().plusDays(2),
+                List.of(
+                        new PollOption("option-1", "Option 1", pollId),
+                        new PollOption("option-2", "Option 2", pollId)));
+    }
+
+    @Test
+    void shouldRebuildVoteCountsAndReturnRecalculatedTotals() {
+        // Given
+        String pollId = "poll-123";
+        when(pollRepository.findById(pollId)).thenReturn(Optional.of(createOpenPoll(pollId)));
+        when(voteCountRepository.findCountsByPollId(pollId)).thenReturn(Map.of("option-1", 4L, "option-2", 6L));
+
+        // When
+        RebuildPollVoteCountsOutput output = rebuildPollVoteCounts.execute(new RebuildPollVoteCountsInput(pollId));
+
+        // Then
+        assertEquals(pollId, output.pollId());
+        assertEquals(10L, output.totalVotes());
+        assertEquals(4L, output.voteCountsByOptionId().get("option-1"));
+        InOrder order = inOrder(voteCountRepository);
+        order.verify(voteCountRepository).rebuildByPollId(pollId);
+        order.verify(voteCountRepository).findCountsByPollId(pollId);
+    }
+
+    @Test
+    void shouldThrowEntityNotFoundExceptionWhenPollDoesNotExist() {
+        // Given
+        String pollId = "nonexistent-poll";
+        when(pollRepository.findById(pollId)).thenReturn(Optional.empty());
+
+        // When & Then
+        EntityNotFoundException exception = assertThrows(
+                EntityNotFoundException.class,
+                () -> rebuildPollVoteCounts.execute(new RebuildPollVoteCountsInput(pollId)));
+        assertEquals("Poll not found", exception.getMessage());
+        verify(voteCountRepository, never()).rebuildByPollId(any());
+    }
+}
@@ -2,6 +2,8 @@ package com.example.poll_system.application.usecases.user.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -16,11 +18,14 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.poll_system.application.usecases.user.dtos.CreateUserInput;
 import com.example.poll_system.application.usecases.user.dtos.CreateUserOutput;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.UserRepository;
-import com.example.poll_system.infrastructure.services.ObjectStorage;
 import com.example.poll_system.infrastructure.services.PasswordEncoder;
+import com.example.poll_system.infrastructure.services.EventPublisher;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
 
 public class CreateUserImplTest {
 
@@ -34,7 +39,10 @@ public class CreateUserImplTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private ObjectStorage objectStorage;
+    private ProfileImagePipeline profileImagePipeline;
+
+    @Mock
+    private EventPublisher eventPublisher;
 
     @Mock
     private MultipartFile imageProfile;
@@ -64,6 +72,11 @@ public class CreateUserImplTest {
                 "uploaded-image-url");
     }
 
+    private StagedImage stagedImage(String objectName) {
+        return new StagedImage(Path.of("/tmp/staged-image"), objectName, 10L, "image/png",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+
     @Test
     void shouldCreateUserSuccessfullyWhenInputIsValid() throws Exception {
         // Arrange
@@ -76,8 +89,8 @@ public class CreateUserImplTest {
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         CreateUserOutput output = createUserImpl.execute(input);
@@ -88,13 +101,13 @@ public class CreateUserImplTest {
         Assertions.assertEquals(input.cpf(), output.cpf());
         Assertions.assertEquals(input.email(), output.email());
         Assertions.assertEquals(input.role().toUpperCase(), output.role());
-        Assertions.assertEquals(uploadedImageUrl, output.imageProfileUrl());
+        Assertions.assertNull(output.imageProfileUrl());
         Assertions.assertNotNull(output.id());
 
         Mockito.verify(userRepository, Mockito.times(1)).findByCpf(input.cpf());
         Mockito.verify(userRepository, Mockito.times(1)).findByEmail(input.email());
         Mockito.verify(passwordEncoder, Mockito.times(1)).encode(input.password());
-        Mockito.verify(objectStorage, Mockito.times(1)).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        Mockito.verify(profileImagePipeline, Mockito.times(1)).stage(Mockito.any(InputStream.class), Mockito.any());
         Mockito.verify(userRepository, Mockito.times(1)).save(Mockito.any(User.class));
     }
 
@@ -136,7 +149,7 @@ public class CreateUserImplTest {
         Mockito.verify(userRepository, Mockito.times(1)).findByCpf(input.cpf());
         Mockito.verify(userRepository, Mockito.times(1)).findByEmail(input.email());
         Mockito.verify(passwordEncoder, Mockito.never()).encode(Mockito.anyString());
-        // No need to verify objectStorage.upload since it's never called in this
+        // No need to verify profileImagePipeline.stage since it's never called in this
         // scenario
         Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
     }
@@ -152,7 +165,7 @@ public class CreateUserImplTest {
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
                 .thenThrow(new RuntimeException("Storage service unavailable"));
 
         // Act & Assert
@@ -164,8 +177,9 @@ public class CreateUserImplTest {
         Mockito.verify(userRepository, Mockito.times(1)).findByCpf(input.cpf());
         Mockito.verify(userRepository, Mockito.times(1)).findByEmail(input.email());
         Mockito.verify(passwordEncoder, Mockito.times(1)).encode(input.password());
-        Mockito.verify(objectStorage, Mockito.times(1)).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        Mockito.verify(profileImagePipeline, Mockito.times(1)).stage(Mockito.any(InputStream.class), Mockito.any());
         Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(User.class));
+        Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
     }
 
     @Test
@@ -186,8 +200,8 @@ public class CreateUserImplTest {
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         CreateUserOutput output = createUserImpl.execute(input);
@@ -213,8 +227,8 @@ public class CreateUserImplTest {
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode(rawPassword)).thenReturn(encodedPassword);
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         createUserImpl.execute(input);
@@ -236,68 +250,68 @@ public class CreateUserImplTest {
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
         Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         createUserImpl.execute(input);
 
         // Assert - Verifica que as validações foram chamadas antes da criação do
         // usuário
-        var inOrder = Mockito.inOrder(userRepository, passwordEncoder, objectStorage);
+        var inOrder = Mockito.inOrder(userRepository, passwordEncoder, profileImagePipeline);
         inOrder.verify(userRepository).findByCpf(input.cpf());
         inOrder.verify(userRepository).findByEmail(input.email());
         inOrder.verify(passwordEncoder).encode(input.password());
-        inOrder.verify(objectStorage).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        inOrder.verify(profileImagePipeline).stage(Mockito.any(InputStream.class), Mockito.any());
         inOrder.verify(userRepository).save(Mockito.any(User.class));
     }
 
     @Test
-    void shouldGenerateUniqueFileNameForImageUpload() throws Exception {
+    void shouldPublishStagedImageEventAfterSavingUser() throws Exception {
         // Arrange
         CreateUserInput input = createValidUserInput();
-        String encodedPassword = "encodedPassword123";
-        String uploadedImageUrl = "uploaded-image-url";
+        String objectName = "profile-images/abc123";
         InputStream mockInputStream = new ByteArrayInputStream("image data".getBytes());
 
         Mockito.when(userRepository.findByCpf(input.cpf())).thenReturn(Optional.empty());
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
-        Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
+        Mockito.when(passwordEncoder.encode(input.password())).thenReturn("encodedPassword123");
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(objectName));
 
         // Act
-        createUserImpl.execute(input);
+        CreateUserOutput output = createUserImpl.execute(input);
 
-        // Assert - Verifica que um nome de arquivo único é gerado (UUID)
-        Mockito.verify(objectStorage).upload(Mockito.argThat(fileName -> fileName != null && fileName.length() == 36 // UUID
-                                                                                                                     // tem
-                                                                                                                     // 36
-                                                                                                                     // caracteres
-        ), Mockito.any(InputStream.class));
+        // Assert - A imagem segue para o pipeline só depois do usuário salvo
+        var inOrder = Mockito.inOrder(userRepository, eventPublisher);
+        inOrder.verify(userRepository).save(Mockito.any(User.class));
+        inOrder.verify(eventPublisher).publish(Mockito.argThat(event ->
+                event instanceof ProfileImageStagedEvent staged
+                        && staged.getUserId().equals(output.id())
+                        && staged.getObjectName().equals(objectName)
+                        && staged.getStagedPath().equals(Path.of("/tmp/staged-image").toString())));
     }
 
     @Test
-    void shouldCreateUserWithCorrectImageUrl() throws Exception {
+    void shouldDiscardStagedImageWhenSavingUserFails() throws Exception {
         // Arrange
         CreateUserInput input = createValidUserInput();
-        String encodedPassword = "encodedPassword123";
-        String expectedImageUrl = "https://storage.example.com/image123.jpg";
+        StagedImage staged = stagedImage("profile-images/abc123");
         InputStream mockInputStream = new ByteArrayInputStream("image data".getBytes());
 
         Mockito.when(userRepository.findByCpf(input.cpf())).thenReturn(Optional.empty());
         Mockito.when(userRepository.findByEmail(input.email())).thenReturn(Optional.empty());
-        Mockito.when(passwordEncoder.encode(input.password())).thenReturn(encodedPassword);
+        Mockito.when(passwordEncoder.encode(input.password())).thenReturn("encodedPassword123");
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(expectedImageUrl);
-
-        // Act
-        CreateUserOutput output = createUserImpl.execute(input);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any())).thenReturn(staged);
+        Mockito.doThrow(new RuntimeException("Database unavailable"))
+                .when(userRepository).save(Mockito.any(User.class));
 
-        // Assert
-        Assertions.assertEquals(expectedImageUrl, output.imageProfileUrl());
+        // Act & Assert
+        Assertions.assertThrows(RuntimeException.class, () -> createUserImpl.execute(input));
+        Mockito.verify(profileImagePipeline).discard(staged);
+        Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
     }
 
     @Test
@@ -16,12 +16,16 @@ import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
 
 public class FindUserByIdTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ObjectStorage objectStorage;
+
     @InjectMocks
     private FindUserById findUserById;
 
@@ -51,6 +55,8 @@ public class FindUserByIdTest {
                 "uploaded-image-url");
         Mockito.when(userRepository.findById(user.getId()))
                 .thenReturn(Optional.of(user));
+        Mockito.when(objectStorage.presignedUrl("uploaded-image-url"))
+                .thenReturn("https://storage.example.com/uploaded-image-url?X-Amz-Signature=abc");
         FindUserByIdInput input = new FindUserByIdInput(user.getId());
         FindUserByIdOutput output = findUserById.execute(input);
         Assertions.assertNotNull(output);
@@ -58,7 +64,8 @@ public class FindUserByIdTest {
         Assertions.assertEquals(user.getName(), output.name());
         Assertions.assertEquals(user.getCpf().getCpf(), output.cpf());
         Assertions.assertEquals(user.getEmail().getEmail(), output.email());
-        Assertions.assertEquals(user.getUrlImageProfile(), output.profilePictureUrl());
+        Assertions.assertEquals("https://storage.example.com/uploaded-image-url?X-Amz-Signature=abc",
+                output.profilePictureUrl());
         Assertions.assertEquals(user.getRole().name(), output.role());
         Assertions.assertTrue(output.isActive());
     }
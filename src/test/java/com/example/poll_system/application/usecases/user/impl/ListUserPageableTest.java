@@ -2,6 +2,7 @@ package com.example.poll_system.application.usecases.user.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,18 +23,24 @@ import com.example.poll_system.application.usecases.user.dtos.ListUserOutput;
 import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
 
 public class ListUserPageableTest {
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ObjectStorage objectStorage;
+
     @InjectMocks
     private ListUserPageable listUserPageable;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(objectStorage.presignedUrl(anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0) + "?X-Amz-Signature=test");
     }
 
     @Test
@@ -60,7 +67,7 @@ public class ListUserPageableTest {
         assertEquals("Admin User", firstUser.name());
         assertEquals("05938337089", firstUser.cpf());
         assertEquals("admin@email.com", firstUser.email());
-        assertEquals("http://example.com/admin.jpg", firstUser.profilePictureUrl());
+        assertEquals("http://example.com/admin.jpg?X-Amz-Signature=test", firstUser.profilePictureUrl());
         assertEquals("ADMIN", firstUser.role());
         assertEquals(true, firstUser.isActive());
 
@@ -69,7 +76,7 @@ public class ListUserPageableTest {
         assertEquals("Voter User", secondUser.name());
         assertEquals("74571762097", secondUser.cpf());
         assertEquals("voter@email.com", secondUser.email());
-        assertEquals("http://example.com/voter.jpg", secondUser.profilePictureUrl());
+        assertEquals("http://example.com/voter.jpg?X-Amz-Signature=test", secondUser.profilePictureUrl());
         assertEquals("VOTER", secondUser.role());
         assertEquals(true, secondUser.isActive());
 
@@ -151,7 +158,7 @@ public class ListUserPageableTest {
         assertEquals("Test User", userOutput.name());
         assertEquals("05938337089", userOutput.cpf());
         assertEquals("test@email.com", userOutput.email());
-        assertEquals("http://example.com/test.jpg", userOutput.profilePictureUrl());
+        assertEquals("http://example.com/test.jpg?X-Amz-Signature=test", userOutput.profilePictureUrl());
         assertEquals("ADMIN", userOutput.role());
         assertEquals(true, userOutput.isActive());
 
@@ -0,0 +1,61 @@
+package com.example.poll_system.application.usecases.user.impl;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+import com.example.poll_system.infrastructure.services.MailSender;
+import com.example.poll_system.infrastructure.services.MailSender.MailMessage;
+
+public class SendEmailBatchImplTest {
+
+    @InjectMocks
+    private SendEmailBatchImpl sendEmailBatch;
+
+    @Mock
+    private MailSender mailSender;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldSendAllInputsInOneCall() {
+        // Arrange
+        SendEmailInput first = new SendEmailInput("user1@example.com", "Voto Processado", "Body");
+        SendEmailInput second = new SendEmailInput("user2@example.com", "Voto Processado", "Body");
+        Mockito.when(mailSender.sendAll(Mockito.anyList())).thenReturn(List.of());
+
+        // Act
+        List<SendEmailInput> rejected = sendEmailBatch.execute(List.of(first, second));
+
+        // Assert
+        Assertions.assertTrue(rejected.isEmpty());
+        Mockito.verify(mailSender, Mockito.times(1)).sendAll(List.of(
+                new MailMessage("user1@example.com", "Voto Processado", "Body"),
+                new MailMessage("user2@example.com", "Voto Processado", "Body")));
+    }
+
+    @Test
+    void shouldReturnRejectedInputs() {
+        // Arrange
+        SendEmailInput accepted = new SendEmailInput("user1@example.com", "Voto Processado", "Body");
+        SendEmailInput refused = new SendEmailInput("invalid@example.com", "Voto Processado", "Body");
+        Mockito.when(mailSender.sendAll(Mockito.anyList()))
+                .thenReturn(List.of(new MailMessage("invalid@example.com", "Voto Processado", "Body")));
+
+        // Act
+        List<SendEmailInput> rejected = sendEmailBatch.execute(List.of(accepted, refused));
+
+        // Assert
+        Assertions.assertEquals(List.of(refused), rejected);
+    }
+}
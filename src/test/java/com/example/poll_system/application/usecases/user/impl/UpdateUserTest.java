@@ -2,6 +2,8 @@ package com.example.poll_system.application.usecases.user.impl;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -16,13 +18,18 @@ import org.springframework.web.multipart.MultipartFile;
 import com.example.poll_system.application.usecases.user.dtos.UpdateUserInput;
 import com.example.poll_system.application.usecases.user.dtos.UpdateUserOutput;
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.events.ProfileImageStagedEvent;
+import com.example.poll_system.domain.entities.events.UserUpdatedEvent;
 import com.example.poll_system.domain.enums.UserRole;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.gateways.UserRepository;
 import com.example.poll_system.domain.value_objects.Cpf;
 import com.example.poll_system.domain.value_objects.Email;
+import com.example.poll_system.infrastructure.services.EventPublisher;
 import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
 
 public class UpdateUserTest {
 
@@ -35,12 +42,20 @@ public class UpdateUserTest {
     @Mock
     private ObjectStorage objectStorage;
 
+    @Mock
+    private ProfileImagePipeline profileImagePipeline;
+
     @Mock
     private MultipartFile imageProfile;
 
+    @Mock
+    private EventPublisher eventPublisher;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        Mockito.when(objectStorage.presignedUrl(Mockito.anyString()))
+                .thenAnswer(invocation -> invocation.getArgument(0) + "?X-Amz-Signature=test");
     }
 
     private User createUserAdmin() {
@@ -65,6 +80,11 @@ public class UpdateUserTest {
         return User.createVoter(id, name, cpf, email, password, urlImageProfile);
     }
 
+    private StagedImage stagedImage(String objectName) {
+        return new StagedImage(Path.of("/tmp/staged-image"), objectName, 10L, "image/png",
+                LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+
     private UpdateUserInput createValidUpdateUserInput(String userId) {
         return new UpdateUserInput(
                 userId,
@@ -86,8 +106,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -98,13 +118,15 @@ public class UpdateUserTest {
         Assertions.assertEquals(input.name(), output.name());
         Assertions.assertEquals(input.cpf(), output.cpf());
         Assertions.assertEquals(input.email(), output.email());
-        Assertions.assertEquals(uploadedImageUrl, output.profileImageUrl());
+        Assertions.assertEquals("http://example.com/image.jpg?X-Amz-Signature=test", output.profileImageUrl());
         Assertions.assertEquals(input.role(), output.role());
         Assertions.assertTrue(output.isActive());
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(existingUser.getId());
-        Mockito.verify(objectStorage, Mockito.times(1)).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        Mockito.verify(profileImagePipeline, Mockito.times(1)).stage(Mockito.any(InputStream.class), Mockito.any());
         Mockito.verify(userRepository, Mockito.times(1)).update(existingUser);
+        Mockito.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(UserUpdatedEvent.class));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(ProfileImageStagedEvent.class));
     }
 
     @Test
@@ -123,8 +145,9 @@ public class UpdateUserTest {
 
         Assertions.assertEquals("User not found", exception.getMessage());
         Mockito.verify(userRepository, Mockito.times(1)).findById(nonExistentUserId);
-        Mockito.verify(objectStorage, Mockito.never()).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        Mockito.verify(profileImagePipeline, Mockito.never()).stage(Mockito.any(InputStream.class), Mockito.any());
         Mockito.verify(userRepository, Mockito.never()).update(Mockito.any(User.class));
+        Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
     }
 
     @Test
@@ -137,7 +160,7 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
                 .thenThrow(new RuntimeException("Storage service unavailable"));
 
         // Act & Assert
@@ -147,7 +170,7 @@ public class UpdateUserTest {
 
         Assertions.assertTrue(exception.getMessage().contains("Error uploading image profile"));
         Mockito.verify(userRepository, Mockito.times(1)).findById(existingUser.getId());
-        Mockito.verify(objectStorage, Mockito.times(1)).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        Mockito.verify(profileImagePipeline, Mockito.times(1)).stage(Mockito.any(InputStream.class), Mockito.any());
         Mockito.verify(userRepository, Mockito.never()).update(Mockito.any(User.class));
     }
 
@@ -168,8 +191,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(voterUser.getId()))
                 .thenReturn(Optional.of(voterUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -196,8 +219,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(adminUser.getId()))
                 .thenReturn(Optional.of(adminUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -225,8 +248,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -254,8 +277,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -283,8 +306,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -295,47 +318,90 @@ public class UpdateUserTest {
     }
 
     @Test
-    void shouldGenerateUniqueFileNameForImageUpload() throws Exception {
+    void shouldPublishStagedImageEventWithContentAddressedName() throws Exception {
         // Arrange
         User existingUser = createUserAdmin();
         UpdateUserInput input = createValidUpdateUserInput(existingUser.getId());
-        String uploadedImageUrl = "http://example.com/updated-image.jpg";
+        String objectName = "profile-images/abc123";
         InputStream mockInputStream = new ByteArrayInputStream("image data".getBytes());
 
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(objectName));
 
         // Act
         updateUser.execute(input);
 
-        // Assert - Verifica que um nome de arquivo único é gerado (UUID)
-        Mockito.verify(objectStorage).upload(
-                Mockito.argThat(fileName -> fileName != null && fileName.length() == 36), // UUID tem 36 caracteres
-                Mockito.any(InputStream.class));
+        // Assert - O evento só é publicado depois do update
+        var inOrder = Mockito.inOrder(userRepository, eventPublisher);
+        inOrder.verify(userRepository).update(existingUser);
+        inOrder.verify(eventPublisher).publish(Mockito.argThat(event ->
+                event instanceof ProfileImageStagedEvent staged
+                        && staged.getUserId().equals(existingUser.getId())
+                        && staged.getObjectName().equals(objectName)));
     }
 
     @Test
-    void shouldUpdateUserWithCorrectImageUrl() throws Exception {
+    void shouldKeepCurrentImageUrlUntilProcessingFinishes() throws Exception {
         // Arrange
         User existingUser = createUserAdmin();
         UpdateUserInput input = createValidUpdateUserInput(existingUser.getId());
-        String expectedImageUrl = "https://storage.example.com/newimage123.jpg";
         InputStream mockInputStream = new ByteArrayInputStream("image data".getBytes());
 
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(expectedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage("profile-images/newimage123"));
+
+        // Act
+        UpdateUserOutput output = updateUser.execute(input);
+
+        // Assert
+        Assertions.assertEquals("http://example.com/image.jpg?X-Amz-Signature=test", output.profileImageUrl());
+    }
+
+    @Test
+    void shouldDiscardStagedImageWhenImageIsUnchanged() throws Exception {
+        // Arrange
+        User existingUser = createUserAdmin();
+        UpdateUserInput input = createValidUpdateUserInput(existingUser.getId());
+        StagedImage staged = stagedImage(existingUser.getUrlImageProfile());
+        InputStream mockInputStream = new ByteArrayInputStream("image data".getBytes());
+
+        Mockito.when(userRepository.findById(existingUser.getId()))
+                .thenReturn(Optional.of(existingUser));
+        Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any())).thenReturn(staged);
+
+        // Act
+        updateUser.execute(input);
+
+        // Assert
+        Mockito.verify(profileImagePipeline).discard(staged);
+        Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any(ProfileImageStagedEvent.class));
+        Mockito.verify(userRepository, Mockito.times(1)).update(existingUser);
+    }
+
+    @Test
+    void shouldKeepCurrentImageWhenNoImageIsSent() throws Exception {
+        // Arrange
+        User existingUser = createUserAdmin();
+        UpdateUserInput input = createValidUpdateUserInput(existingUser.getId());
+
+        Mockito.when(userRepository.findById(existingUser.getId()))
+                .thenReturn(Optional.of(existingUser));
+        Mockito.when(imageProfile.isEmpty()).thenReturn(true);
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
 
         // Assert
-        Assertions.assertEquals(expectedImageUrl, output.profileImageUrl());
+        Assertions.assertEquals("http://example.com/image.jpg?X-Amz-Signature=test", output.profileImageUrl());
+        Mockito.verify(profileImagePipeline, Mockito.never()).stage(Mockito.any(InputStream.class), Mockito.any());
+        Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any(ProfileImageStagedEvent.class));
     }
 
     @Test
@@ -350,8 +416,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -377,8 +443,8 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         UpdateUserOutput output = updateUser.execute(input);
@@ -398,16 +464,16 @@ public class UpdateUserTest {
         Mockito.when(userRepository.findById(existingUser.getId()))
                 .thenReturn(Optional.of(existingUser));
         Mockito.when(imageProfile.getInputStream()).thenReturn(mockInputStream);
-        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class)))
-                .thenReturn(uploadedImageUrl);
+        Mockito.when(profileImagePipeline.stage(Mockito.any(InputStream.class), Mockito.any()))
+                .thenReturn(stagedImage(uploadedImageUrl));
 
         // Act
         updateUser.execute(input);
 
         // Assert - Verifica a ordem de execução
-        var inOrder = Mockito.inOrder(userRepository, objectStorage);
+        var inOrder = Mockito.inOrder(userRepository, profileImagePipeline);
         inOrder.verify(userRepository).findById(existingUser.getId());
-        inOrder.verify(objectStorage).upload(Mockito.anyString(), Mockito.any(InputStream.class));
+        inOrder.verify(profileImagePipeline).stage(Mockito.any(InputStream.class), Mockito.any());
         inOrder.verify(userRepository).update(existingUser);
     }
 }
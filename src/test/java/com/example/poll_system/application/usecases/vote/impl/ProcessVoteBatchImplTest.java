@@ -0,0 +1,190 @@
+package com.example.poll_system.application.usecases.vote.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteInput;
+import com.example.poll_system.application.usecases.vote.dto.ProcessVoteOutput;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.domain.enums.VoteStatus;
+import com.example.poll_system.domain.factories.UserFactory;
+import com.example.poll_system.domain.gateways.PollOptionRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
+import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
+import com.example.poll_system.infrastructure.services.EventPublisher;
+
+public class ProcessVoteBatchImplTest {
+
+    @InjectMocks
+    private ProcessVoteBatchImpl processVoteBatch;
+
+    @Mock
+    private VoteRepository voteRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PollOptionRepository pollOptionRepository;
+
+    @Mock
+    private VoteCountRepository voteCountRepository;
+
+    @Mock
+    private PollResultRepository pollResultRepository;
+
+    @Mock
+    private VoteTallyGateway voteTallyGateway;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Mockito.when(voteRepository.saveAllIfAbsent(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private User createUser(String email, String cpf) {
+        return UserFactory.create(
+                "John Doe",
+                cpf,
+                email,
+                "QAZ123qaz*",
+                "voter",
+                "urlImageProfile");
+    }
+
+    @Test
+    void shouldPersistAllVotesWithSingleSaveAllIfAbsentCall() {
+        // Arrange
+        User firstUser = createUser("john.doe@email.com", "05938337089");
+        User secondUser = createUser("jane.doe@email.com", "74571762097");
+        PollOption option = new PollOption("option-1", "Option 1", "poll-1");
+
+        Mockito.when(pollOptionRepository.findAllByIds(anyCollection())).thenReturn(List.of(option));
+        Mockito.when(userRepository.findAllByIds(anyCollection())).thenReturn(List.of(firstUser, secondUser));
+
+        List<ProcessVoteInput> inputs = List.of(
+                new ProcessVoteInput(firstUser.getId(), "option-1"),
+                new ProcessVoteInput(secondUser.getId(), "option-1"));
+
+        // Act
+        List<ProcessVoteOutput> outputs = processVoteBatch.execute(inputs);
+
+        // Assert
+        Assertions.assertEquals(2, outputs.size());
+        Assertions.assertTrue(outputs.stream().allMatch(output -> output.pollId().equals("poll-1")));
+        Assertions.assertTrue(outputs.stream().allMatch(output -> output.status().equals(VoteStatus.PROCESSED.name())));
+        Mockito.verify(pollOptionRepository, Mockito.times(1)).findAllByIds(anyCollection());
+        Mockito.verify(userRepository, Mockito.times(1)).findAllByIds(anyCollection());
+        Mockito.verify(voteRepository, Mockito.times(1)).saveAllIfAbsent(argThat(votes -> votes.size() == 2));
+        Mockito.verify(voteRepository, Mockito.never()).save(any());
+        Mockito.verify(voteCountRepository, Mockito.times(1)).incrementAll(argThat(votes -> votes.size() == 2));
+        Mockito.verify(voteTallyGateway, Mockito.times(1)).incrementAll(argThat(votes -> votes.size() == 2));
+        Mockito.verify(eventPublisher, Mockito.times(2)).publish(any(VoteProcessedEvent.class));
+    }
+
+    @Test
+    void shouldDiscardVotesWithUnknownPollOptionOrUser() {
+        // Arrange
+        User user = createUser("john.doe@email.com", "05938337089");
+        PollOption option = new PollOption("option-1", "Option 1", "poll-1");
+
+        Mockito.when(pollOptionRepository.findAllByIds(anyCollection())).thenReturn(List.of(option));
+        Mockito.when(userRepository.findAllByIds(anyCollection())).thenReturn(List.of(user));
+
+        List<ProcessVoteInput> inputs = List.of(
+                new ProcessVoteInput(user.getId(), "option-1"),
+                new ProcessVoteInput(user.getId(), "unknown-option"),
+                new ProcessVoteInput("unknown-user", "option-1"));
+
+        // Act
+        List<ProcessVoteOutput> outputs = processVoteBatch.execute(inputs);
+
+        // Assert
+        Assertions.assertEquals(1, outputs.size());
+        Assertions.assertEquals(user.getId(), outputs.get(0).userId());
+        Mockito.verify(voteRepository).saveAllIfAbsent(argThat(votes -> votes.size() == 1));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publish(any(VoteProcessedEvent.class));
+    }
+
+    @Test
+    void shouldPublishEventsOnlyAfterVotesArePersisted() {
+        // Arrange
+        User user = createUser("john.doe@email.com", "05938337089");
+        PollOption option = new PollOption("option-1", "Option 1", "poll-1");
+
+        Mockito.when(pollOptionRepository.findAllByIds(anyCollection())).thenReturn(List.of(option));
+        Mockito.when(userRepository.findAllByIds(anyCollection())).thenReturn(List.of(user));
+
+        // Act
+        processVoteBatch.execute(List.of(new ProcessVoteInput(user.getId(), "option-1")));
+
+        // Assert
+        var inOrder = Mockito.inOrder(voteRepository, voteCountRepository, eventPublisher);
+        inOrder.verify(voteRepository).saveAllIfAbsent(anyList());
+        inOrder.verify(voteCountRepository).incrementAll(anyList());
+        inOrder.verify(eventPublisher).publish(any(VoteProcessedEvent.class));
+    }
+
+    @Test
+    void shouldDoNothingWhenBatchIsEmpty() {
+        // Act
+        List<ProcessVoteOutput> outputs = processVoteBatch.execute(List.of());
+
+        // Assert
+        Assertions.assertTrue(outputs.isEmpty());
+        Mockito.verifyNoInteractions(voteRepository, userRepository, pollOptionRepository, voteCountRepository,
+                voteTallyGateway, eventPublisher);
+    }
+
+    @Test
+    void shouldCountAndNotifyOnlyVotesActuallyInserted() {
+        // Arrange
+        User firstUser = createUser("john.doe@email.com", "05938337089");
+        User secondUser = createUser("jane.doe@email.com", "74571762097");
+        PollOption option = new PollOption("option-1", "Option 1", "poll-1");
+
+        Mockito.when(pollOptionRepository.findAllByIds(anyCollection())).thenReturn(List.of(option));
+        Mockito.when(userRepository.findAllByIds(anyCollection())).thenReturn(List.of(firstUser, secondUser));
+        Mockito.when(voteRepository.saveAllIfAbsent(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Vote> votes = invocation.getArgument(0);
+                    return votes.stream().filter(vote -> vote.getUserId().equals(firstUser.getId())).toList();
+                });
+
+        List<ProcessVoteInput> inputs = List.of(
+                new ProcessVoteInput(firstUser.getId(), "option-1", "key-1"),
+                new ProcessVoteInput(secondUser.getId(), "option-1", "key-2"));
+
+        // Act
+        List<ProcessVoteOutput> outputs = processVoteBatch.execute(inputs);
+
+        // Assert
+        Assertions.assertEquals(1, outputs.size());
+        Assertions.assertEquals(firstUser.getId(), outputs.get(0).userId());
+        Mockito.verify(voteCountRepository).incrementAll(argThat(votes -> votes.size() == 1));
+        Mockito.verify(voteTallyGateway).incrementAll(argThat(votes -> votes.size() == 1));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publish(any(VoteProcessedEvent.class));
+    }
+}
@@ -24,8 +24,11 @@ import com.example.poll_system.domain.enums.VoteStatus;
 import com.example.poll_system.domain.exceptions.EntityNotFoundException;
 import com.example.poll_system.domain.factories.UserFactory;
 import com.example.poll_system.domain.gateways.PollOptionRepository;
+import com.example.poll_system.domain.gateways.PollResultRepository;
 import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteCountRepository;
 import com.example.poll_system.domain.gateways.VoteRepository;
+import com.example.poll_system.domain.gateways.VoteTallyGateway;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 public class ProcessVoteImplTest {
@@ -42,12 +45,22 @@ public class ProcessVoteImplTest {
     @Mock
     private PollOptionRepository pollOptionRepository;
 
+    @Mock
+    private VoteCountRepository voteCountRepository;
+
+    @Mock
+    private PollResultRepository pollResultRepository;
+
+    @Mock
+    private VoteTallyGateway voteTallyGateway;
+
     @Mock
     private EventPublisher eventPublisher;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        Mockito.when(voteRepository.saveIfAbsent(any(Vote.class))).thenReturn(true);
     }
 
     private User createUser() {
@@ -92,7 +105,7 @@ public class ProcessVoteImplTest {
         Assertions.assertNotNull(output.id());
         Assertions.assertNotNull(output.createdAt());
 
-        Mockito.verify(voteRepository, Mockito.times(1)).save(any(Vote.class));
+        Mockito.verify(voteRepository, Mockito.times(1)).saveIfAbsent(any(Vote.class));
         Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
         Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
         Mockito.verify(eventPublisher, Mockito.times(1)).publish(any(VoteProcessedEvent.class));
@@ -119,7 +132,7 @@ public class ProcessVoteImplTest {
                 () -> processVoteImpl.execute(input));
 
         Assertions.assertEquals("User not found", exception.getMessage());
-        Mockito.verify(voteRepository, Mockito.times(1)).save(any(Vote.class));
+        Mockito.verify(voteRepository, Mockito.times(1)).saveIfAbsent(any(Vote.class));
         Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
         Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
         Mockito.verify(eventPublisher, Mockito.never()).publish(any());
@@ -142,7 +155,7 @@ public class ProcessVoteImplTest {
 
         Assertions.assertEquals("Poll option not found", exception.getMessage());
         Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-        Mockito.verify(voteRepository, Mockito.never()).save(any(Vote.class));
+        Mockito.verify(voteRepository, Mockito.never()).saveIfAbsent(any(Vote.class));
         Mockito.verify(userRepository, Mockito.never()).findById(any());
         Mockito.verify(eventPublisher, Mockito.never()).publish(any());
     }
@@ -167,7 +180,7 @@ public class ProcessVoteImplTest {
         processVoteImpl.execute(input);
 
         // Assert
-        Mockito.verify(voteRepository).save(argThat(vote -> vote.getUserId().equals(userId) &&
+        Mockito.verify(voteRepository).saveIfAbsent(argThat(vote -> vote.getUserId().equals(userId) &&
                 vote.getPollOptionId().equals(pollOptionId) &&
                 vote.getPollId().equals(pollId) &&
                 vote.getStatus() == VoteStatus.PROCESSED));
@@ -252,7 +265,7 @@ public class ProcessVoteImplTest {
         processVoteImpl.execute(input);
 
         // Assert - Verifica que o voto foi salvo e depois o usuário foi validado
-        Mockito.verify(voteRepository, Mockito.times(1)).save(any(Vote.class));
+        Mockito.verify(voteRepository, Mockito.times(1)).saveIfAbsent(any(Vote.class));
         Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
         Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
     }
@@ -278,7 +291,7 @@ public class ProcessVoteImplTest {
 
         // Assert - O VoteFactory cria com status UNPROCESSED, mas depois é alterado
         // para PROCESSED
-        Mockito.verify(voteRepository).save(argThat(vote -> vote.getStatus() == VoteStatus.PROCESSED));
+        Mockito.verify(voteRepository).saveIfAbsent(argThat(vote -> vote.getStatus() == VoteStatus.PROCESSED));
     }
 
     @Test
@@ -332,8 +345,89 @@ public class ProcessVoteImplTest {
         // publish event
         var inOrder = Mockito.inOrder(pollOptionRepository, voteRepository, userRepository, eventPublisher);
         inOrder.verify(pollOptionRepository).findById(pollOptionId);
-        inOrder.verify(voteRepository).save(any(Vote.class));
+        inOrder.verify(voteRepository).saveIfAbsent(any(Vote.class));
         inOrder.verify(userRepository).findById(userId);
         inOrder.verify(eventPublisher).publish(any(VoteProcessedEvent.class));
     }
+
+    @Test
+    void shouldIncrementVoteCounterAfterSavingVote() {
+        // Arrange
+        String userId = "user-123";
+        String pollOptionId = "option-456";
+        String pollId = "poll-789";
+        ProcessVoteInput input = new ProcessVoteInput(userId, pollOptionId);
+
+        User user = createUser();
+        PollOption pollOption = createPollOption(pollOptionId, pollId);
+
+        Mockito.when(userRepository.findById(userId))
+                .thenReturn(Optional.of(user));
+        Mockito.when(pollOptionRepository.findById(pollOptionId))
+                .thenReturn(Optional.of(pollOption));
+
+        // Act
+        processVoteImpl.execute(input);
+
+        // Assert
+        var inOrder = Mockito.inOrder(voteRepository, voteCountRepository, voteTallyGateway);
+        inOrder.verify(voteRepository).saveIfAbsent(any(Vote.class));
+        inOrder.verify(voteCountRepository).increment(argThat(vote -> vote.getPollOptionId().equals(pollOptionId) &&
+                vote.getPollId().equals(pollId)));
+        inOrder.verify(voteTallyGateway).increment(argThat(vote -> vote.getPollOptionId().equals(pollOptionId)));
+    }
+
+    @Test
+    void shouldNotIncrementVoteCounterWhenPollOptionDoesNotExist() {
+        // Arrange
+        ProcessVoteInput input = new ProcessVoteInput("user-123", "nonexistent-option");
+
+        Mockito.when(pollOptionRepository.findById("nonexistent-option"))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        Assertions.assertThrows(
+                EntityNotFoundException.class,
+                () -> processVoteImpl.execute(input));
+        Mockito.verify(voteCountRepository, Mockito.never()).increment(any());
+    }
+
+    @Test
+    void shouldIgnoreDuplicateVoteWithoutIncrementingOrPublishing() {
+        // Arrange
+        String userId = "user-123";
+        String pollOptionId = "option-456";
+        ProcessVoteInput input = new ProcessVoteInput(userId, pollOptionId, "idempotency-key");
+
+        Mockito.when(pollOptionRepository.findById(pollOptionId))
+                .thenReturn(Optional.of(createPollOption(pollOptionId, "poll-789")));
+        Mockito.when(voteRepository.saveIfAbsent(any(Vote.class))).thenReturn(false);
+
+        // Act
+        ProcessVoteOutput output = processVoteImpl.execute(input);
+
+        // Assert
+        Assertions.assertEquals(userId, output.userId());
+        Mockito.verify(voteCountRepository, Mockito.never()).increment(any());
+        Mockito.verify(voteTallyGateway, Mockito.never()).increment(any());
+        Mockito.verify(eventPublisher, Mockito.never()).publish(any());
+    }
+
+    @Test
+    void shouldDeriveSameVoteIdFromSameIdempotencyKey() {
+        // Arrange
+        String userId = "user-123";
+        String pollOptionId = "option-456";
+        Mockito.when(userRepository.findById(userId))
+                .thenReturn(Optional.of(createUser()));
+        Mockito.when(pollOptionRepository.findById(pollOptionId))
+                .thenReturn(Optional.of(createPollOption(pollOptionId, "poll-789")));
+
+        // Act
+        ProcessVoteOutput first = processVoteImpl.execute(new ProcessVoteInput(userId, pollOptionId, "key-1"));
+        ProcessVoteOutput redelivered = processVoteImpl.execute(new ProcessVoteInput(userId, pollOptionId, "key-1"));
+
+        // Assert
+        Assertions.assertEquals(first.id(), redelivered.id());
+    }
 }
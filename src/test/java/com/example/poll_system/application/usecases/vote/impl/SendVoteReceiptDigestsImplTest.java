@@ -0,0 +1,120 @@
+package com.example.poll_system.application.usecases.vote.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.user.SendEmailBatch;
+import com.example.poll_system.application.usecases.vote.dto.SendEmailInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsInput;
+import com.example.poll_system.application.usecases.vote.dto.SendVoteReceiptDigestsOutput;
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository;
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository.VoteReceiptDigest;
+import com.example.poll_system.infrastructure.services.MailSender.PartialSendException;
+
+public class SendVoteReceiptDigestsImplTest {
+
+    @InjectMocks
+    private SendVoteReceiptDigestsImpl sendVoteReceiptDigests;
+
+    @Mock
+    private VoteReceiptDigestRepository voteReceiptDigestRepository;
+
+    @Mock
+    private SendEmailBatch sendEmailBatch;
+
+    private final LocalDateTime firstReceiptBefore = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private final LocalDateTime staleClaimBefore = LocalDateTime.of(2025, 1, 1, 12, 0);
+    private final LocalDateTime claimedAt = LocalDateTime.of(2025, 1, 1, 12, 5);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSendOneEmailPerUserDigest() {
+        // Arrange
+        VoteReceiptDigest single = new VoteReceiptDigest("user-1", "user1@example.com", 1,
+                LocalDateTime.of(2025, 1, 1, 11, 50), LocalDateTime.of(2025, 1, 1, 11, 50), claimedAt);
+        VoteReceiptDigest multiple = new VoteReceiptDigest("user-2", "user2@example.com", 3,
+                LocalDateTime.of(2025, 1, 1, 11, 51), LocalDateTime.of(2025, 1, 1, 11, 54), claimedAt);
+        Mockito.when(voteReceiptDigestRepository.claimDue(firstReceiptBefore, staleClaimBefore, 100))
+                .thenReturn(List.of(single, multiple));
+        Mockito.when(sendEmailBatch.execute(Mockito.anyList())).thenReturn(List.of());
+
+        // Act
+        SendVoteReceiptDigestsOutput output = sendVoteReceiptDigests
+                .execute(new SendVoteReceiptDigestsInput(firstReceiptBefore, staleClaimBefore, 100));
+
+        // Assert
+        ArgumentCaptor<List<SendEmailInput>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(sendEmailBatch, Mockito.times(1)).execute(captor.capture());
+        List<SendEmailInput> emails = captor.getValue();
+        Assertions.assertEquals(2, emails.size());
+        Assertions.assertEquals("Seu voto foi processado com sucesso!", emails.get(0).body());
+        Assertions.assertEquals(
+                "Seus 3 votos registrados entre 01/01/2025 11:51 e 01/01/2025 11:54 foram processados com sucesso!",
+                emails.get(1).body());
+        Assertions.assertEquals(new SendVoteReceiptDigestsOutput(2, 0), output);
+        Mockito.verify(voteReceiptDigestRepository).complete(List.of(single, multiple));
+    }
+
+    @Test
+    void shouldNotSendEmailsWhenNoDigestIsDue() {
+        // Arrange
+        Mockito.when(voteReceiptDigestRepository.claimDue(firstReceiptBefore, staleClaimBefore, 100)).thenReturn(List.of());
+
+        // Act
+        SendVoteReceiptDigestsOutput output = sendVoteReceiptDigests
+                .execute(new SendVoteReceiptDigestsInput(firstReceiptBefore, staleClaimBefore, 100));
+
+        // Assert
+        Mockito.verifyNoInteractions(sendEmailBatch);
+        Assertions.assertEquals(new SendVoteReceiptDigestsOutput(0, 0), output);
+    }
+
+    @Test
+    void shouldReleaseAllDigestsWhenSendFailsBeforeAnyEmail() {
+        // Arrange
+        VoteReceiptDigest digest = new VoteReceiptDigest("user-1", "user1@example.com", 2,
+                LocalDateTime.of(2025, 1, 1, 11, 50), LocalDateTime.of(2025, 1, 1, 11, 55), claimedAt);
+        Mockito.when(voteReceiptDigestRepository.claimDue(firstReceiptBefore, staleClaimBefore, 100)).thenReturn(List.of(digest));
+        Mockito.when(sendEmailBatch.execute(Mockito.anyList()))
+                .thenThrow(new IllegalStateException("SMTP unavailable"));
+
+        // Act & Assert
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> sendVoteReceiptDigests.execute(new SendVoteReceiptDigestsInput(firstReceiptBefore, staleClaimBefore, 100)));
+        Mockito.verify(voteReceiptDigestRepository).release(List.of(digest));
+        Mockito.verify(voteReceiptDigestRepository, Mockito.never()).complete(Mockito.anyList());
+    }
+
+    @Test
+    void shouldCompleteSentAndReleaseUnsentDigestsWhenConnectionFailsMidBatch() {
+        // Arrange
+        VoteReceiptDigest sent = new VoteReceiptDigest("user-1", "user1@example.com", 1,
+                LocalDateTime.of(2025, 1, 1, 11, 50), LocalDateTime.of(2025, 1, 1, 11, 50), claimedAt);
+        VoteReceiptDigest unsent = new VoteReceiptDigest("user-2", "user2@example.com", 2,
+                LocalDateTime.of(2025, 1, 1, 11, 51), LocalDateTime.of(2025, 1, 1, 11, 52), claimedAt);
+        Mockito.when(voteReceiptDigestRepository.claimDue(firstReceiptBefore, staleClaimBefore, 100))
+                .thenReturn(List.of(sent, unsent));
+        Mockito.when(sendEmailBatch.execute(Mockito.anyList()))
+                .thenThrow(new PartialSendException("Connection lost", null, 1));
+
+        // Act & Assert
+        Assertions.assertThrows(PartialSendException.class,
+                () -> sendVoteReceiptDigests.execute(new SendVoteReceiptDigestsInput(firstReceiptBefore, staleClaimBefore, 100)));
+        Mockito.verify(voteReceiptDigestRepository).complete(List.of(sent));
+        Mockito.verify(voteReceiptDigestRepository).release(List.of(unsent));
+    }
+}
@@ -1,9 +1,5 @@
 package com.example.poll_system.application.usecases.vote.impl;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,17 +9,11 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import com.example.poll_system.application.usecases.vote.dto.CreateVoteInput;
-import com.example.poll_system.domain.entities.Poll;
-import com.example.poll_system.domain.entities.PollOption;
-import com.example.poll_system.domain.entities.User;
 import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
 import com.example.poll_system.domain.enums.PollStatus;
 import com.example.poll_system.domain.exceptions.BusinessRulesException;
-import com.example.poll_system.domain.factories.PollFactory;
-import com.example.poll_system.domain.factories.UserFactory;
-import com.example.poll_system.domain.gateways.PollOptionRepository;
-import com.example.poll_system.domain.gateways.PollRepository;
-import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway.Admission;
 import com.example.poll_system.infrastructure.services.EventPublisher;
 
 public class SendVoteToQueueTest {
@@ -32,13 +22,7 @@ public class SendVoteToQueueTest {
         private SendVoteToQueue sendVoteToQueue;
 
         @Mock
-        private PollOptionRepository pollOptionRepository;
-
-        @Mock
-        private UserRepository userRepository;
-
-        @Mock
-        private PollRepository pollRepository;
+        private VoteAdmissionGateway voteAdmissionGateway;
 
         @Mock
         private EventPublisher eventPublisher;
@@ -48,36 +32,8 @@ public class SendVoteToQueueTest {
                 MockitoAnnotations.openMocks(this);
         }
 
-        private User createUser() {
-                return UserFactory.create(
-                                "John Doe",
-                                "05938337089",
-                                "john.doe@email.com",
-                                "QAZ123qaz*",
-                                "admin",
-                                "urlImageProfile");
-        }
-
-        private PollOption createPollOption() {
-                return new PollOption("poll-option-1", "Option 1", "poll-1");
-        }
-
-        private Poll createPoll(PollStatus status) {
-                PollOption option1 = createPollOption();
-                PollOption option2 = new PollOption("poll-option-2", "Option 2", "poll-1");
-                Poll poll = PollFactory.create(
-                                "poll-1",
-                                "Test Poll",
-                                "Test Description",
-                                "owner-1",
-                                null, // startDate null para criar um poll aberto
-                                LocalDateTime.now().plusDays(1),
-                                List.of(option1, option2)); // Pelo menos duas opções são necessárias
-
-                // Usar setStatus para alterar o status do poll
-                poll.setStatus(status);
-
-                return poll;
+        private Admission admissionWithPollStatus(PollStatus status) {
+                return new Admission(true, true, "poll-1", status);
         }
 
         @Test
@@ -87,24 +43,14 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.OPEN);
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(admissionWithPollStatus(PollStatus.OPEN));
 
                 // Act
                 sendVoteToQueue.execute(input);
 
                 // Assert
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
+                Mockito.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
                 Mockito.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(VoteCreatedEvent.class));
         }
 
@@ -115,8 +61,28 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.empty());
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(new Admission(false, true, "poll-1", PollStatus.OPEN));
+
+                // Act & Assert
+                BusinessRulesException exception = Assertions.assertThrows(
+                                BusinessRulesException.class,
+                                () -> sendVoteToQueue.execute(input));
+
+                Assertions.assertEquals("User not found", exception.getMessage());
+                Mockito.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
+                Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
+        }
+
+        @Test
+        void shouldReportUserNotFoundBeforeOtherFailures() {
+                // Arrange
+                String userId = "nonexistent-user";
+                String pollOptionId = "nonexistent-option";
+                CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
+
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(new Admission(false, false, null, null));
 
                 // Act & Assert
                 BusinessRulesException exception = Assertions.assertThrows(
@@ -124,8 +90,6 @@ public class SendVoteToQueueTest {
                                 () -> sendVoteToQueue.execute(input));
 
                 Assertions.assertEquals("User not found", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.never()).findById(Mockito.anyString());
                 Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
         }
 
@@ -136,12 +100,8 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "nonexistent-option";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.empty());
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(new Admission(true, false, null, null));
 
                 // Act & Assert
                 BusinessRulesException exception = Assertions.assertThrows(
@@ -149,8 +109,7 @@ public class SendVoteToQueueTest {
                                 () -> sendVoteToQueue.execute(input));
 
                 Assertions.assertEquals("Poll option not found", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
+                Mockito.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
                 Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
         }
 
@@ -161,16 +120,8 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.OPEN);
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(admissionWithPollStatus(PollStatus.OPEN));
 
                 // Act
                 sendVoteToQueue.execute(input);
@@ -192,26 +143,18 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.OPEN);
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(admissionWithPollStatus(PollStatus.OPEN));
 
                 // Act
                 sendVoteToQueue.execute(input);
 
-                // Assert - Verifica que as validações foram chamadas antes da publicação do
-                // evento
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
-                Mockito.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(VoteCreatedEvent.class));
+                // Assert - Verifica que a validação foi feita em uma única consulta antes da
+                // publicação do evento
+                var inOrder = Mockito.inOrder(voteAdmissionGateway, eventPublisher);
+                inOrder.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
+                inOrder.verify(eventPublisher, Mockito.times(1)).publish(Mockito.any(VoteCreatedEvent.class));
+                Mockito.verifyNoMoreInteractions(voteAdmissionGateway);
         }
 
         @Test
@@ -221,12 +164,8 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "nonexistent-option";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.empty());
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(new Admission(true, false, null, null));
 
                 // Act & Assert
                 Assertions.assertThrows(
@@ -239,111 +178,32 @@ public class SendVoteToQueueTest {
 
         @Test
         void shouldThrowBusinessRulesExceptionWhenPollIsNotOpen() {
-                // Arrange
-                String userId = "user-123";
-                String pollOptionId = "option-456";
-                CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
-
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.CLOSED); // Poll fechado
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
-
-                // Act & Assert
-                BusinessRulesException exception = Assertions.assertThrows(
-                                BusinessRulesException.class,
-                                () -> sendVoteToQueue.execute(input));
-
-                Assertions.assertEquals("Poll is not open for voting", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
-                Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
+                assertPollIsNotOpenForVoting(PollStatus.CLOSED);
         }
 
         @Test
         void shouldThrowBusinessRulesExceptionWhenPollIsScheduled() {
-                // Arrange
-                String userId = "user-123";
-                String pollOptionId = "option-456";
-                CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
-
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.SCHEDULED); // Poll agendado
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
-
-                // Act & Assert
-                BusinessRulesException exception = Assertions.assertThrows(
-                                BusinessRulesException.class,
-                                () -> sendVoteToQueue.execute(input));
-
-                Assertions.assertEquals("Poll is not open for voting", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
-                Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
+                assertPollIsNotOpenForVoting(PollStatus.SCHEDULED);
         }
 
         @Test
         void shouldThrowBusinessRulesExceptionWhenPollIsPaused() {
-                // Arrange
-                String userId = "user-123";
-                String pollOptionId = "option-456";
-                CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
-
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.PAUSED); // Poll pausado
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
-
-                // Act & Assert
-                BusinessRulesException exception = Assertions.assertThrows(
-                                BusinessRulesException.class,
-                                () -> sendVoteToQueue.execute(input));
-
-                Assertions.assertEquals("Poll is not open for voting", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
-                Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
+                assertPollIsNotOpenForVoting(PollStatus.PAUSED);
         }
 
         @Test
         void shouldThrowBusinessRulesExceptionWhenPollIsCanceled() {
+                assertPollIsNotOpenForVoting(PollStatus.CANCELED);
+        }
+
+        private void assertPollIsNotOpenForVoting(PollStatus status) {
                 // Arrange
                 String userId = "user-123";
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-                Poll poll = createPoll(PollStatus.CANCELED); // Poll cancelado
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.of(poll));
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(admissionWithPollStatus(status));
 
                 // Act & Assert
                 BusinessRulesException exception = Assertions.assertThrows(
@@ -351,9 +211,7 @@ public class SendVoteToQueueTest {
                                 () -> sendVoteToQueue.execute(input));
 
                 Assertions.assertEquals("Poll is not open for voting", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
+                Mockito.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
                 Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
         }
 
@@ -364,15 +222,8 @@ public class SendVoteToQueueTest {
                 String pollOptionId = "option-456";
                 CreateVoteInput input = new CreateVoteInput(userId, pollOptionId);
 
-                User user = createUser();
-                PollOption pollOption = createPollOption();
-
-                Mockito.when(userRepository.findById(userId))
-                                .thenReturn(Optional.of(user));
-                Mockito.when(pollOptionRepository.findById(pollOptionId))
-                                .thenReturn(Optional.of(pollOption));
-                Mockito.when(pollRepository.findById(pollOption.getPollId()))
-                                .thenReturn(Optional.empty()); // Poll não encontrado
+                Mockito.when(voteAdmissionGateway.check(userId, pollOptionId))
+                                .thenReturn(new Admission(true, true, null, null)); // Poll não encontrado
 
                 // Act & Assert
                 BusinessRulesException exception = Assertions.assertThrows(
@@ -380,9 +231,7 @@ public class SendVoteToQueueTest {
                                 () -> sendVoteToQueue.execute(input));
 
                 Assertions.assertEquals("Poll not found", exception.getMessage());
-                Mockito.verify(userRepository, Mockito.times(1)).findById(userId);
-                Mockito.verify(pollOptionRepository, Mockito.times(1)).findById(pollOptionId);
-                Mockito.verify(pollRepository, Mockito.times(1)).findById(pollOption.getPollId());
+                Mockito.verify(voteAdmissionGateway, Mockito.times(1)).check(userId, pollOptionId);
                 Mockito.verify(eventPublisher, Mockito.never()).publish(Mockito.any());
         }
 }
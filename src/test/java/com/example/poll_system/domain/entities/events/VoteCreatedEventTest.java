@@ -19,7 +19,7 @@ public class VoteCreatedEventTest {
         String pollOptionId = "option456";
         LocalDateTime beforeCreation = LocalDateTime.now();
 
-        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId);
+        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
 
         LocalDateTime afterCreation = LocalDateTime.now();
 
@@ -37,7 +37,7 @@ public class VoteCreatedEventTest {
         String pollOptionId = "option456";
 
         assertThrows(FieldIsRequiredException.class, () -> {
-            new VoteCreatedEvent(userId, pollOptionId);
+            new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
         });
     }
 
@@ -47,7 +47,7 @@ public class VoteCreatedEventTest {
         String pollOptionId = null;
 
         assertThrows(FieldIsRequiredException.class, () -> {
-            new VoteCreatedEvent(userId, pollOptionId);
+            new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
         });
     }
 
@@ -56,7 +56,7 @@ public class VoteCreatedEventTest {
         String userId = " ";
         String pollOptionId = "option456";
         assertThrows(FieldIsRequiredException.class, () -> {
-            new VoteCreatedEvent(userId, pollOptionId);
+            new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
         });
     }
 
@@ -65,7 +65,7 @@ public class VoteCreatedEventTest {
         String userId = "user123";
         String pollOptionId = " ";
         assertThrows(FieldIsRequiredException.class, () -> {
-            new VoteCreatedEvent(userId, pollOptionId);
+            new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
         });
     }
 
@@ -74,7 +74,7 @@ public class VoteCreatedEventTest {
         String userId = "very-long-user-id-with-many-characters-123456789";
         String pollOptionId = "very-long-poll-option-id-with-many-characters-987654321";
 
-        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId);
+        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
 
         assertEquals(userId, event.getUserId());
         assertEquals(pollOptionId, event.getPollOptionId());
@@ -87,7 +87,7 @@ public class VoteCreatedEventTest {
         String userId = "12345";
         String pollOptionId = "67890";
 
-        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId);
+        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
 
         assertEquals(userId, event.getUserId());
         assertEquals(pollOptionId, event.getPollOptionId());
@@ -100,7 +100,7 @@ public class VoteCreatedEventTest {
         String userId = "user123";
         String pollOptionId = "option456";
 
-        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId);
+        VoteCreatedEvent event = new VoteCreatedEvent(userId, pollOptionId, "idempotency-key");
 
         String originalUserId = event.getUserId();
         String originalPollOptionId = event.getPollOptionId();
@@ -121,8 +121,8 @@ public class VoteCreatedEventTest {
         String userId2 = "user789";
         String pollOptionId2 = "option321";
 
-        VoteCreatedEvent event1 = new VoteCreatedEvent(userId1, pollOptionId1);
-        VoteCreatedEvent event2 = new VoteCreatedEvent(userId2, pollOptionId2);
+        VoteCreatedEvent event1 = new VoteCreatedEvent(userId1, pollOptionId1, "idempotency-key");
+        VoteCreatedEvent event2 = new VoteCreatedEvent(userId2, pollOptionId2, "idempotency-key");
 
         assertEquals(userId1, event1.getUserId());
         assertEquals(pollOptionId1, event1.getPollOptionId());
@@ -30,4 +30,22 @@ public class VoteFactoryTest {
         Assertions.assertEquals(VoteStatus.UNPROCESSED, vote.getStatus());
     }
 
+    @Test
+    void shouldDeriveSameIdFromSameIdempotencyKey() {
+        Vote first = VoteFactory.create("user123", "option456", "poll789", "key-1");
+        Vote redelivered = VoteFactory.create("user123", "option456", "poll789", "key-1");
+        Vote otherUser = VoteFactory.create("user999", "option456", "poll789", "key-1");
+
+        Assertions.assertEquals(first.getId(), redelivered.getId());
+        Assertions.assertNotEquals(first.getId(), otherUser.getId());
+    }
+
+    @Test
+    void shouldDeriveDifferentIdsWhenKeyIsReusedAcrossPolls() {
+        Vote firstPoll = VoteFactory.create("user123", "option456", "poll789", "key-1");
+        Vote otherPoll = VoteFactory.create("user123", "option999", "poll000", "key-1");
+
+        Assertions.assertNotEquals(firstPoll.getId(), otherPoll.getId());
+    }
+
 }
@@ -0,0 +1,107 @@
+package com.example.poll_system.infrastructure.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class ListenerConcurrencyLimiterTest {
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private ListenerConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ListenerConcurrencyProperties properties = new ListenerConcurrencyProperties();
+        properties.setDefaultPermits(0);
+        properties.setQueues(Map.of("vote-queue", 2));
+        limiter = new ListenerConcurrencyLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldNotLimitQueueWithoutPermits() {
+        // Act
+        MethodInterceptor interceptor = limiter.interceptorFor("email-queue");
+
+        // Assert
+        assertNull(interceptor);
+    }
+
+    @Test
+    void shouldLimitConcurrentInvocationsToQueuePermits() throws Throwable {
+        // Arrange
+        MethodInterceptor interceptor = limiter.interceptorFor("vote-queue");
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        when(invocation.proceed()).thenAnswer(answer -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await(5, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return null;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        interceptor.invoke(invocation);
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+            while (limiter.semaphoreFor("vote-queue").getQueueLength() < 3) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(2, maxRunning.get());
+        assertEquals(2, limiter.semaphoreFor("vote-queue").availablePermits());
+    }
+
+    @Test
+    void shouldReleasePermitWhenListenerFails() throws Throwable {
+        // Arrange
+        MethodInterceptor interceptor = limiter.interceptorFor("vote-queue");
+        when(invocation.proceed()).thenThrow(new IllegalStateException("listener failed"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> interceptor.invoke(invocation));
+
+        // Assert
+        assertEquals(2, limiter.semaphoreFor("vote-queue").availablePermits());
+    }
+}
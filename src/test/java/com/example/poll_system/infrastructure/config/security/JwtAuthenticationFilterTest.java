@@ -0,0 +1,130 @@
+package com.example.poll_system.infrastructure.config.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.gateways.JwtTokenGateway;
+import com.example.poll_system.domain.gateways.JwtTokenGateway.TokenClaims;
+import com.example.poll_system.domain.gateways.RevokedUserRegistry;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.domain.value_objects.Cpf;
+import com.example.poll_system.domain.value_objects.Email;
+import com.example.poll_system.infrastructure.config.security.JwtAuthenticationFilter.PrincipalSource;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtTokenGateway jwtTokenGateway;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RevokedUserRegistry revokedUserRegistry;
+
+    private TokenClaims claims;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        claims = new TokenClaims("john.doe@example.com", "user-123", "John Doe", "VOTER",
+                Instant.now().minusSeconds(60), Instant.now().plusSeconds(3600));
+        Mockito.when(jwtTokenGateway.verifyToken(TOKEN)).thenReturn(claims);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        // When
+        Authentication authentication = filter(PrincipalSource.CLAIMS);
+
+        // Then
+        assertEquals("john.doe@example.com", authentication.getPrincipal());
+        assertEquals(List.of("ROLE_VOTER"), roles(authentication));
+        Mockito.verify(jwtTokenGateway, Mockito.times(1)).verifyToken(TOKEN);
+        Mockito.verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldLoadUserWhenTokenWasIssuedBeforeRevocation() throws Exception {
+        // Given
+        Mockito.when(revokedUserRegistry.isRevoked("user-123", claims.issuedAt())).thenReturn(true);
+        Mockito.when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(admin()));
+
+        // When
+        Authentication authentication = filter(PrincipalSource.CLAIMS);
+
+        // Then
+        assertEquals(List.of("ROLE_ADMIN"), roles(authentication));
+    }
+
+    @Test
+    void shouldNotAuthenticateRevokedUserThatIsInactive() throws Exception {
+        // Given
+        User inactive = admin();
+        inactive.deactivate();
+        Mockito.when(revokedUserRegistry.isRevoked("user-123", claims.issuedAt())).thenReturn(true);
+        Mockito.when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(inactive));
+
+        // When
+        Authentication authentication = filter(PrincipalSource.CLAIMS);
+
+        // Then
+        assertNull(authentication);
+    }
+
+    @Test
+    void shouldAlwaysLoadUserInDatabaseMode() throws Exception {
+        // Given
+        Mockito.when(userRepository.findByEmail("john.doe@example.com")).thenReturn(Optional.of(admin()));
+
+        // When
+        Authentication authentication = filter(PrincipalSource.DATABASE);
+
+        // Then
+        assertEquals(List.of("ROLE_ADMIN"), roles(authentication));
+        Mockito.verifyNoInteractions(revokedUserRegistry);
+    }
+
+    private Authentication filter(PrincipalSource principalSource) throws Exception {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+                jwtTokenGateway, userRepository, revokedUserRegistry, principalSource);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private List<String> roles(Authentication authentication) {
+        return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+    }
+
+    private User admin() {
+        return User.createAdmin("user-123", "John Doe", new Cpf("74571762097"),
+                new Email("john.doe@example.com"), "hashedPassword123", "http://example.com/profile.jpg");
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.entities.Poll;
+import com.example.poll_system.domain.entities.PollOption;
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.exceptions.EntityNotFoundException;
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+
+public class PollRepositoryInMemoryTest {
+
+    private PollRepositoryInMemory pollRepository;
+
+    @BeforeEach
+    void setUp() {
+        pollRepository = new PollRepositoryInMemory();
+    }
+
+    @Test
+    void shouldMovePollBetweenStatusIndexesOnUpdate() {
+        // Given
+        Poll poll = openPoll("poll-1");
+        pollRepository.save(poll);
+
+        // When
+        poll.close();
+        pollRepository.update(poll);
+
+        // Then
+        assertTrue(pollRepository.findByStatus(PollStatus.OPEN).isEmpty());
+        assertEquals(List.of(poll), pollRepository.findByStatus(PollStatus.CLOSED));
+    }
+
+    @Test
+    void shouldRemovePollFromStatusIndexOnDelete() {
+        // Given
+        pollRepository.save(openPoll("poll-1"));
+
+        // When
+        pollRepository.delete("poll-1");
+
+        // Then
+        assertTrue(pollRepository.findByStatus(PollStatus.OPEN).isEmpty());
+        assertTrue(pollRepository.findById("poll-1").isEmpty());
+    }
+
+    @Test
+    void shouldThrowWhenUpdatingUnknownPoll() {
+        // Given
+        Poll poll = openPoll("poll-1");
+
+        // When / Then
+        assertThrows(EntityNotFoundException.class, () -> pollRepository.update(poll));
+    }
+
+    @Test
+    void shouldFindOnlyOpenPollsEndingUntilGivenDate() {
+        // Given
+        Poll endingSoon = openPoll("poll-1");
+        Poll endingLater = Poll.createOpenPoll("poll-2", "Poll Title", "Poll Description", "1",
+                LocalDateTime.now().plusDays(10), endingSoon.getOptions());
+        pollRepository.save(endingSoon);
+        pollRepository.save(endingLater);
+
+        // When
+        List<PollDeadline> deadlines = pollRepository.findOpenEndingUntil(LocalDateTime.now().plusDays(2));
+
+        // Then
+        assertEquals(List.of(new PollDeadline("poll-1", endingSoon.getEndDate())), deadlines);
+        assertTrue(pollRepository.findScheduledStartingUntil(LocalDateTime.now().plusDays(2)).isEmpty());
+    }
+
+    @Test
+    void shouldCloseOnlyPollsThatAreStillOpen() {
+        // Given
+        Poll open = openPoll("poll-1");
+        Poll alreadyClosed = openPoll("poll-2");
+        alreadyClosed.close();
+        pollRepository.save(open);
+        pollRepository.save(alreadyClosed);
+
+        // When
+        List<String> closed = pollRepository.closeAllOpen(List.of("poll-1", "poll-2", "poll-3"), LocalDateTime.now());
+
+        // Then
+        assertEquals(List.of("poll-1"), closed);
+        assertEquals(PollStatus.CLOSED, pollRepository.findById("poll-1").orElseThrow().getStatus());
+        assertTrue(pollRepository.findByStatus(PollStatus.OPEN).isEmpty());
+    }
+
+    private Poll openPoll(String id) {
+        List<PollOption> options = List.of(
+                new PollOption("option-1", "Option 1", id),
+                new PollOption("option-2", "Option 2", id));
+        return Poll.createOpenPoll(id, "Poll Title", "Poll Description", "1", LocalDateTime.now().plusDays(1),
+                options);
+    }
+}
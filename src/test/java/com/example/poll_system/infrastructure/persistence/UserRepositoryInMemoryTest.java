@@ -0,0 +1,69 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.value_objects.Cpf;
+import com.example.poll_system.domain.value_objects.Email;
+
+public class UserRepositoryInMemoryTest {
+
+    private UserRepositoryInMemory userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new UserRepositoryInMemory();
+    }
+
+    @Test
+    void shouldMoveEmailAndCpfIndexesWhenStoredUserIsChanged() {
+        // Given
+        userRepository.save(User.createVoter("2", "Jane Smith", new Cpf("78887276030"),
+                new Email("jane.smith@email.com"), "password456", null));
+        User user = userRepository.findById("2").orElseThrow();
+
+        // When - altera a própria instância guardada, como o UpdateUser faz
+        user.changeEmail(new Email("jane.new@email.com"));
+        user.changeCpf(new Cpf("05938337089"));
+        userRepository.update(user);
+
+        // Then
+        assertTrue(userRepository.findByEmail("jane.smith@email.com").isEmpty());
+        assertTrue(userRepository.findByCpf("78887276030").isEmpty());
+        assertEquals(user, userRepository.findByEmail("jane.new@email.com").orElseThrow());
+        assertEquals(user, userRepository.findByCpf("05938337089").orElseThrow());
+    }
+
+    @Test
+    void shouldRemoveIndexesOnDelete() {
+        // When
+        userRepository.delete("1");
+
+        // Then
+        assertTrue(userRepository.findByEmail("john.doe@email.com").isEmpty());
+        assertTrue(userRepository.findByCpf("74571762097").isEmpty());
+    }
+
+    @Test
+    void shouldKeepLatestStagedImageWhenUpdatesFinishOutOfOrder() {
+        // Given
+        LocalDateTime olderUpload = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime newerUpload = olderUpload.plusSeconds(5);
+
+        // When - o envio mais novo termina primeiro
+        boolean newerApplied = userRepository.changeUrlImageProfile("1", "profile-images/newer", newerUpload);
+        boolean olderApplied = userRepository.changeUrlImageProfile("1", "profile-images/older", olderUpload);
+
+        // Then
+        assertTrue(newerApplied);
+        assertFalse(olderApplied);
+        assertEquals("profile-images/newer", userRepository.findById("1").orElseThrow().getUrlImageProfile());
+    }
+}
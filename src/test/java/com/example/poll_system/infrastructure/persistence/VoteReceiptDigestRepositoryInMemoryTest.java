@@ -0,0 +1,76 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.gateways.VoteReceiptDigestRepository.VoteReceiptDigest;
+
+public class VoteReceiptDigestRepositoryInMemoryTest {
+
+    private final LocalDateTime receivedAt = LocalDateTime.now().minusHours(1);
+    private final LocalDateTime firstReceiptBefore = LocalDateTime.now().minusMinutes(30);
+
+    private VoteReceiptDigestRepositoryInMemory digestRepository;
+
+    @BeforeEach
+    void setUp() {
+        digestRepository = new VoteReceiptDigestRepositoryInMemory();
+    }
+
+    @Test
+    void shouldKeepClaimedDigestOutOfNextClaimUntilItIsStale() {
+        // Arrange
+        digestRepository.record("user-1", "user1@example.com", receivedAt);
+        List<VoteReceiptDigest> claimed = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+
+        // Act
+        List<VoteReceiptDigest> whileClaimed = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+        List<VoteReceiptDigest> afterTimeout = digestRepository.claimDue(firstReceiptBefore,
+                LocalDateTime.now().plusMinutes(1), 10);
+
+        // Assert
+        assertEquals(1, claimed.size());
+        assertTrue(whileClaimed.isEmpty());
+        assertEquals(1, afterTimeout.size());
+        assertEquals(1, afterTimeout.get(0).receiptCount());
+    }
+
+    @Test
+    void shouldKeepReceiptsRecordedDuringSendAfterComplete() {
+        // Arrange
+        digestRepository.record("user-1", "user1@example.com", receivedAt);
+        List<VoteReceiptDigest> claimed = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+        digestRepository.record("user-1", "user1@example.com", receivedAt.plusMinutes(1));
+
+        // Act
+        digestRepository.complete(claimed);
+        List<VoteReceiptDigest> next = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+
+        // Assert
+        assertEquals(1, next.size());
+        assertEquals(1, next.get(0).receiptCount());
+        assertEquals(receivedAt.plusMinutes(1), next.get(0).firstReceiptAt());
+    }
+
+    @Test
+    void shouldReturnReleasedDigestToNextClaim() {
+        // Arrange
+        digestRepository.record("user-1", "user1@example.com", receivedAt);
+        digestRepository.record("user-1", "user1@example.com", receivedAt.plusMinutes(1));
+        List<VoteReceiptDigest> claimed = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+
+        // Act
+        digestRepository.release(claimed);
+        List<VoteReceiptDigest> next = digestRepository.claimDue(firstReceiptBefore, receivedAt, 10);
+
+        // Assert
+        assertEquals(1, next.size());
+        assertEquals(2, next.get(0).receiptCount());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.poll_system.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.enums.VoteStatus;
+import com.example.poll_system.domain.factories.VoteFactory;
+
+public class VoteRepositoryInMemoryTest {
+
+    private VoteRepositoryInMemory voteRepository;
+
+    @BeforeEach
+    void setUp() {
+        voteRepository = new VoteRepositoryInMemory();
+    }
+
+    @Test
+    void shouldRejectSecondVoteOfSameUserInSamePoll() {
+        // Arrange
+        Vote first = VoteFactory.create("user-1", "option-1", "poll-1", "key-1");
+        Vote second = VoteFactory.create("user-1", "option-2", "poll-1", "key-2");
+
+        // Act
+        boolean firstSaved = voteRepository.saveIfAbsent(first);
+        boolean secondSaved = voteRepository.saveIfAbsent(second);
+
+        // Assert
+        assertTrue(firstSaved);
+        assertFalse(secondSaved);
+        assertEquals(List.of(first), voteRepository.findByPollId("poll-1"));
+        assertTrue(voteRepository.findById(second.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldAcceptOnlyOneVotePerUserUnderConcurrentConsumers() throws Exception {
+        // Arrange
+        int attempts = 64;
+        AtomicInteger saved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                String key = "key-" + i;
+                futures.add(executor.submit(() -> {
+                    if (voteRepository.saveIfAbsent(VoteFactory.create("user-1", "option-1", "poll-1", key))) {
+                        saved.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertEquals(1, saved.get());
+        assertEquals(1, voteRepository.findByPollId("poll-1").size());
+        assertEquals(1, voteRepository.findAll().size());
+    }
+
+    @Test
+    void shouldCountOnlyProcessedVotesOfThePoll() {
+        // Arrange
+        Vote processed = VoteFactory.create("user-1", "option-1", "poll-1");
+        processed.setStatus(VoteStatus.PROCESSED);
+        Vote unprocessed = VoteFactory.create("user-2", "option-1", "poll-1");
+        Vote otherPoll = VoteFactory.create("user-3", "option-9", "poll-2");
+        otherPoll.setStatus(VoteStatus.PROCESSED);
+        voteRepository.saveAllIfAbsent(List.of(processed, unprocessed, otherPoll));
+
+        // Act
+        Map<String, Long> counts = voteRepository.countVotesByPollIdGroupedByOptionId("poll-1");
+
+        // Assert
+        assertEquals(Map.of("option-1", 1L), counts);
+    }
+
+    @Test
+    void shouldRemoveVoteFromIndexesOnDelete() {
+        // Arrange
+        Vote vote = VoteFactory.create("user-1", "option-1", "poll-1");
+        voteRepository.saveIfAbsent(vote);
+
+        // Act
+        voteRepository.delete(vote.getId());
+
+        // Assert
+        assertTrue(voteRepository.findByPollId("poll-1").isEmpty());
+        assertTrue(voteRepository.saveIfAbsent(VoteFactory.create("user-1", "option-2", "poll-1")));
+    }
+}
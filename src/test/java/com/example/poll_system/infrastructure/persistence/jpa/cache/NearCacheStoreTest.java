@@ -0,0 +1,122 @@
+package com.example.poll_system.infrastructure.persistence.jpa.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.poll_system.infrastructure.config.NearCacheProperties;
+
+public class NearCacheStoreTest {
+
+    @Mock
+    private RedisCacheStore<String> redisCacheStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private NearCacheStore<String> nearCacheStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        nearCacheStore = new NearCacheStore<>(
+                redisCacheStore, stringRedisTemplate, listenerContainer, new NearCacheProperties());
+    }
+
+    @Test
+    void shouldServeSecondReadFromLocalCache() {
+        // Arrange
+        when(redisCacheStore.get("email:john@email.com")).thenReturn(Optional.of("user"));
+
+        // Act
+        nearCacheStore.get("email:john@email.com");
+        Optional<String> second = nearCacheStore.get("email:john@email.com");
+
+        // Assert
+        assertEquals("user", second.get());
+        verify(redisCacheStore, times(1)).get("email:john@email.com");
+    }
+
+    @Test
+    void shouldNotCacheLocallyWhenRemoteMisses() {
+        // Arrange
+        when(redisCacheStore.get("user-1")).thenReturn(Optional.empty());
+
+        // Act
+        nearCacheStore.get("user-1");
+        Optional<String> second = nearCacheStore.get("user-1");
+
+        // Assert
+        assertTrue(second.isEmpty());
+        verify(redisCacheStore, times(2)).get("user-1");
+    }
+
+    @Test
+    void shouldEvictLocallyRemotelyAndPublishInvalidation() {
+        // Arrange
+        nearCacheStore.put("user-1", "user");
+
+        // Act
+        nearCacheStore.evict("user-1");
+        nearCacheStore.get("user-1");
+
+        // Assert
+        verify(redisCacheStore).evict("user-1");
+        verify(redisCacheStore).get("user-1");
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("cache:near:invalidation"), payload.capture());
+        assertTrue(payload.getValue().endsWith("|user-1"));
+    }
+
+    @Test
+    void shouldInvalidateLocalCopyWhenAnotherNodeEvicts() {
+        // Arrange
+        nearCacheStore.put("cpf:12345678900", "user");
+        byte[] body = "other-node|cpf:12345678900".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        nearCacheStore.onMessage(new DefaultMessage(new byte[0], body), null);
+        nearCacheStore.get("cpf:12345678900");
+
+        // Assert
+        verify(redisCacheStore).get("cpf:12345678900");
+    }
+
+    @Test
+    void shouldFetchOnlyLocalMissesFromRemoteOnGetAll() {
+        // Arrange
+        nearCacheStore.put("pollOptionId:1", "option-1");
+        when(redisCacheStore.getAll(any())).thenReturn(Map.of("pollOptionId:2", "option-2"));
+
+        // Act
+        Map<String, String> result = nearCacheStore.getAll(List.of("pollOptionId:1", "pollOptionId:2"));
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(redisCacheStore).getAll(List.of("pollOptionId:2"));
+        verify(redisCacheStore, never()).get(anyString());
+    }
+}
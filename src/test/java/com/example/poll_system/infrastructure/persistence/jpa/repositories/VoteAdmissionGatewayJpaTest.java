@@ -0,0 +1,122 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import com.example.poll_system.domain.enums.PollStatus;
+import com.example.poll_system.domain.gateways.VoteAdmissionGateway.Admission;
+import com.example.poll_system.infrastructure.persistence.jpa.cache.CacheStore;
+import com.example.poll_system.infrastructure.persistence.jpa.entities.PollEntity;
+
+public class VoteAdmissionGatewayJpaTest {
+
+    private static final String USER_KEY = "voteAdmission:userId:user-1";
+    private static final String POLL_KEY = "voteAdmission:pollOptionId:option-1";
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CacheStore<String, Object> cacheStore;
+
+    private VoteAdmissionGatewayJpa gateway;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        gateway = new VoteAdmissionGatewayJpa(jdbcTemplate, cacheStore);
+    }
+
+    @Test
+    void shouldResolveAdmissionWithSingleCacheCallWhenEntriesAreCached() {
+        // Arrange
+        PollEntity poll = new PollEntity();
+        poll.setId("poll-1");
+        poll.setStatus(PollStatus.OPEN);
+        when(cacheStore.getAll(List.of(USER_KEY, POLL_KEY))).thenReturn(Map.of(USER_KEY, true, POLL_KEY, poll));
+
+        // Act
+        Admission admission = gateway.check("user-1", "option-1");
+
+        // Assert
+        assertTrue(admission.userExists());
+        assertTrue(admission.pollOptionExists());
+        assertEquals("poll-1", admission.pollId());
+        assertTrue(admission.pollIsOpen());
+        verify(cacheStore, times(1)).getAll(List.of(USER_KEY, POLL_KEY));
+        verifyNoMoreInteractions(cacheStore);
+        verify(jdbcTemplate, never()).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    void shouldResolveAdmissionWithSingleQueryAndRecacheOnMiss() throws Exception {
+        // Arrange
+        when(cacheStore.getAll(List.of(USER_KEY, POLL_KEY))).thenReturn(Map.of());
+        ResultSet row = mock(ResultSet.class);
+        when(row.getBoolean("user_exists")).thenReturn(true);
+        when(row.getString("poll_option_id")).thenReturn("option-1");
+        when(row.getString("poll_id")).thenReturn("poll-1");
+        when(row.getString("poll_status")).thenReturn("OPEN");
+        stubQueryWith(row);
+
+        // Act
+        Admission admission = gateway.check("user-1", "option-1");
+
+        // Assert
+        assertTrue(admission.userExists());
+        assertTrue(admission.pollOptionExists());
+        assertEquals("poll-1", admission.pollId());
+        assertTrue(admission.pollIsOpen());
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+        verify(cacheStore).put(USER_KEY, Boolean.TRUE);
+        verify(cacheStore).put(eq(POLL_KEY), argThat(value -> value instanceof PollEntity poll
+                && poll.getId().equals("poll-1") && poll.getStatus() == PollStatus.OPEN));
+    }
+
+    @Test
+    void shouldNotCacheMissingUserOrOption() throws Exception {
+        // Arrange
+        when(cacheStore.getAll(List.of(USER_KEY, POLL_KEY))).thenReturn(Map.of());
+        ResultSet row = mock(ResultSet.class);
+        when(row.getBoolean("user_exists")).thenReturn(false);
+        stubQueryWith(row);
+
+        // Act
+        Admission admission = gateway.check("user-1", "option-1");
+
+        // Assert
+        assertFalse(admission.userExists());
+        assertFalse(admission.pollOptionExists());
+        assertFalse(admission.pollExists());
+        verify(cacheStore, never()).put(anyString(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubQueryWith(ResultSet row) {
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> ((RowMapper<Admission>) invocation.getArgument(2)).mapRow(row, 0));
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.poll_system.infrastructure.persistence.jpa.repositories;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.poll_system.domain.entities.Vote;
+import com.example.poll_system.domain.factories.VoteFactory;
+
+public class VoteRepositoryJpaTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private VoteRepositoryJpa voteRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        voteRepository = new VoteRepositoryJpa();
+        ReflectionTestUtils.setField(voteRepository, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(voteRepository, "jdbcTimeZone", "UTC");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReturnRepeatedVoteInBatchOnlyOnce() throws Exception {
+        // Given
+        Vote vote = VoteFactory.create("user-1", "option-1", "poll-1");
+        Vote sameUserOtherOption = VoteFactory.create("user-1", "option-2", "poll-1");
+        Vote otherUser = VoteFactory.create("user-2", "option-1", "poll-1");
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+                .thenReturn(List.of(vote.getId(), otherUser.getId()));
+
+        // When
+        List<Vote> inserted = voteRepository.saveAllIfAbsent(List.of(vote, vote, sameUserOtherOption, otherUser));
+
+        // Then
+        assertEquals(List.of(vote, otherUser), inserted);
+        ArgumentCaptor<PreparedStatementCreator> statement = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcTemplate).query(statement.capture(), any(RowMapper.class));
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+        when(connection.createArrayOf(anyString(), any(Object[].class))).thenReturn(mock(Array.class));
+        statement.getValue().createPreparedStatement(connection);
+        ArgumentCaptor<Object[]> ids = ArgumentCaptor.forClass(Object[].class);
+        verify(connection, times(6)).createArrayOf(eq("varchar"), ids.capture());
+        assertArrayEquals(new Object[] { vote.getId(), otherUser.getId() }, ids.getAllValues().get(0));
+    }
+}
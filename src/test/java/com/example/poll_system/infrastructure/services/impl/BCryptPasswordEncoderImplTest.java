@@ -0,0 +1,53 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.exceptions.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BCryptPasswordEncoderImplTest {
+
+    private static final String PASSWORD = "Password123!";
+
+    @Test
+    void shouldMatchEncodedPassword() {
+        // Arrange
+        BCryptPasswordEncoderImpl encoder = encoder(4, Duration.ofSeconds(5));
+        String encoded = encoder.encode(PASSWORD);
+
+        // Act & Assert
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertFalse(encoder.matches("Wrong123!", encoded));
+    }
+
+    @Test
+    void shouldRequestUpgradeOnlyForHashesWithLowerCost() {
+        // Arrange
+        String weakHash = encoder(4, Duration.ofSeconds(5)).encode(PASSWORD);
+        BCryptPasswordEncoderImpl encoder = encoder(6, Duration.ofSeconds(5));
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(weakHash));
+        assertFalse(encoder.upgradeEncoding(encoder.encode(PASSWORD)));
+    }
+
+    @Test
+    void shouldRejectWhenHashingDoesNotFinishWithinMaxWait() {
+        // Arrange
+        BCryptPasswordEncoderImpl encoder = encoder(12, Duration.ofMillis(1));
+
+        // Act & Assert
+        assertThrows(TooManyRequestsException.class, () -> encoder.encode(PASSWORD));
+    }
+
+    private BCryptPasswordEncoderImpl encoder(int strength, Duration maxWait) {
+        return new BCryptPasswordEncoderImpl(new SimpleMeterRegistry(), strength, 1, 1, maxWait);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.poll_system.domain.entities.DomainEvent;
+import com.example.poll_system.domain.entities.events.VoteCreatedEvent;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.infrastructure.services.DomainEventHandler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class EventDispatcherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventDispatcher eventDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventDispatcher = new EventDispatcher(meterRegistry, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        eventDispatcher.shutdown();
+    }
+
+    @Test
+    void shouldInvokeHandlersRegisteredForEventSupertypes() {
+        // Arrange
+        List<String> calls = new CopyOnWriteArrayList<>();
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, event -> calls.add("vote-created"));
+        eventDispatcher.registerHandler(DomainEvent.class, event -> calls.add("any"));
+
+        // Act
+        eventDispatcher.publish(new VoteCreatedEvent("user-1", "option-1", "key-1"));
+        eventDispatcher.publish(new VoteProcessedEvent("user-1", "user@email.com", LocalDateTime.now()));
+
+        // Assert
+        assertEquals(List.of("vote-created", "any", "any"), calls);
+    }
+
+    @Test
+    void shouldDeliverEachEventTypeToHandleAllInOneCall() {
+        // Arrange
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, new DomainEventHandler<VoteCreatedEvent>() {
+            @Override
+            public void handle(VoteCreatedEvent event) {
+                batchSizes.add(1);
+            }
+
+            @Override
+            public void handleAll(List<VoteCreatedEvent> events) {
+                batchSizes.add(events.size());
+            }
+        });
+
+        // Act
+        eventDispatcher.publishAll(List.of(
+                new VoteCreatedEvent("user-1", "option-1", "key-1"),
+                new VoteProcessedEvent("user-1", "user@email.com", LocalDateTime.now()),
+                new VoteCreatedEvent("user-2", "option-1", "key-2")));
+
+        // Assert
+        assertEquals(List.of(2), batchSizes);
+    }
+
+    @Test
+    void shouldPropagateSyncHandlerFailureAndCountIt() {
+        // Arrange
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, event -> {
+            throw new IllegalStateException("handler failed");
+        });
+
+        // Act
+        assertThrows(IllegalStateException.class,
+                () -> eventDispatcher.publish(new VoteCreatedEvent("user-1", "option-1", "key-1")));
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("poll.events.handler.failures").counter().count());
+    }
+
+    @Test
+    void shouldRunAsyncHandlerOutsideCallerThread() throws InterruptedException {
+        // Arrange
+        CountDownLatch handled = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        List<Thread> handlerThreads = new CopyOnWriteArrayList<>();
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, new AsyncHandler(event -> {
+            handlerThreads.add(Thread.currentThread());
+            handled.countDown();
+        }));
+
+        // Act
+        eventDispatcher.publish(new VoteCreatedEvent("user-1", "option-1", "key-1"));
+
+        // Assert
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+        assertNotEquals(caller, handlerThreads.get(0));
+    }
+
+    @Test
+    void shouldNotPropagateAsyncHandlerFailure() throws InterruptedException {
+        // Arrange
+        CountDownLatch handled = new CountDownLatch(1);
+        eventDispatcher.registerHandler(VoteCreatedEvent.class, new AsyncHandler(event -> {
+            handled.countDown();
+            throw new IllegalStateException("handler failed");
+        }));
+
+        // Act
+        eventDispatcher.publish(new VoteCreatedEvent("user-1", "option-1", "key-1"));
+
+        // Assert
+        assertTrue(handled.await(5, TimeUnit.SECONDS));
+        eventDispatcher.shutdown();
+        assertEquals(1.0, meterRegistry.get("poll.events.handler.failures").counter().count());
+    }
+
+    private static final class AsyncHandler implements DomainEventHandler<VoteCreatedEvent> {
+
+        private final DomainEventHandler<VoteCreatedEvent> delegate;
+
+        private AsyncHandler(DomainEventHandler<VoteCreatedEvent> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void handle(VoteCreatedEvent event) {
+            delegate.handle(event);
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+    }
+}
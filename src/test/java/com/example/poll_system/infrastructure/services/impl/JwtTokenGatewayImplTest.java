@@ -4,17 +4,21 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.gateways.JwtTokenGateway.TokenClaims;
 import com.example.poll_system.domain.value_objects.Cpf;
 import com.example.poll_system.domain.value_objects.Email;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
 class JwtTokenGatewayImplTest {
 
     private JwtTokenGatewayImpl jwtTokenGateway;
@@ -22,11 +26,7 @@ class JwtTokenGatewayImplTest {
 
     @BeforeEach
     void setUp() {
-        jwtTokenGateway = new JwtTokenGatewayImpl();
-
-        // Set test properties using reflection
-        ReflectionTestUtils.setField(jwtTokenGateway, "secretKey", "myTestSecretKey123456789012345678901234567890");
-        ReflectionTestUtils.setField(jwtTokenGateway, "expirationTime", 3600L); // 1 hour
+        jwtTokenGateway = new JwtTokenGatewayImpl("myTestSecretKey123456789012345678901234567890", 3600L, 100); // 1 hour
 
         testUser = User.createVoter(
                 "user-123",
@@ -106,9 +106,8 @@ class JwtTokenGatewayImplTest {
     @Test
     void shouldReturnFalseForExpiredToken() {
         // Arrange - Create gateway with very short expiration time
-        JwtTokenGatewayImpl shortExpiryGateway = new JwtTokenGatewayImpl();
-        ReflectionTestUtils.setField(shortExpiryGateway, "secretKey", "myTestSecretKey123456789012345678901234567890");
-        ReflectionTestUtils.setField(shortExpiryGateway, "expirationTime", -1L); // Already expired
+        JwtTokenGatewayImpl shortExpiryGateway = new JwtTokenGatewayImpl(
+                "myTestSecretKey123456789012345678901234567890", -1L, 100); // Already expired
 
         String expiredToken = shortExpiryGateway.generateToken(testUser);
 
@@ -230,4 +229,49 @@ class JwtTokenGatewayImplTest {
         assertTrue(jwtTokenGateway.isTokenValid(token, correctEmail));
         assertFalse(jwtTokenGateway.isTokenValid(token, incorrectEmail));
     }
+
+    @Test
+    void shouldVerifyTokenAndReturnAllClaims() {
+        // Arrange
+        String token = jwtTokenGateway.generateToken(testUser);
+
+        // Act
+        TokenClaims claims = jwtTokenGateway.verifyToken(token);
+
+        // Assert
+        assertEquals("john.doe@example.com", claims.email());
+        assertEquals("user-123", claims.userId());
+        assertEquals("John Doe", claims.name());
+        assertEquals("VOTER", claims.role());
+        assertTrue(claims.expiresAt().isAfter(java.time.Instant.now()));
+    }
+
+    @Test
+    void shouldServeRepeatedVerificationFromCache() {
+        // Arrange
+        String token = jwtTokenGateway.generateToken(testUser);
+        TokenClaims first = jwtTokenGateway.verifyToken(token);
+
+        // Act
+        TokenClaims second = jwtTokenGateway.verifyToken(token);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldNotCacheExpiredOrForgedTokens() {
+        // Arrange
+        JwtTokenGatewayImpl expiredGateway = new JwtTokenGatewayImpl(
+                "myTestSecretKey123456789012345678901234567890", -1L, 100);
+        JwtTokenGatewayImpl otherKeyGateway = new JwtTokenGatewayImpl(
+                "anotherSecretKey12345678901234567890123456789", 3600L, 100);
+        String expiredToken = expiredGateway.generateToken(testUser);
+        String forgedToken = otherKeyGateway.generateToken(testUser);
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenGateway.verifyToken(expiredToken));
+        assertThrows(ExpiredJwtException.class, () -> jwtTokenGateway.verifyToken(expiredToken));
+        assertThrows(SignatureException.class, () -> jwtTokenGateway.verifyToken(forgedToken));
+    }
 }
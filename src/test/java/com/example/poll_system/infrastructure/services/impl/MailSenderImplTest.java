@@ -0,0 +1,98 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.example.poll_system.infrastructure.config.MailDeliveryProperties;
+import com.example.poll_system.infrastructure.services.MailSender.MailMessage;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+public class MailSenderImplTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailDeliveryProperties properties;
+    private JavaMailSenderImpl javaMailSender;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new MailDeliveryProperties();
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        javaMailSender.setPort(ServerSetupTest.SMTP.getPort());
+        javaMailSender.setDefaultEncoding("UTF-8");
+    }
+
+    @Test
+    void shouldSendBatchOverSingleConnection() {
+        // Arrange
+        properties.getPool().setMaxSize(1);
+        MailSenderImpl mailSender = new MailSenderImpl(javaMailSender, properties, meterRegistry);
+        List<MailMessage> messages = messages(10);
+
+        // Act
+        List<MailMessage> rejected = mailSender.sendAll(messages);
+
+        // Assert
+        assertTrue(rejected.isEmpty());
+        assertEquals(10, greenMail.getReceivedMessages().length);
+        assertEquals(1.0, meterRegistry.get("poll.mail.smtp.connections.opened").counter().count());
+        mailSender.close();
+    }
+
+    @Test
+    void shouldReconnectAfterMaxMessagesPerConnection() {
+        // Arrange
+        properties.getPool().setMaxSize(1);
+        properties.getPool().setMaxMessagesPerConnection(3);
+        MailSenderImpl mailSender = new MailSenderImpl(javaMailSender, properties, meterRegistry);
+
+        // Act
+        mailSender.sendAll(messages(10));
+
+        // Assert
+        assertEquals(10, greenMail.getReceivedMessages().length);
+        assertEquals(4.0, meterRegistry.get("poll.mail.smtp.connections.opened").counter().count());
+        mailSender.close();
+    }
+
+    @Test
+    void shouldReuseConnectionAcrossSingleSends() {
+        // Arrange
+        MailSenderImpl mailSender = new MailSenderImpl(javaMailSender, properties, meterRegistry);
+
+        // Act
+        mailSender.send("user1@example.com", "Voto Processado", "Seu voto foi processado com sucesso!");
+        mailSender.send("user2@example.com", "Voto Processado", "Seu voto foi processado com sucesso!");
+
+        // Assert
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Seu voto foi processado com sucesso!", GreenMailUtil.getBody(received[0]).trim());
+        assertEquals(1.0, meterRegistry.get("poll.mail.smtp.connections.opened").counter().count());
+        mailSender.close();
+    }
+
+    private List<MailMessage> messages(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new MailMessage("user" + i + "@example.com", "Voto Processado",
+                        "Seu voto foi processado com sucesso!"))
+                .toList();
+    }
+}
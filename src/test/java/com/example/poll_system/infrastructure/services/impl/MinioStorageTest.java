@@ -0,0 +1,137 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.util.unit.DataSize;
+
+import com.example.poll_system.infrastructure.services.ObjectStorage;
+
+import io.minio.GetObjectArgs;
+import io.minio.GetPresignedObjectUrlArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+
+class MinioStorageTest {
+
+    @Mock
+    private MinioClient minioClient;
+
+    @Mock
+    private MinioClient presignClient;
+
+    private MinioStorage minioStorage;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        minioStorage = new MinioStorage(minioClient, presignClient, "bucket", DataSize.ofMegabytes(5),
+                Duration.ofMinutes(15), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void shouldUploadWithKnownSizeInSingleRequest() throws Exception {
+        // Arrange
+        InputStream content = new ByteArrayInputStream(new byte[1024]);
+
+        // Act
+        minioStorage.upload("file", content, 1024, "image/png");
+
+        // Assert
+        PutObjectArgs args = capturePut();
+        assertEquals(1024, args.objectSize());
+        assertEquals("image/png", args.contentType());
+    }
+
+    @Test
+    void shouldUploadWithUnknownSizeInFixedParts() throws Exception {
+        // Arrange
+        InputStream content = new ByteArrayInputStream(new byte[1024]);
+
+        // Act
+        minioStorage.upload("file", content, ObjectStorage.UNKNOWN_SIZE, null);
+
+        // Assert
+        PutObjectArgs args = capturePut();
+        assertEquals(-1, args.objectSize());
+        assertEquals(DataSize.ofMegabytes(5).toBytes(), args.partSize());
+        assertEquals("image/jpeg", args.contentType());
+    }
+
+    @Test
+    void shouldRequestOnlyTheAskedRange() throws Exception {
+        // Act
+        minioStorage.download("file", 100, 50);
+
+        // Assert
+        ArgumentCaptor<GetObjectArgs> captor = ArgumentCaptor.forClass(GetObjectArgs.class);
+        Mockito.verify(minioClient).getObject(captor.capture());
+        assertEquals(100L, captor.getValue().offset());
+        assertEquals(50L, captor.getValue().length());
+    }
+
+    @Test
+    void shouldPresignShortLivedGetUrlWithPresignClient() throws Exception {
+        // Arrange
+        Mockito.when(presignClient.getPresignedObjectUrl(Mockito.any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("http://localhost:9000/bucket/file?X-Amz-Signature=abc");
+
+        // Act
+        String url = minioStorage.presignedUrl("file");
+
+        // Assert
+        ArgumentCaptor<GetPresignedObjectUrlArgs> captor = ArgumentCaptor.forClass(GetPresignedObjectUrlArgs.class);
+        Mockito.verify(presignClient).getPresignedObjectUrl(captor.capture());
+        assertEquals("http://localhost:9000/bucket/file?X-Amz-Signature=abc", url);
+        assertEquals("file", captor.getValue().object());
+        assertEquals(Duration.ofMinutes(15).toSeconds(), captor.getValue().expiry());
+        Mockito.verifyNoInteractions(minioClient);
+    }
+
+    @Test
+    void shouldReuseMintedUrlForSameObject() throws Exception {
+        // Arrange
+        Mockito.when(presignClient.getPresignedObjectUrl(Mockito.any(GetPresignedObjectUrlArgs.class)))
+                .thenReturn("first-url", "second-url");
+
+        // Act
+        String first = minioStorage.presignedUrl("file");
+        String second = minioStorage.presignedUrl("file");
+
+        // Assert
+        assertEquals("first-url", first);
+        assertEquals("first-url", second);
+        Mockito.verify(presignClient, Mockito.times(1)).getPresignedObjectUrl(Mockito.any());
+    }
+
+    @Test
+    void shouldReturnNullUrlForMissingImage() throws Exception {
+        // Act & Assert
+        assertNull(minioStorage.presignedUrl(null));
+        Mockito.verifyNoInteractions(presignClient);
+    }
+
+    @Test
+    void shouldRejectCacheWindowLongerThanExpiry() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new MinioStorage(minioClient, presignClient, "bucket",
+                DataSize.ofMegabytes(5), Duration.ofMinutes(5), Duration.ofMinutes(5), 100));
+    }
+
+    private PutObjectArgs capturePut() throws Exception {
+        ArgumentCaptor<PutObjectArgs> captor = ArgumentCaptor.forClass(PutObjectArgs.class);
+        Mockito.verify(minioClient).putObject(captor.capture());
+        return captor.getValue();
+    }
+}
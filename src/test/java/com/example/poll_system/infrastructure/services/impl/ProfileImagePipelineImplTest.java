@@ -0,0 +1,140 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.domain.entities.User;
+import com.example.poll_system.domain.gateways.UserRepository;
+import com.example.poll_system.infrastructure.services.ObjectStorage;
+import com.example.poll_system.infrastructure.services.ProfileImagePipeline.StagedImage;
+
+class ProfileImagePipelineImplTest {
+
+    @Mock
+    private ObjectStorage objectStorage;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @TempDir
+    private Path stagingDirectory;
+
+    private ProfileImagePipelineImpl pipeline;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pipeline = new ProfileImagePipelineImpl(objectStorage, userRepository, stagingDirectory, List.of(64, 256));
+        Mockito.when(userRepository.changeUrlImageProfile(Mockito.eq("1"), Mockito.anyString(), Mockito.any()))
+                .thenReturn(true);
+    }
+
+    @Test
+    void shouldNameStagedImageByContentHash() throws Exception {
+        // Act
+        StagedImage first = pipeline.stage(new ByteArrayInputStream("same image".getBytes()), "image/png");
+        StagedImage second = pipeline.stage(new ByteArrayInputStream("same image".getBytes()), "image/png");
+        StagedImage other = pipeline.stage(new ByteArrayInputStream("other image".getBytes()), "image/png");
+
+        // Assert
+        assertEquals(first.objectName(), second.objectName());
+        assertFalse(first.objectName().equals(other.objectName()));
+        assertTrue(first.objectName().startsWith("profile-images/"));
+        assertEquals("same image".length(), first.size());
+        assertTrue(Files.exists(first.path()));
+    }
+
+    @Test
+    void shouldUploadThumbnailsBeforeOriginalAndUpdateUser() throws Exception {
+        // Arrange
+        StagedImage staged = pipeline.stage(new ByteArrayInputStream(png(800, 600)), "image/png");
+        Mockito.when(objectStorage.exists(staged.objectName())).thenReturn(false);
+
+        // Act
+        pipeline.process("1", staged);
+
+        // Assert
+        var inOrder = Mockito.inOrder(objectStorage, userRepository);
+        inOrder.verify(objectStorage).upload(Mockito.eq(ProfileImagePipelineImpl.thumbnailName(staged.objectName(), 64)),
+                Mockito.any(InputStream.class), Mockito.anyLong(), Mockito.eq("image/jpeg"));
+        inOrder.verify(objectStorage).upload(Mockito.eq(ProfileImagePipelineImpl.thumbnailName(staged.objectName(), 256)),
+                Mockito.any(InputStream.class), Mockito.anyLong(), Mockito.eq("image/jpeg"));
+        inOrder.verify(objectStorage).upload(Mockito.eq(staged.objectName()), Mockito.any(InputStream.class),
+                Mockito.eq(staged.size()), Mockito.eq("image/png"));
+        inOrder.verify(userRepository).changeUrlImageProfile("1", staged.objectName(), staged.stagedAt());
+        assertFalse(Files.exists(staged.path()));
+    }
+
+    @Test
+    void shouldSkipUploadWhenImageAlreadyStored() throws Exception {
+        // Arrange
+        StagedImage staged = pipeline.stage(new ByteArrayInputStream(png(100, 100)), "image/png");
+        Mockito.when(objectStorage.exists(staged.objectName())).thenReturn(true);
+
+        // Act
+        pipeline.process("1", staged);
+
+        // Assert
+        Mockito.verify(objectStorage, Mockito.never())
+                .upload(Mockito.anyString(), Mockito.any(InputStream.class), Mockito.anyLong(), Mockito.any());
+        Mockito.verify(userRepository).changeUrlImageProfile("1", staged.objectName(), staged.stagedAt());
+        assertFalse(Files.exists(staged.path()));
+    }
+
+    @Test
+    void shouldDiscardStagedImageWhenUploadFails() throws Exception {
+        // Arrange
+        StagedImage staged = pipeline.stage(new ByteArrayInputStream(png(100, 100)), "image/png");
+        Mockito.when(objectStorage.exists(staged.objectName())).thenReturn(false);
+        Mockito.when(objectStorage.upload(Mockito.anyString(), Mockito.any(InputStream.class), Mockito.anyLong(),
+                Mockito.any())).thenThrow(new RuntimeException("Storage service unavailable"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> pipeline.process("1", staged));
+        Mockito.verify(userRepository, Mockito.never())
+                .changeUrlImageProfile(Mockito.anyString(), Mockito.anyString(), Mockito.any());
+        assertFalse(Files.exists(staged.path()));
+    }
+
+    @Test
+    void shouldNotRewriteUserWhenPointingToImage() throws Exception {
+        // Arrange - o pipeline troca só a imagem, sem regravar o usuário inteiro
+        StagedImage staged = pipeline.stage(new ByteArrayInputStream(png(100, 100)), "image/png");
+        Mockito.when(objectStorage.exists(staged.objectName())).thenReturn(true);
+        Mockito.when(userRepository.changeUrlImageProfile("1", staged.objectName(), staged.stagedAt()))
+                .thenReturn(false);
+
+        // Act - imagem mais nova já aplicada: nada falha e o staging é descartado
+        pipeline.process("1", staged);
+
+        // Assert
+        Mockito.verify(userRepository, Mockito.never()).findById(Mockito.anyString());
+        Mockito.verify(userRepository, Mockito.never()).update(Mockito.any(User.class));
+        assertFalse(Files.exists(staged.path()));
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RabbitMQGatewayTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private RabbitMQGateway rabbitMQGateway;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = Mockito.mock(RabbitTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        Mockito.when(rabbitTemplate.invoke(Mockito.<RabbitOperations.OperationsCallback<Object>>any()))
+                .thenAnswer(invocation -> invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0)
+                        .doInRabbit(rabbitTemplate));
+        rabbitMQGateway = new RabbitMQGateway(rabbitTemplate, meterRegistry, 100, 10, 3,
+                Duration.ofSeconds(1), Duration.ofMillis(100));
+        rabbitMQGateway.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        rabbitMQGateway.stop();
+    }
+
+    private void brokerAnswers(boolean... acks) {
+        AtomicInteger calls = new AtomicInteger();
+        Mockito.doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            int call = calls.getAndIncrement();
+            boolean ack = acks[Math.min(call, acks.length - 1)];
+            correlation.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(Mockito.anyString(), Mockito.anyString(), Mockito.any(Object.class),
+                Mockito.any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldCompleteFutureWhenBrokerConfirmsMessage() throws Exception {
+        // Arrange
+        brokerAnswers(true);
+
+        // Act
+        CompletableFuture<Void> future = rabbitMQGateway.sendAsync("vote", "payload", "voting-key");
+
+        // Assert
+        future.get(2, TimeUnit.SECONDS);
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.confirmed").count());
+        Mockito.verify(rabbitTemplate).convertAndSend(Mockito.eq("vote"), Mockito.eq("voting-key"),
+                Mockito.eq((Object) "payload"), Mockito.any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldRetryMessageNackedByBroker() throws Exception {
+        // Arrange
+        brokerAnswers(false, true);
+
+        // Act
+        CompletableFuture<Void> future = rabbitMQGateway.sendAsync("vote", "payload", "voting-key");
+
+        // Assert
+        future.get(2, TimeUnit.SECONDS);
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.nacked").count());
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.retried").count());
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.confirmed").count());
+    }
+
+    @Test
+    void shouldFailFutureAfterMaxAttempts() {
+        // Arrange
+        brokerAnswers(false);
+
+        // Act
+        CompletableFuture<Void> future = rabbitMQGateway.sendAsync("vote", "payload", "voting-key");
+
+        // Assert
+        assertThrows(ExecutionException.class, () -> future.get(2, TimeUnit.SECONDS));
+        Mockito.verify(rabbitTemplate, Mockito.times(3)).convertAndSend(Mockito.anyString(), Mockito.anyString(),
+                Mockito.any(Object.class), Mockito.any(CorrelationData.class));
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.failed").count());
+    }
+
+    @Test
+    void shouldFailWithoutRetryWhenMessageIsReturned() {
+        // Arrange
+        Mockito.doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.setReturned(new ReturnedMessage(
+                    new Message(new byte[0], new MessageProperties()), 312, "NO_ROUTE", "vote", "unknown-key"));
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).convertAndSend(Mockito.anyString(), Mockito.anyString(), Mockito.any(Object.class),
+                Mockito.any(CorrelationData.class));
+
+        // Act
+        CompletableFuture<Void> future = rabbitMQGateway.sendAsync("vote", "payload", "unknown-key");
+
+        // Assert
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> future.get(2, TimeUnit.SECONDS));
+        assertTrue(exception.getCause().getMessage().contains("NO_ROUTE"));
+        assertEquals(1.0, meterRegistry.counter("poll.rabbitmq.publisher.returned").count());
+        Mockito.verify(rabbitTemplate, Mockito.times(1)).convertAndSend(Mockito.anyString(), Mockito.anyString(),
+                Mockito.any(Object.class), Mockito.any(CorrelationData.class));
+    }
+
+    @Test
+    void shouldRejectMessagesAfterStop() throws Exception {
+        // Arrange
+        rabbitMQGateway.stop();
+
+        // Act
+        CompletableFuture<Void> future = rabbitMQGateway.sendAsync("vote", "payload", "voting-key");
+
+        // Assert
+        assertTrue(future.isCompletedExceptionally());
+        Mockito.verifyNoInteractions(rabbitTemplate);
+    }
+}
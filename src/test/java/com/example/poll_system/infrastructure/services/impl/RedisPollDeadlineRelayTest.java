@@ -0,0 +1,108 @@
+package com.example.poll_system.infrastructure.services.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer;
+import com.example.poll_system.infrastructure.services.schedulers.PollDeadlineTimer.Transition;
+import com.example.poll_system.infrastructure.services.schedulers.SchedulerLeadership;
+
+public class RedisPollDeadlineRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private SchedulerLeadership schedulerLeadership;
+
+    private PollDeadlineTimer pollDeadlineTimer;
+    private RedisPollDeadlineRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pollDeadlineTimer = new PollDeadlineTimer(Duration.ofMinutes(5));
+        relay = new RedisPollDeadlineRelay(redisTemplate, listenerContainer, pollDeadlineTimer, schedulerLeadership);
+    }
+
+    @Test
+    void shouldRegisterOnSharedContainerOnlyWhenSubscribing() {
+        // Arrange
+        ChannelTopic channel = new ChannelTopic("scheduler:poll-deadlines");
+        verify(listenerContainer, never()).addMessageListener(relay, channel);
+
+        // Act
+        relay.subscribe();
+
+        // Assert
+        verify(listenerContainer).addMessageListener(relay, channel);
+    }
+
+    @Test
+    void shouldScheduleLocallyWithoutPublishingWhenLeader() {
+        // Arrange
+        when(schedulerLeadership.isLeader()).thenReturn(true);
+
+        // Act
+        relay.relay("poll-1", Transition.CLOSE, LocalDateTime.now().plusMinutes(1));
+
+        // Assert
+        assertEquals(1, pollDeadlineTimer.pendingCount());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void shouldPublishToLeaderInsteadOfSchedulingWhenFollower() {
+        // Arrange
+        when(schedulerLeadership.isLeader()).thenReturn(false);
+        LocalDateTime endDate = LocalDateTime.now().plusMinutes(1);
+
+        // Act
+        relay.relay("poll-1", Transition.CLOSE, endDate);
+
+        // Assert
+        assertEquals(0, pollDeadlineTimer.pendingCount());
+        verify(redisTemplate).convertAndSend("scheduler:poll-deadlines",
+                "poll-1|CLOSE|" + endDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    @Test
+    void shouldScheduleAnnouncedDeadlineOnlyOnLeader() {
+        // Arrange
+        long dueAt = LocalDateTime.now().plusMinutes(1).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Message message = mock(Message.class);
+        when(message.getBody()).thenReturn(("poll-1|OPEN|" + dueAt).getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        when(schedulerLeadership.isLeader()).thenReturn(false);
+        relay.onMessage(message, null);
+        int pendingOnFollower = pollDeadlineTimer.pendingCount();
+        when(schedulerLeadership.isLeader()).thenReturn(true);
+        relay.onMessage(message, null);
+
+        // Assert
+        assertEquals(0, pendingOnFollower);
+        assertEquals(1, pollDeadlineTimer.pendingCount());
+    }
+}
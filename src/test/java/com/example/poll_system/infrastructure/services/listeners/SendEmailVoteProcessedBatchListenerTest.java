@@ -0,0 +1,68 @@
+package com.example.poll_system.infrastructure.services.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.user.SendEmailBatch;
+import com.example.poll_system.domain.entities.events.VoteProcessedEvent;
+import com.example.poll_system.domain.gateways.MessageQueueGateway;
+import com.example.poll_system.infrastructure.services.MailSender.PartialSendException;
+
+class SendEmailVoteProcessedBatchListenerTest {
+
+    @Mock
+    private SendEmailBatch sendEmailBatch;
+
+    @Mock
+    private MessageQueueGateway messageQueueGateway;
+
+    private SendEmailVoteProcessedBatchListener listener;
+
+    private final List<VoteProcessedEvent> events = List.of(
+            new VoteProcessedEvent("user-1", "user1@example.com", LocalDateTime.now()),
+            new VoteProcessedEvent("user-2", "user2@example.com", LocalDateTime.now()),
+            new VoteProcessedEvent("user-3", "user3@example.com", LocalDateTime.now()));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        listener = new SendEmailVoteProcessedBatchListener(sendEmailBatch, messageQueueGateway, "vote", "email-key");
+        Mockito.when(messageQueueGateway.sendAsync(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void shouldRequeueOnlyUnsentEmailsWhenConnectionFailsMidBatch() {
+        // Given
+        Mockito.when(sendEmailBatch.execute(Mockito.anyList()))
+                .thenThrow(new PartialSendException("connection lost", new RuntimeException(), 1));
+
+        // When
+        listener.listen(events);
+
+        // Then - o primeiro já saiu e não volta para a fila
+        Mockito.verify(messageQueueGateway, Mockito.never()).sendAsync("vote", events.get(0), "email-key");
+        Mockito.verify(messageQueueGateway).sendAsync("vote", events.get(1), "email-key");
+        Mockito.verify(messageQueueGateway).sendAsync("vote", events.get(2), "email-key");
+    }
+
+    @Test
+    void shouldLeaveWholeBatchToContainerRetryWhenNothingWasSent() {
+        // Given
+        Mockito.when(sendEmailBatch.execute(Mockito.anyList()))
+                .thenThrow(new PartialSendException("connection refused", new RuntimeException(), 0));
+
+        // When / Then
+        assertThrows(PartialSendException.class, () -> listener.listen(events));
+        Mockito.verifyNoInteractions(messageQueueGateway);
+    }
+}
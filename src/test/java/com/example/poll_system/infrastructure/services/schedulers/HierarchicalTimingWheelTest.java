@@ -0,0 +1,77 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private List<String> advance(HierarchicalTimingWheel<String> wheel, long nowMillis) {
+        List<String> due = new ArrayList<>();
+        wheel.advanceTo(nowMillis, due::add);
+        return due;
+    }
+
+    @Test
+    void shouldDeliverItemOnlyAfterItsDeadline() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule("poll-1", START + 5_500);
+
+        // When / Then
+        assertTrue(advance(wheel, START + 5_000).isEmpty());
+        assertEquals(List.of("poll-1"), advance(wheel, START + 6_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldDeliverAlreadyExpiredItemOnNextAdvance() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule("late-poll", START - 30_000);
+
+        // When
+        List<String> due = advance(wheel, START);
+
+        // Then
+        assertEquals(List.of("late-poll"), due);
+    }
+
+    @Test
+    void shouldCascadeItemsFromOverflowLevels() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 60, START);
+        wheel.schedule("in-two-minutes", START + 120_000);
+        wheel.schedule("in-two-hours", START + 7_200_000);
+
+        // When / Then
+        assertTrue(advance(wheel, START + 119_000).isEmpty());
+        assertEquals(List.of("in-two-minutes"), advance(wheel, START + 121_000));
+        assertTrue(advance(wheel, START + 7_199_000).isEmpty());
+        assertEquals(List.of("in-two-hours"), advance(wheel, START + 7_201_000));
+    }
+
+    @Test
+    void shouldDeliverEveryItemWithinOneTickOfItsDeadline() {
+        // Given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(1000, 8, START);
+        for (int i = 0; i < 500; i++) {
+            wheel.schedule(Integer.toString(i), START + i * 997L);
+        }
+
+        // When / Then
+        for (long now = START; now <= START + 500 * 997L + 1000; now += 1000) {
+            for (String item : advance(wheel, now)) {
+                long deadline = START + Integer.parseInt(item) * 997L;
+                assertTrue(deadline <= now && now - deadline <= 1000, "item " + item + " delivered at " + now);
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.core.Message;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.poll_system.domain.gateways.MessageQueueGateway;
+import com.example.poll_system.domain.gateways.OutboxRepository;
+import com.example.poll_system.domain.gateways.OutboxRepository.OutboxMessage;
+
+class OutboxRelayTest {
+
+    @InjectMocks
+    private OutboxRelay outboxRelay;
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private MessageQueueGateway messageQueueGateway;
+
+    @Mock
+    private SchedulerLeadership schedulerLeadership;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 10);
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeout", Duration.ofSeconds(1));
+        Mockito.when(schedulerLeadership.isLeader()).thenReturn(true);
+    }
+
+    private OutboxMessage message(long id, String aggregateId) {
+        return new OutboxMessage(id, aggregateId, "vote", "email-key",
+                "com.example.Event", "{\"id\":" + id + "}", LocalDateTime.now());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Long> capturePublishedIds() {
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(outboxRepository).markPublished(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    void shouldNotRelayWhenNotLeader() {
+        // Given
+        Mockito.when(schedulerLeadership.isLeader()).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        Mockito.verifyNoInteractions(outboxRepository, messageQueueGateway);
+    }
+
+    @Test
+    void shouldMarkConfirmedMessagesAsPublished() {
+        // Given
+        Mockito.when(outboxRepository.findPending(10))
+                .thenReturn(List.of(message(1, "poll-1"), message(2, "poll-2")));
+        Mockito.when(messageQueueGateway.sendAsync(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(List.of(1L, 2L), capturePublishedIds());
+        Mockito.verify(messageQueueGateway, Mockito.times(2))
+                .sendAsync(Mockito.eq("vote"), Mockito.any(Message.class), Mockito.eq("email-key"));
+    }
+
+    @Test
+    void shouldKeepLaterMessagesOfAggregatePendingWhenEarlierOneFails() {
+        // Given
+        Mockito.when(outboxRepository.findPending(10))
+                .thenReturn(List.of(message(1, "poll-1"), message(2, "poll-2"), message(3, "poll-1")));
+        Mockito.when(messageQueueGateway.sendAsync(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("nack")))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        assertEquals(List.of(2L), capturePublishedIds());
+    }
+
+    @Test
+    void shouldSendNextMessageOfAggregateOnlyAfterPreviousIsConfirmed() {
+        // Given
+        ReflectionTestUtils.setField(outboxRelay, "confirmTimeout", Duration.ofMillis(100));
+        CompletableFuture<Void> firstConfirm = new CompletableFuture<>();
+        Mockito.when(outboxRepository.findPending(10))
+                .thenReturn(List.of(message(1, "poll-1"), message(2, "poll-2"), message(3, "poll-1")));
+        Mockito.when(messageQueueGateway.sendAsync(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+                .thenReturn(firstConfirm)
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        outboxRelay.relay();
+        firstConfirm.complete(null);
+
+        // Then - a mensagem 3 não sai antes do confirm da 1, nem depois do timeout
+        assertEquals(List.of(2L), capturePublishedIds());
+        Mockito.verify(messageQueueGateway, Mockito.times(2))
+                .sendAsync(Mockito.anyString(), Mockito.any(), Mockito.anyString());
+    }
+
+    @Test
+    void shouldDoNothingWhenThereAreNoPendingMessages() {
+        // Given
+        Mockito.when(outboxRepository.findPending(10)).thenReturn(List.of());
+
+        // When
+        outboxRelay.relay();
+
+        // Then
+        Mockito.verifyNoInteractions(messageQueueGateway);
+        Mockito.verify(outboxRepository, Mockito.never()).markPublished(Mockito.any());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import com.example.poll_system.application.usecases.poll.ActivePolls;
+import com.example.poll_system.application.usecases.poll.ClosePolls;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput;
+import com.example.poll_system.application.usecases.poll.dto.ActivePollsOutput.ActivatedPoll;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsInput;
+import com.example.poll_system.application.usecases.poll.dto.ClosePollsOutput;
+import com.example.poll_system.domain.gateways.PollRepository;
+import com.example.poll_system.domain.gateways.PollRepository.PollDeadline;
+
+class PollSchedulerTest {
+
+    @Mock
+    private ActivePolls activePolls;
+
+    @Mock
+    private ClosePolls closePolls;
+
+    @Mock
+    private PollRepository pollRepository;
+
+    @Mock
+    private SchedulerLeadership schedulerLeadership;
+
+    private PollDeadlineTimer pollDeadlineTimer;
+    private PollScheduler pollScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pollDeadlineTimer = new PollDeadlineTimer(Duration.ofMinutes(5));
+        pollScheduler = new PollScheduler(activePolls, pollRepository, closePolls, pollDeadlineTimer,
+                schedulerLeadership, 2);
+        Mockito.when(schedulerLeadership.isLeader()).thenReturn(true);
+        Mockito.when(activePolls.execute(Mockito.any())).thenReturn(new ActivePollsOutput(List.of()));
+        Mockito.when(closePolls.execute(Mockito.any())).thenReturn(new ClosePollsOutput(List.of()));
+    }
+
+    @Test
+    void shouldNeitherQueryNorRunDeadlinesWhenNotLeader() {
+        // Given
+        Mockito.when(schedulerLeadership.isLeader()).thenReturn(false);
+        pollDeadlineTimer.scheduleClosing("poll-1", LocalDateTime.now().minusMinutes(1));
+
+        // When
+        pollScheduler.reload();
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verifyNoInteractions(pollRepository, closePolls, activePolls);
+    }
+
+    @Test
+    void shouldReloadDeadlinesAsSoonAsLeadershipIsAcquired() {
+        // Given
+        Mockito.when(pollRepository.findOpenEndingUntil(Mockito.any()))
+                .thenReturn(List.of(new PollDeadline("poll-1", LocalDateTime.now().minusSeconds(5))));
+
+        // When
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(closePolls).execute(new ClosePollsInput(List.of("poll-1")));
+    }
+
+    @Test
+    void shouldOnlyQueryPollsDueWithinLookahead() {
+        // When
+        pollScheduler.reload();
+
+        // Then
+        Mockito.verify(pollRepository).findScheduledStartingUntil(Mockito.any(LocalDateTime.class));
+        Mockito.verify(pollRepository).findOpenEndingUntil(Mockito.any(LocalDateTime.class));
+        Mockito.verify(pollRepository, Mockito.never()).findByStatus(Mockito.any());
+    }
+
+    @Test
+    void shouldCloseOverduePollOnNextTickAndScheduleOnlyOnce() {
+        // Given
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        Mockito.when(pollRepository.findOpenEndingUntil(Mockito.any()))
+                .thenReturn(List.of(new PollDeadline("poll-1", overdue)));
+        pollScheduler.reload();
+        pollScheduler.reload();
+
+        // When
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(closePolls, Mockito.times(1)).execute(new ClosePollsInput(List.of("poll-1")));
+    }
+
+    @Test
+    void shouldNotRunDeadlinesThatAreStillInTheFuture() {
+        // Given
+        Mockito.when(pollRepository.findScheduledStartingUntil(Mockito.any()))
+                .thenReturn(List.of(new PollDeadline("poll-1", LocalDateTime.now().plusMinutes(2))));
+        pollScheduler.reload();
+
+        // When
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(activePolls, Mockito.never()).execute(Mockito.any());
+        Mockito.verify(closePolls, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    void shouldScheduleClosingOnlyForActivatedPolls() {
+        // Given
+        LocalDateTime endDate = LocalDateTime.now().minusSeconds(1);
+        pollDeadlineTimer.scheduleOpening("poll-1", LocalDateTime.now().minusSeconds(5));
+        pollDeadlineTimer.scheduleOpening("poll-2", LocalDateTime.now().minusSeconds(5));
+        Mockito.when(activePolls.execute(new ActivePollsInput(List.of("poll-1", "poll-2"))))
+                .thenReturn(new ActivePollsOutput(List.of(new ActivatedPoll("poll-1", endDate))));
+
+        // When
+        pollScheduler.tick();
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(activePolls).execute(new ActivePollsInput(List.of("poll-1", "poll-2")));
+        Mockito.verify(closePolls).execute(new ClosePollsInput(List.of("poll-1")));
+    }
+
+    @Test
+    void shouldSplitDueTransitionsIntoBatches() {
+        // Given
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        pollDeadlineTimer.scheduleClosing("poll-1", overdue);
+        pollDeadlineTimer.scheduleClosing("poll-2", overdue);
+        pollDeadlineTimer.scheduleClosing("poll-3", overdue);
+
+        // When
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(closePolls).execute(new ClosePollsInput(List.of("poll-1", "poll-2")));
+        Mockito.verify(closePolls).execute(new ClosePollsInput(List.of("poll-3")));
+    }
+
+    @Test
+    void shouldKeepProcessingNextBatchWhenOneFails() {
+        // Given
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        pollDeadlineTimer.scheduleClosing("poll-1", overdue);
+        pollDeadlineTimer.scheduleClosing("poll-2", overdue);
+        pollDeadlineTimer.scheduleClosing("poll-3", overdue);
+        Mockito.when(closePolls.execute(new ClosePollsInput(List.of("poll-1", "poll-2"))))
+                .thenThrow(new RuntimeException("Database unavailable"));
+
+        // When
+        pollScheduler.tick();
+
+        // Then
+        Mockito.verify(closePolls).execute(new ClosePollsInput(List.of("poll-3")));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.poll_system.infrastructure.services.schedulers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.poll_system.domain.gateways.SchedulerLeaseGateway;
+import com.example.poll_system.infrastructure.services.impl.InMemorySchedulerLeaseGateway;
+
+class SchedulerLeadershipTest {
+
+    private InMemorySchedulerLeaseGateway leaseGateway;
+    private SchedulerLeadership firstNode;
+    private SchedulerLeadership secondNode;
+
+    @BeforeEach
+    void setUp() {
+        leaseGateway = new InMemorySchedulerLeaseGateway();
+        firstNode = node(leaseGateway, Duration.ofSeconds(15));
+        secondNode = node(leaseGateway, Duration.ofSeconds(15));
+    }
+
+    private SchedulerLeadership node(SchedulerLeaseGateway gateway, Duration leaseTtl) {
+        SchedulerLeadership leadership = new SchedulerLeadership(gateway);
+        ReflectionTestUtils.setField(leadership, "leaseName", "schedulers");
+        ReflectionTestUtils.setField(leadership, "leaseTtl", leaseTtl);
+        return leadership;
+    }
+
+    @Test
+    void shouldElectOnlyOneLeader() {
+        // When
+        firstNode.renew();
+        secondNode.renew();
+        firstNode.renew();
+
+        // Then
+        assertTrue(firstNode.isLeader());
+        assertFalse(secondNode.isLeader());
+    }
+
+    @Test
+    void shouldHandOverLeadershipWhenLeaderReleasesLease() {
+        // Given
+        firstNode.renew();
+
+        // When
+        firstNode.release();
+        secondNode.renew();
+
+        // Then
+        assertFalse(firstNode.isLeader());
+        assertTrue(secondNode.isLeader());
+    }
+
+    @Test
+    void shouldHandOverLeadershipWhenLeaseExpires() throws InterruptedException {
+        // Given
+        SchedulerLeadership shortLeaseNode = node(leaseGateway, Duration.ofMillis(50));
+        shortLeaseNode.renew();
+
+        // When
+        Thread.sleep(100);
+        secondNode.renew();
+
+        // Then
+        assertFalse(shortLeaseNode.isLeader());
+        assertTrue(secondNode.isLeader());
+    }
+
+    @Test
+    void shouldStepDownWhenRenewalKeepsFailing() throws InterruptedException {
+        // Given
+        SchedulerLeaseGateway failingGateway = Mockito.mock(SchedulerLeaseGateway.class);
+        Mockito.when(failingGateway.tryAcquire(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+                .thenReturn(true)
+                .thenThrow(new IllegalStateException("redis unavailable"));
+        SchedulerLeadership node = node(failingGateway, Duration.ofMillis(50));
+        node.renew();
+        assertTrue(node.isLeader());
+
+        // When
+        Thread.sleep(100);
+        node.renew();
+
+        // Then
+        assertFalse(node.isLeader());
+    }
+}